@@ -1,11 +1,19 @@
 package com.example.ibanvalidator;
 
+import com.example.ibanvalidator.cli.ValidateCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Arrays;
 
 @SpringBootApplication
+@EnableScheduling
 public class IbanValidatorApplication {
     public static void main(String[] args) {
+        if (args.length > 0 && ValidateCommand.NAME.equals(args[0])) {
+            System.exit(ValidateCommand.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
         SpringApplication.run(IbanValidatorApplication.class, args);
     }
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.example.ibanvalidator.cli;
+
+import com.example.ibanvalidator.service.BatchLineValidator;
+import com.example.ibanvalidator.service.DirectorySnapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class MappedFileValidator {
+
+    public record Summary(long lines, long validated, long valid, long segmentDistinct, int segments) {
+
+        public long invalid() {
+            return validated - valid;
+        }
+
+        public long segmentDuplicates() {
+            return validated - segmentDistinct;
+        }
+    }
+
+    private record Segment(long start, long end) {
+    }
+
+    private record SegmentResult(byte[] output, long validated, long valid, long distinct) {
+    }
+
+    private static final int BOUNDARY_SCAN_SIZE = 8192;
+    private static final int MAX_FIELD_LENGTH = 256;
+
+    private final BatchLineValidator lineValidator;
+    private final DirectorySnapshot directory;
+    private final int threads;
+    private final int segmentSize;
+
+    public MappedFileValidator(BatchLineValidator lineValidator, DirectorySnapshot directory, int threads, int segmentSize) {
+        if (threads < 1 || segmentSize < 1) {
+            throw new IllegalArgumentException("Threads und Segmentgröße müssen positiv sein");
+        }
+        this.lineValidator = lineValidator;
+        this.directory = directory;
+        this.threads = threads;
+        this.segmentSize = segmentSize;
+    }
+
+    public Summary validate(Path input, Path output) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+             OutputStream out = Files.newOutputStream(output)) {
+            List<Segment> segments = split(channel);
+            long[] firstLines = countLines(pool, channel, segments);
+
+            out.write((BatchLineValidator.HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+            Deque<ForkJoinTask<SegmentResult>> window = new ArrayDeque<>();
+            int next = 0;
+            long validated = 0;
+            long valid = 0;
+            long segmentDistinct = 0;
+            while (next < segments.size() || !window.isEmpty()) {
+                while (next < segments.size() && window.size() < threads * 2) {
+                    Segment segment = segments.get(next);
+                    long firstLine = firstLines[next++];
+                    window.add(pool.submit(() -> validateSegment(channel, segment, firstLine)));
+                }
+                SegmentResult result = window.poll().join();
+                out.write(result.output());
+                validated += result.validated();
+                valid += result.valid();
+                segmentDistinct += result.distinct();
+            }
+            return new Summary(firstLines[segments.size()] - 1, validated, valid, segmentDistinct, segments.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<Segment> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Segment> segments = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(start + segmentSize, size);
+            while (end < size) {
+                scan.clear();
+                int read = channel.read(scan, end - 1);
+                int newline = indexOf(scan, read);
+                if (newline >= 0) {
+                    end += newline;
+                    break;
+                }
+                end += read;
+            }
+            segments.add(new Segment(start, Math.min(end, size)));
+            start = end;
+        }
+        return segments;
+    }
+
+    private long[] countLines(ForkJoinPool pool, FileChannel channel, List<Segment> segments) {
+        List<ForkJoinTask<Long>> counts = new ArrayList<>(segments.size());
+        for (Segment segment : segments) {
+            counts.add(pool.submit(() -> countLines(map(channel, segment))));
+        }
+        long[] firstLines = new long[segments.size() + 1];
+        firstLines[0] = 1;
+        for (int i = 0; i < counts.size(); i++) {
+            firstLines[i + 1] = firstLines[i] + counts.get(i).join();
+        }
+        return firstLines;
+    }
+
+    private SegmentResult validateSegment(FileChannel channel, Segment segment, long firstLine) {
+        MappedByteBuffer buffer = map(channel, segment);
+        int limit = buffer.limit();
+        StringBuilder output = new StringBuilder(limit * 2);
+        byte[] field = new byte[MAX_FIELD_LENGTH];
+        BatchLineValidator.Batch batch = lineValidator.batch(directory);
+        long lineNumber = firstLine;
+        long valid = 0;
+
+        int position = segment.start() == 0 ? skipBom(buffer) : 0;
+        while (position < limit) {
+            int lineEnd = position;
+            int fieldEnd = -1;
+            while (lineEnd < limit) {
+                byte b = buffer.get(lineEnd);
+                if (b == '\n') {
+                    break;
+                }
+                if (fieldEnd < 0 && (b == ';' || b == ',' || b == '\t')) {
+                    fieldEnd = lineEnd;
+                }
+                lineEnd++;
+            }
+
+            int from = position;
+            int to = fieldEnd >= 0 ? fieldEnd : lineEnd;
+            while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+                from++;
+            }
+            while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+                to--;
+            }
+            if (to - from >= 2 && buffer.get(from) == '"' && buffer.get(to - 1) == '"') {
+                from++;
+                to--;
+                while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+                    from++;
+                }
+                while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+                    to--;
+                }
+            }
+
+            if (to > from) {
+                if (to - from > field.length) {
+                    field = new byte[to - from];
+                }
+                buffer.get(from, field, 0, to - from);
+                String iban = new String(field, 0, to - from, StandardCharsets.UTF_8);
+                if (lineNumber != 1 || !iban.equalsIgnoreCase("iban")) {
+                    if (batch.validateLine(output, lineNumber, iban)) {
+                        valid++;
+                    }
+                }
+            }
+            lineNumber++;
+            position = lineEnd + 1;
+        }
+        return new SegmentResult(output.toString().getBytes(StandardCharsets.UTF_8), batch.ibans(), valid,
+                batch.distinct());
+    }
+
+    private static long countLines(MappedByteBuffer buffer) {
+        int limit = buffer.limit();
+        long lines = 0;
+        for (int i = 0; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                lines++;
+            }
+        }
+        return limit > 0 && buffer.get(limit - 1) != '\n' ? lines + 1 : lines;
+    }
+
+    private static int skipBom(MappedByteBuffer buffer) {
+        return buffer.limit() >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB
+                && buffer.get(2) == (byte) 0xBF ? 3 : 0;
+    }
+
+    private static int indexOf(ByteBuffer scan, int read) {
+        for (int i = 0; i < read; i++) {
+            if (scan.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, Segment segment) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, segment.start(), segment.end() - segment.start());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
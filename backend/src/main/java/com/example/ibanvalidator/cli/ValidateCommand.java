@@ -0,0 +1,122 @@
+package com.example.ibanvalidator.cli;
+
+import com.example.ibanvalidator.service.BatchLineValidator;
+import com.example.ibanvalidator.service.BlocklistService;
+import com.example.ibanvalidator.service.DirectoryFileParser;
+import com.example.ibanvalidator.service.DirectorySnapshot;
+import com.example.ibanvalidator.service.IbanService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+public final class ValidateCommand {
+
+    public static final String NAME = "validate";
+
+    private static final Logger log = LoggerFactory.getLogger(ValidateCommand.class);
+
+    private static final Set<String> OPTIONS = Set.of("in", "out", "directory", "blocklist", "threads",
+            "segment-size");
+    private static final int DEFAULT_SEGMENT_SIZE = 4 << 20;
+    private static final int MAX_SEGMENT_SIZE = 256 << 20;
+    private static final String USAGE = "Aufruf: java -jar iban-validator.jar validate --in <datei> --out <datei>"
+            + " [--directory <verzeichnisdatei>] [--blocklist <sperrliste>] [--threads <anzahl>]"
+            + " [--segment-size <bytes>]";
+
+    private ValidateCommand() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static int run(String... args) {
+        configureLogging();
+
+        Map<String, String> options = parseOptions(args);
+        if (options == null || !options.containsKey("in") || !options.containsKey("out")) {
+            log.error(USAGE);
+            return 2;
+        }
+
+        int threads;
+        int segmentSize;
+        try {
+            threads = Integer.parseInt(options.getOrDefault("threads",
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+            segmentSize = Integer.parseInt(options.getOrDefault("segment-size", String.valueOf(DEFAULT_SEGMENT_SIZE)));
+        } catch (NumberFormatException e) {
+            log.error("Ungültige Zahl: {}", e.getMessage());
+            return 2;
+        }
+        if (threads < 1 || segmentSize < 1 || segmentSize > MAX_SEGMENT_SIZE) {
+            log.error("Threads müssen positiv sein, Segmentgröße zwischen 1 und {} Bytes liegen", MAX_SEGMENT_SIZE);
+            return 2;
+        }
+
+        Path input = Path.of(options.get("in"));
+        Path output = Path.of(options.get("out"));
+        try {
+            DirectorySnapshot directory = options.containsKey("directory")
+                    ? loadDirectory(Path.of(options.get("directory")))
+                    : null;
+            BlocklistService blocklist = options.containsKey("blocklist")
+                    ? loadBlocklist(options.get("blocklist"))
+                    : null;
+            MappedFileValidator validator = new MappedFileValidator(
+                    new BatchLineValidator(new IbanService(null, blocklist, null, null)), directory, threads, segmentSize);
+
+            long started = System.nanoTime();
+            MappedFileValidator.Summary summary = validator.validate(input, output);
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            log.info("{} validiert: {} Zeilen, {} IBANs ({} Duplikate innerhalb der Segmente), {} gültig, {} ungültig in {} ms"
+                            + " ({} Threads, {} Segmente) -> {}",
+                    input, summary.lines(), summary.validated(), summary.segmentDuplicates(), summary.valid(),
+                    summary.invalid(), millis, threads, summary.segments(), output);
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            log.error("Validierung von {} fehlgeschlagen: {}", input, e.getMessage());
+            return 1;
+        }
+    }
+
+    private static DirectorySnapshot loadDirectory(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            DirectorySnapshot snapshot = DirectorySnapshot.of(file.getFileName().toString(), null,
+                    DirectoryFileParser.parse(in));
+            log.info("Bankverzeichnis aus {} geladen: {} Banken", file, snapshot.size());
+            return snapshot;
+        }
+    }
+
+    private static BlocklistService loadBlocklist(String file) {
+        BlocklistService blocklist = new BlocklistService(new SimpleMeterRegistry(), file, "");
+        log.info("Sperrliste aus {} geladen: {} Einträge", file, blocklist.reload().getEntries());
+        return blocklist;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : null;
+            if (name == null || !OPTIONS.contains(name) || i + 1 >= args.length) {
+                return null;
+            }
+            options.put(name, args[i + 1]);
+        }
+        return options;
+    }
+
+    private static void configureLogging() {
+        LoggingSystem loggingSystem = LoggingSystem.get(ValidateCommand.class.getClassLoader());
+        loggingSystem.setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+        loggingSystem.setLogLevel(ValidateCommand.class.getName(), LogLevel.INFO);
+    }
+}
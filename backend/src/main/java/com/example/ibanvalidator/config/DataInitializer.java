@@ -2,6 +2,7 @@ package com.example.ibanvalidator.config;
 
 import com.example.ibanvalidator.model.Bank;
 import com.example.ibanvalidator.repository.BankRepository;
+import com.example.ibanvalidator.service.BankDirectory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -12,12 +13,16 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private BankRepository bankRepository;
 
+    @Autowired
+    private BankDirectory bankDirectory;
+
     @Override
     public void run(String... args) throws Exception {
         if (bankRepository.count() == 0) {
             initializeGermanBanks();
             initializeUKBanks();
             initializeFrenchBanks();
+            bankDirectory.reload();
         }
     }
 
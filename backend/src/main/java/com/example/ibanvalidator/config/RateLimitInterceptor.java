@@ -0,0 +1,204 @@
+package com.example.ibanvalidator.config;
+
+import com.example.ibanvalidator.exception.RateLimitExceededException;
+import com.example.ibanvalidator.service.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public enum EndpointClass {
+        SINGLE, BATCH, BANKS;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitInterceptor.class);
+
+    private static final String API_PREFIX = "/api/v1";
+    private static final Set<String> SINGLE_PATTERNS = Set.of(
+            API_PREFIX + "/iban/validate", API_PREFIX + "/iban/validate/incremental", API_PREFIX + "/iban/suggest",
+            API_PREFIX + "/iban/generate", API_PREFIX + "/bic/validate", API_PREFIX + "/iban-bic/validate");
+    private static final Set<String> BATCH_PREFIXES = Set.of(
+            API_PREFIX + "/banks/bulk", API_PREFIX + "/banks/lookup", API_PREFIX + "/sepa");
+    private static final String BANKS_PREFIX = API_PREFIX + "/banks";
+    private static final String JOBS_PATTERN = API_PREFIX + "/jobs";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final boolean enabled;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final Set<String> trustedProxies;
+    private final Map<EndpointClass, RateLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> allowed = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejected = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitInterceptor(ObjectProvider<MeterRegistry> meterRegistry,
+                                @Value("${iban.rate-limit.enabled:true}") boolean enabled,
+                                @Value("${iban.rate-limit.api-key-header:X-API-Key}") String apiKeyHeader,
+                                @Value("${iban.rate-limit.api-keys:}") List<String> apiKeys,
+                                @Value("${iban.rate-limit.trusted-proxies:}") List<String> trustedProxies,
+                                @Value("${iban.rate-limit.max-clients:10000}") int maxClients,
+                                @Value("${iban.rate-limit.single.capacity:200}") int singleCapacity,
+                                @Value("${iban.rate-limit.single.refill-per-second:100}") double singleRefill,
+                                @Value("${iban.rate-limit.batch.capacity:10}") int batchCapacity,
+                                @Value("${iban.rate-limit.batch.refill-per-second:1}") double batchRefill,
+                                @Value("${iban.rate-limit.banks.capacity:50}") int banksCapacity,
+                                @Value("${iban.rate-limit.banks.refill-per-second:20}") double banksRefill) {
+        this.enabled = enabled;
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = normalize(apiKeys);
+        this.trustedProxies = normalize(trustedProxies);
+        limiters.put(EndpointClass.SINGLE, new RateLimiter(singleCapacity, singleRefill, maxClients));
+        limiters.put(EndpointClass.BATCH, new RateLimiter(batchCapacity, batchRefill, maxClients));
+        limiters.put(EndpointClass.BANKS, new RateLimiter(banksCapacity, banksRefill, maxClients));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            allowed.put(endpointClass, Counter.builder("iban.rate-limit.requests")
+                    .tag("class", endpointClass.tag()).tag("result", "allowed")
+                    .description("Vom Ratenlimit geprüfte Anfragen").register(registry));
+            rejected.put(endpointClass, Counter.builder("iban.rate-limit.requests")
+                    .tag("class", endpointClass.tag()).tag("result", "rejected")
+                    .description("Vom Ratenlimit geprüfte Anfragen").register(registry));
+            Gauge.builder("iban.rate-limit.clients", limiters.get(endpointClass), RateLimiter::size)
+                    .tag("class", endpointClass.tag())
+                    .description("Clients mit eigenem Token-Bucket").register(registry);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        EndpointClass endpointClass = classify(request.getMethod(), pattern != null ? pattern.toString() : null);
+        if (endpointClass == null) {
+            return true;
+        }
+
+        RateLimiter limiter = limiters.get(endpointClass);
+        long waitNanos = limiter.tryAcquire(clientKey(request));
+        if (waitNanos <= 0) {
+            increment(allowed, endpointClass);
+            return true;
+        }
+
+        increment(rejected, endpointClass);
+        long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        throw new RateLimitExceededException(
+                "Anfragelimit überschritten, erneut versuchen in " + retryAfter + " s", retryAfter);
+    }
+
+    @Scheduled(fixedDelayString = "${iban.rate-limit.eviction-interval:PT1M}")
+    public void evictIdle() {
+        for (Map.Entry<EndpointClass, RateLimiter> entry : limiters.entrySet()) {
+            int evicted = entry.getValue().evictIdle();
+            if (evicted > 0) {
+                log.debug("Ratenlimit {}: {} inaktive Clients entfernt", entry.getKey().tag(), evicted);
+            }
+            if (entry.getValue().isSaturated()) {
+                log.warn("Ratenlimit {}: Obergrenze aktiver Clients erreicht, neue Clients teilen sich ein Kontingent",
+                        entry.getKey().tag());
+            }
+        }
+    }
+
+    public static EndpointClass classify(String method, String pattern) {
+        if (pattern == null || !pattern.startsWith(API_PREFIX)) {
+            return null;
+        }
+        if (SINGLE_PATTERNS.contains(pattern)) {
+            return EndpointClass.SINGLE;
+        }
+        if (pattern.endsWith("/batch") || pattern.endsWith("/file")
+                || (JOBS_PATTERN.equals(pattern) && "POST".equals(method))) {
+            return EndpointClass.BATCH;
+        }
+        for (String prefix : BATCH_PREFIXES) {
+            if (pattern.startsWith(prefix)) {
+                return EndpointClass.BATCH;
+            }
+        }
+        if (pattern.equals(BANKS_PREFIX) || pattern.startsWith(BANKS_PREFIX + "/")) {
+            return EndpointClass.BANKS;
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (apiKey != null && apiKeys.contains(apiKey.trim())) {
+            return "key:" + apiKey.trim();
+        }
+        return "ip:" + clientAddress(request);
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!trustedProxies.contains(address)) {
+            return address;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null) {
+            return address;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            address = hop;
+            if (!trustedProxies.contains(hop)) {
+                break;
+            }
+        }
+        return address;
+    }
+
+    private static Set<String> normalize(List<String> values) {
+        Set<String> normalized = new HashSet<>();
+        if (values != null) {
+            for (String value : values) {
+                if (value != null && !value.isBlank()) {
+                    normalized.add(value.trim());
+                }
+            }
+        }
+        return Set.copyOf(normalized);
+    }
+
+    private static void increment(Map<EndpointClass, Counter> counters, EndpointClass endpointClass) {
+        Counter counter = counters.get(endpointClass);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -9,9 +9,11 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
-    public WebConfig(LoggingInterceptor loggingInterceptor) {
+    public WebConfig(LoggingInterceptor loggingInterceptor, RateLimitInterceptor rateLimitInterceptor) {
         this.loggingInterceptor = loggingInterceptor;
+        this.rateLimitInterceptor = rateLimitInterceptor;
     }
 
     @Override
@@ -23,12 +25,15 @@ public class WebConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "Retry-After")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/api/**");
         registry.addInterceptor(loggingInterceptor)
                 .addPathPatterns("/api/**");
     }
@@ -16,4 +16,9 @@ public final class ValidationConstants {
     public static final int BANK_CODE_MAX_LENGTH = 20;
 
     public static final int COUNTRY_CODE_LENGTH = 2;
+
+    public static final String CHECK_DIGIT_METHOD_REGEX = "^[0-9A-E][0-9]$";
+
+    public static final int BULK_MAX_ITEMS = 10000;
+    public static final int LOOKUP_MAX_KEYS = 1000;
 }
@@ -0,0 +1,57 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.constants.ValidationConstants;
+import com.example.ibanvalidator.dto.BankBulkResponse;
+import com.example.ibanvalidator.dto.BankBulkUpdateRequest;
+import com.example.ibanvalidator.dto.BankRequest;
+import com.example.ibanvalidator.service.BankBulkService;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/banks/bulk")
+@Validated
+public class BankBulkController {
+
+    private static final Logger log = LoggerFactory.getLogger(BankBulkController.class);
+
+    private final BankBulkService bankBulkService;
+
+    public BankBulkController(BankBulkService bankBulkService) {
+        this.bankBulkService = bankBulkService;
+    }
+
+    @PostMapping
+    public ResponseEntity<BankBulkResponse> createBanks(
+            @RequestBody @NotEmpty @Size(max = ValidationConstants.BULK_MAX_ITEMS) List<BankRequest> requests) {
+
+        BankBulkResponse response = bankBulkService.createBanks(requests);
+        log.info("Bulk-Erstellung: {} von {} Banken erstellt", response.getSucceeded(), response.getTotal());
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping
+    public ResponseEntity<BankBulkResponse> updateBanks(
+            @RequestBody @NotEmpty @Size(max = ValidationConstants.BULK_MAX_ITEMS) List<BankBulkUpdateRequest> requests) {
+
+        BankBulkResponse response = bankBulkService.updateBanks(requests);
+        log.info("Bulk-Aktualisierung: {} von {} Banken aktualisiert", response.getSucceeded(), response.getTotal());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<BankBulkResponse> deleteBanks(
+            @RequestBody @NotEmpty @Size(max = ValidationConstants.BULK_MAX_ITEMS) List<Long> ids) {
+
+        BankBulkResponse response = bankBulkService.deleteBanks(ids);
+        log.info("Bulk-Löschung: {} von {} Banken gelöscht", response.getSucceeded(), response.getTotal());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.constants.ValidationConstants;
+import com.example.ibanvalidator.dto.BankLookupRequest;
+import com.example.ibanvalidator.dto.BankLookupRequest.BankCodeKey;
+import com.example.ibanvalidator.dto.BankLookupResponse;
+import com.example.ibanvalidator.service.BankLookupService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/banks/lookup")
+@Validated
+public class BankLookupController {
+
+    private final BankLookupService bankLookupService;
+
+    public BankLookupController(BankLookupService bankLookupService) {
+        this.bankLookupService = bankLookupService;
+    }
+
+    @GetMapping
+    public ResponseEntity<BankLookupResponse> lookupBanks(
+            @RequestParam(required = false, defaultValue = "") @Size(max = ValidationConstants.LOOKUP_MAX_KEYS) List<Long> ids,
+            @RequestParam(required = false, defaultValue = "") @Size(max = ValidationConstants.LOOKUP_MAX_KEYS) List<String> bics,
+            @RequestParam(required = false, defaultValue = "") @Size(max = ValidationConstants.LOOKUP_MAX_KEYS) List<String> bankCodes) {
+
+        BankLookupRequest request = new BankLookupRequest(ids, bics,
+                bankCodes.stream().map(BankCodeKey::parse).toList());
+        return ResponseEntity.ok(bankLookupService.lookup(request));
+    }
+
+    @PostMapping
+    public ResponseEntity<BankLookupResponse> lookupBanks(@Valid @RequestBody BankLookupRequest request) {
+        return ResponseEntity.ok(bankLookupService.lookup(request));
+    }
+}
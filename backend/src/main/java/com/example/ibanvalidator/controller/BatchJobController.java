@@ -0,0 +1,73 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.BatchJobResponse;
+import com.example.ibanvalidator.service.BatchJobService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/jobs")
+public class BatchJobController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final BatchJobService batchJobService;
+
+    public BatchJobController(BatchJobService batchJobService) {
+        this.batchJobService = batchJobService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BatchJobResponse> uploadFile(@RequestParam("file") MultipartFile file) throws IOException {
+        String filename = file.getOriginalFilename();
+        try (InputStream input = file.getInputStream()) {
+            BatchJobResponse job = filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".xml")
+                    ? batchJobService.submitSepa(input)
+                    : batchJobService.submit(input);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        }
+    }
+
+    @PostMapping(consumes = {TEXT_CSV, MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<BatchJobResponse> upload(InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(batchJobService.submit(body));
+    }
+
+    @PostMapping(consumes = {MediaType.APPLICATION_XML_VALUE, MediaType.TEXT_XML_VALUE})
+    public ResponseEntity<BatchJobResponse> uploadSepa(InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(batchJobService.submitSepa(body));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BatchJobResponse> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(batchJobService.getJob(id));
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable String id) {
+        return batchJobService.subscribe(id);
+    }
+
+    @GetMapping(value = "/{id}/result", produces = TEXT_CSV)
+    public void downloadResult(@PathVariable String id, HttpServletResponse response) throws IOException {
+        batchJobService.getJob(id);
+        response.setContentType(TEXT_CSV + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + id + ".csv\"");
+        batchJobService.writeResult(id, response.getOutputStream());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<BatchJobResponse> cancel(@PathVariable String id) {
+        return ResponseEntity.ok(batchJobService.cancel(id));
+    }
+}
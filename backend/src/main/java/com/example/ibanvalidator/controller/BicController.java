@@ -0,0 +1,40 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.BicBatchValidationRequest;
+import com.example.ibanvalidator.dto.BicBatchValidationResponse;
+import com.example.ibanvalidator.dto.BicValidationRequest;
+import com.example.ibanvalidator.dto.BicValidationResponse;
+import com.example.ibanvalidator.service.BicValidationService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/bic")
+public class BicController {
+
+    private static final Logger log = LoggerFactory.getLogger(BicController.class);
+
+    private final BicValidationService bicValidationService;
+
+    public BicController(BicValidationService bicValidationService) {
+        this.bicValidationService = bicValidationService;
+    }
+
+    @PostMapping("/validate")
+    public ResponseEntity<BicValidationResponse> validateBic(@Valid @RequestBody BicValidationRequest request) {
+        BicValidationResponse response = bicValidationService.validateBic(request.getBic());
+        log.info("BIC-Validierung abgeschlossen: BIC={}, gültig={}, bekannt={}",
+                response.getBic(), response.isValid(), response.isExists());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/validate/batch")
+    public ResponseEntity<BicBatchValidationResponse> validateBics(@Valid @RequestBody BicBatchValidationRequest request) {
+        BicBatchValidationResponse response = bicValidationService.validateBics(request.getBics());
+        log.info("Batch-BIC-Validierung abgeschlossen: {} BICs, {} gültig", response.getTotal(), response.getValid());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.BlocklistStatus;
+import com.example.ibanvalidator.service.BlocklistService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/blocklist")
+public class BlocklistController {
+
+    private static final Logger log = LoggerFactory.getLogger(BlocklistController.class);
+
+    private final BlocklistService blocklistService;
+
+    public BlocklistController(BlocklistService blocklistService) {
+        this.blocklistService = blocklistService;
+    }
+
+    @GetMapping
+    public ResponseEntity<BlocklistStatus> getStatus() {
+        return ResponseEntity.ok(blocklistService.status());
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<BlocklistStatus> reload() {
+        log.info("Neuladen der Sperrliste angefordert");
+        return ResponseEntity.ok(blocklistService.reload());
+    }
+}
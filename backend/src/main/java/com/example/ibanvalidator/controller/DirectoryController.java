@@ -0,0 +1,80 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.DirectoryImportReport;
+import com.example.ibanvalidator.dto.DirectoryReleaseRequest;
+import com.example.ibanvalidator.dto.DirectoryReleaseResponse;
+import com.example.ibanvalidator.service.DirectoryImportService;
+import com.example.ibanvalidator.service.DirectoryReleaseService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/directory")
+public class DirectoryController {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectoryController.class);
+
+    private final DirectoryReleaseService directoryReleaseService;
+    private final DirectoryImportService directoryImportService;
+
+    public DirectoryController(DirectoryReleaseService directoryReleaseService,
+                               DirectoryImportService directoryImportService) {
+        this.directoryReleaseService = directoryReleaseService;
+        this.directoryImportService = directoryImportService;
+    }
+
+    @PostMapping("/releases")
+    public ResponseEntity<DirectoryReleaseResponse> stageRelease(
+            @Valid @RequestBody DirectoryReleaseRequest request) {
+
+        log.info("Vormerken von Verzeichnis-Release: Version={}, gültig ab {}", request.getVersion(), request.getValidFrom());
+        DirectoryReleaseResponse release = directoryReleaseService.stageRelease(request);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(release.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(release);
+    }
+
+    @GetMapping("/releases")
+    public ResponseEntity<List<DirectoryReleaseResponse>> getAllReleases() {
+        return ResponseEntity.ok(directoryReleaseService.getAllReleases());
+    }
+
+    @GetMapping("/releases/{id}")
+    public ResponseEntity<DirectoryReleaseResponse> getRelease(@PathVariable Long id) {
+        return ResponseEntity.ok(directoryReleaseService.getRelease(id));
+    }
+
+    @DeleteMapping("/releases/{id}")
+    public ResponseEntity<DirectoryReleaseResponse> cancelRelease(@PathVariable Long id) {
+        log.info("Stornieren von Verzeichnis-Release: ID={}", id);
+        return ResponseEntity.ok(directoryReleaseService.cancelRelease(id));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<DirectoryImportReport> importDirectory(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean dryRun) throws IOException {
+
+        log.info("Delta-Import angefordert: Datei={}, Größe={} Bytes, Probelauf={}",
+                file.getOriginalFilename(), file.getSize(), dryRun);
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(directoryImportService.importFile(input, dryRun));
+        }
+    }
+}
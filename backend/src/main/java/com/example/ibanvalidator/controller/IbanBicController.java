@@ -0,0 +1,38 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.IbanBicPairBatchRequest;
+import com.example.ibanvalidator.dto.IbanBicPairBatchResponse;
+import com.example.ibanvalidator.dto.IbanBicPairRequest;
+import com.example.ibanvalidator.dto.IbanBicPairResponse;
+import com.example.ibanvalidator.service.IbanBicPairService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/iban-bic")
+public class IbanBicController {
+
+    private static final Logger log = LoggerFactory.getLogger(IbanBicController.class);
+
+    private final IbanBicPairService ibanBicPairService;
+
+    public IbanBicController(IbanBicPairService ibanBicPairService) {
+        this.ibanBicPairService = ibanBicPairService;
+    }
+
+    @PostMapping("/validate")
+    public ResponseEntity<IbanBicPairResponse> validatePair(@Valid @RequestBody IbanBicPairRequest request) {
+        IbanBicPairResponse response = ibanBicPairService.validatePair(request);
+        log.info("IBAN/BIC-Paarvalidierung abgeschlossen: IBAN={}, BIC={}, Status={}",
+                response.getIban(), response.getBic(), response.getStatus());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/validate/batch")
+    public ResponseEntity<IbanBicPairBatchResponse> validatePairs(@Valid @RequestBody IbanBicPairBatchRequest request) {
+        return ResponseEntity.ok(ibanBicPairService.validatePairs(request));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.ibanvalidator.dto.BankRequest;
 import com.example.ibanvalidator.dto.BankResponse;
 import com.example.ibanvalidator.dto.IbanValidationRequest;
 import com.example.ibanvalidator.dto.IbanValidationResponse;
+import com.example.ibanvalidator.exception.BankNotFoundException;
 import com.example.ibanvalidator.service.BankService;
 import com.example.ibanvalidator.service.IbanService;
 import jakarta.validation.Valid;
@@ -57,6 +58,16 @@ public class IbanController {
         return ResponseEntity.ok(bank);
     }
 
+    @GetMapping("/banks/bic/{bic}")
+    public ResponseEntity<BankResponse> getBankByBic(@PathVariable String bic) {
+        log.debug("Abrufen von Bank mit BIC: {}", bic);
+        BankResponse bank = bankService.getBankByBic(bic)
+                .orElseThrow(() -> new BankNotFoundException(
+                        String.format("Bank mit BIC '%s' wurde nicht gefunden", bic)));
+        log.debug("Bank gefunden: {} (Treffer: {})", bank.getName(), bank.getBicMatch());
+        return ResponseEntity.ok(bank);
+    }
+
     @GetMapping("/banks/search")
     public ResponseEntity<List<BankResponse>> searchBanks(
             @RequestParam String name) {
@@ -0,0 +1,55 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.IbanGenerationBatchRequest;
+import com.example.ibanvalidator.dto.IbanGenerationBatchResponse;
+import com.example.ibanvalidator.dto.IbanGenerationRequest;
+import com.example.ibanvalidator.dto.IbanGenerationResponse;
+import com.example.ibanvalidator.service.IbanGenerationService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/iban/generate")
+public class IbanGenerationController {
+
+    private static final Logger log = LoggerFactory.getLogger(IbanGenerationController.class);
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final IbanGenerationService ibanGenerationService;
+
+    public IbanGenerationController(IbanGenerationService ibanGenerationService) {
+        this.ibanGenerationService = ibanGenerationService;
+    }
+
+    @PostMapping
+    public ResponseEntity<IbanGenerationResponse> generate(@Valid @RequestBody IbanGenerationRequest request) {
+        IbanGenerationResponse response = ibanGenerationService.generate(request);
+        log.info("IBAN-Erzeugung abgeschlossen: Land={}, Bankleitzahl={}, IBAN={}",
+                request.getCountryCode(), request.getBankCode(), response.getIban());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<IbanGenerationBatchResponse> generateBatch(@Valid @RequestBody IbanGenerationBatchRequest request) {
+        return ResponseEntity.ok(ibanGenerationService.generateBatch(request));
+    }
+
+    @PostMapping(value = "/file", consumes = TEXT_CSV, produces = TEXT_CSV)
+    public void convertFile(InputStream body,
+                            @RequestParam(defaultValue = "false") boolean validate,
+                            HttpServletResponse response) throws IOException {
+        log.info("IBAN-Konvertierung angefordert: Verzeichnisprüfung={}", validate);
+        response.setContentType(TEXT_CSV + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"ibans.csv\"");
+        ibanGenerationService.convert(body, response.getOutputStream(), validate);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.IbanSuggestionResponse;
+import com.example.ibanvalidator.dto.IbanValidationRequest;
+import com.example.ibanvalidator.service.IbanSuggestionService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/iban/suggest")
+public class IbanSuggestionController {
+
+    private static final Logger log = LoggerFactory.getLogger(IbanSuggestionController.class);
+
+    private final IbanSuggestionService ibanSuggestionService;
+
+    public IbanSuggestionController(IbanSuggestionService ibanSuggestionService) {
+        this.ibanSuggestionService = ibanSuggestionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<IbanSuggestionResponse> suggest(@Valid @RequestBody IbanValidationRequest request) {
+        IbanSuggestionResponse response = ibanSuggestionService.suggest(request);
+        log.info("IBAN-Korrekturvorschläge ermittelt: IBAN={}, gültig={}, Vorschläge={}",
+                request.getIban(), response.isValid(),
+                response.getSuggestions() != null ? response.getSuggestions().size() : 0);
+        return ResponseEntity.ok(response);
+    }
+}
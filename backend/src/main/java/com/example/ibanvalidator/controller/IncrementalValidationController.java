@@ -0,0 +1,24 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.IncrementalValidationRequest;
+import com.example.ibanvalidator.dto.IncrementalValidationResponse;
+import com.example.ibanvalidator.service.IncrementalValidationService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/iban/validate/incremental")
+public class IncrementalValidationController {
+
+    private final IncrementalValidationService incrementalValidationService;
+
+    public IncrementalValidationController(IncrementalValidationService incrementalValidationService) {
+        this.incrementalValidationService = incrementalValidationService;
+    }
+
+    @PostMapping
+    public ResponseEntity<IncrementalValidationResponse> validate(@Valid @RequestBody IncrementalValidationRequest request) {
+        return ResponseEntity.ok(incrementalValidationService.validate(request));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.SepaValidationReport;
+import com.example.ibanvalidator.service.SepaValidationService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/sepa")
+public class SepaController {
+
+    private final SepaValidationService sepaValidationService;
+
+    public SepaController(SepaValidationService sepaValidationService) {
+        this.sepaValidationService = sepaValidationService;
+    }
+
+    @PostMapping(value = "/validate", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<SepaValidationReport> validateFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(sepaValidationService.validate(input));
+        }
+    }
+
+    @PostMapping(value = "/validate", consumes = {MediaType.APPLICATION_XML_VALUE, MediaType.TEXT_XML_VALUE})
+    public ResponseEntity<SepaValidationReport> validate(InputStream body) {
+        return ResponseEntity.ok(sepaValidationService.validate(body));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.ibanvalidator.controller;
+
+import com.example.ibanvalidator.dto.ValidationRuleset;
+import com.example.ibanvalidator.service.ValidationRulesetService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/iban/rules")
+public class ValidationRulesetController {
+
+    private static final Duration CURRENT_MAX_AGE = Duration.ofHours(1);
+    private static final Duration VERSIONED_MAX_AGE = Duration.ofDays(365);
+
+    private final ValidationRulesetService validationRulesetService;
+
+    public ValidationRulesetController(ValidationRulesetService validationRulesetService) {
+        this.validationRulesetService = validationRulesetService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ValidationRuleset> getRuleset(WebRequest request) {
+        String etag = etag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.maxAge(CURRENT_MAX_AGE).cachePublic())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(CURRENT_MAX_AGE).cachePublic())
+                .body(validationRulesetService.getRuleset());
+    }
+
+    @GetMapping("/{version}")
+    public ResponseEntity<ValidationRuleset> getVersionedRuleset(@PathVariable String version) {
+        if (!validationRulesetService.getVersion().equals(version)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag())
+                .cacheControl(CacheControl.maxAge(VERSIONED_MAX_AGE).cachePublic().immutable())
+                .body(validationRulesetService.getRuleset());
+    }
+
+    private String etag() {
+        return "\"" + validationRulesetService.getVersion() + "\"";
+    }
+}
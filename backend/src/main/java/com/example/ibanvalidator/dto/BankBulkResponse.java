@@ -0,0 +1,92 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BankBulkResponse {
+
+    public enum ItemStatus {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT,
+        FAILED
+    }
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> items = new ArrayList<>();
+
+    public BankBulkResponse() {}
+
+    public void add(ItemResult item) {
+        items.add(item);
+        total++;
+        if (item.getStatus() == ItemStatus.CREATED
+                || item.getStatus() == ItemStatus.UPDATED
+                || item.getStatus() == ItemStatus.DELETED) {
+            succeeded++;
+        } else {
+            failed++;
+        }
+    }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<ItemResult> getItems() { return items; }
+    public void setItems(List<ItemResult> items) { this.items = items; }
+
+    public static class ItemResult {
+        private int index;
+        private ItemStatus status;
+        private Long id;
+        private String bic;
+        private String message;
+        private BankResponse bank;
+
+        public ItemResult(int index, ItemStatus status, Long id, String bic, String message, BankResponse bank) {
+            this.index = index;
+            this.status = status;
+            this.id = id;
+            this.bic = bic;
+            this.message = message;
+            this.bank = bank;
+        }
+
+        public static ItemResult success(int index, ItemStatus status, BankResponse bank) {
+            return new ItemResult(index, status, bank.getId(), bank.getBic(), null, bank);
+        }
+
+        public static ItemResult failure(int index, ItemStatus status, Long id, String bic, String message) {
+            return new ItemResult(index, status, id, bic, message, null);
+        }
+
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+
+        public ItemStatus getStatus() { return status; }
+        public void setStatus(ItemStatus status) { this.status = status; }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getBic() { return bic; }
+        public void setBic(String bic) { this.bic = bic; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+
+        public BankResponse getBank() { return bank; }
+        public void setBank(BankResponse bank) { this.bank = bank; }
+    }
+}
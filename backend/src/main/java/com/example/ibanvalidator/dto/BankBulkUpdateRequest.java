@@ -0,0 +1,24 @@
+package com.example.ibanvalidator.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public class BankBulkUpdateRequest extends BankRequest {
+
+    @NotNull(message = "ID ist erforderlich")
+    private Long id;
+
+    public BankBulkUpdateRequest() {}
+
+    public BankBulkUpdateRequest(Long id, String name, String bic, String bankCode, String countryCode) {
+        super(name, bic, bankCode, countryCode);
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.ibanvalidator.dto;
+
+import com.example.ibanvalidator.constants.ValidationConstants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BankLookupRequest {
+
+    @Size(max = ValidationConstants.LOOKUP_MAX_KEYS, message = "Maximal " + ValidationConstants.LOOKUP_MAX_KEYS + " IDs pro Anfrage")
+    private List<Long> ids = new ArrayList<>();
+
+    @Size(max = ValidationConstants.LOOKUP_MAX_KEYS, message = "Maximal " + ValidationConstants.LOOKUP_MAX_KEYS + " BICs pro Anfrage")
+    private List<String> bics = new ArrayList<>();
+
+    @Size(max = ValidationConstants.LOOKUP_MAX_KEYS, message = "Maximal " + ValidationConstants.LOOKUP_MAX_KEYS + " Bankleitzahlen pro Anfrage")
+    private List<@Valid BankCodeKey> bankCodes = new ArrayList<>();
+
+    public BankLookupRequest() {}
+
+    public BankLookupRequest(List<Long> ids, List<String> bics, List<BankCodeKey> bankCodes) {
+        this.ids = ids;
+        this.bics = bics;
+        this.bankCodes = bankCodes;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getBics() {
+        return bics;
+    }
+
+    public void setBics(List<String> bics) {
+        this.bics = bics;
+    }
+
+    public List<BankCodeKey> getBankCodes() {
+        return bankCodes;
+    }
+
+    public void setBankCodes(List<BankCodeKey> bankCodes) {
+        this.bankCodes = bankCodes;
+    }
+
+    public static class BankCodeKey {
+
+        @NotBlank(message = "Ländercode ist erforderlich")
+        private String countryCode;
+
+        @NotBlank(message = "Bankleitzahl ist erforderlich")
+        private String bankCode;
+
+        public BankCodeKey() {}
+
+        public BankCodeKey(String countryCode, String bankCode) {
+            this.countryCode = countryCode;
+            this.bankCode = bankCode;
+        }
+
+        public static BankCodeKey parse(String value) {
+            int separator = value.indexOf(':');
+            if (separator < 0) {
+                return new BankCodeKey(value.substring(0, Math.min(2, value.length())),
+                        value.length() > 2 ? value.substring(2) : "");
+            }
+            return new BankCodeKey(value.substring(0, separator), value.substring(separator + 1));
+        }
+
+        public String key() {
+            return countryCode + ":" + bankCode;
+        }
+
+        public String getCountryCode() {
+            return countryCode;
+        }
+
+        public void setCountryCode(String countryCode) {
+            this.countryCode = countryCode;
+        }
+
+        public String getBankCode() {
+            return bankCode;
+        }
+
+        public void setBankCode(String bankCode) {
+            this.bankCode = bankCode;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class BankLookupResponse {
+
+    private String directoryVersion;
+    private int requested;
+    private int found;
+    private Map<String, BankResponse> byId = new LinkedHashMap<>();
+    private Map<String, BankResponse> byBic = new LinkedHashMap<>();
+    private Map<String, BankResponse> byBankCode = new LinkedHashMap<>();
+
+    public BankLookupResponse() {}
+
+    public void countResult(BankResponse bank) {
+        requested++;
+        if (bank != null) {
+            found++;
+        }
+    }
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getFound() { return found; }
+    public void setFound(int found) { this.found = found; }
+
+    public Map<String, BankResponse> getById() { return byId; }
+    public void setById(Map<String, BankResponse> byId) { this.byId = byId; }
+
+    public Map<String, BankResponse> getByBic() { return byBic; }
+    public void setByBic(Map<String, BankResponse> byBic) { this.byBic = byBic; }
+
+    public Map<String, BankResponse> getByBankCode() { return byBankCode; }
+    public void setByBankCode(Map<String, BankResponse> byBankCode) { this.byBankCode = byBankCode; }
+}
@@ -2,6 +2,7 @@ package com.example.ibanvalidator.dto;
 
 import com.example.ibanvalidator.constants.ValidationConstants;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 public class BankRequest {
@@ -41,6 +42,12 @@ public class BankRequest {
     )
     private String countryCode;
 
+    @Pattern(
+        regexp = ValidationConstants.CHECK_DIGIT_METHOD_REGEX,
+        message = "Prüfzifferverfahren muss zweistellig sein (00-E9)"
+    )
+    private String checkDigitMethod;
+
     public BankRequest() {}
 
     public BankRequest(String name, String bic, String bankCode, String countryCode) {
@@ -81,4 +88,12 @@ public class BankRequest {
     public void setCountryCode(String countryCode) {
         this.countryCode = countryCode;
     }
+
+    public String getCheckDigitMethod() {
+        return checkDigitMethod;
+    }
+
+    public void setCheckDigitMethod(String checkDigitMethod) {
+        this.checkDigitMethod = checkDigitMethod;
+    }
 }
@@ -9,6 +9,8 @@ public class BankResponse {
     private String bic;
     private String bankCode;
     private String countryCode;
+    private String checkDigitMethod;
+    private String bicMatch;
 
     public BankResponse() {}
 
@@ -21,13 +23,15 @@ public class BankResponse {
     }
 
     public static BankResponse fromEntity(Bank bank) {
-        return new BankResponse(
+        BankResponse response = new BankResponse(
                 bank.getId(),
                 bank.getName(),
                 bank.getBic(),
                 bank.getBankCode(),
                 bank.getCountryCode()
         );
+        response.setCheckDigitMethod(bank.getCheckDigitMethod());
+        return response;
     }
 
     public Long getId() {
@@ -69,4 +73,20 @@ public class BankResponse {
     public void setCountryCode(String countryCode) {
         this.countryCode = countryCode;
     }
+
+    public String getCheckDigitMethod() {
+        return checkDigitMethod;
+    }
+
+    public void setCheckDigitMethod(String checkDigitMethod) {
+        this.checkDigitMethod = checkDigitMethod;
+    }
+
+    public String getBicMatch() {
+        return bicMatch;
+    }
+
+    public void setBicMatch(String bicMatch) {
+        this.bicMatch = bicMatch;
+    }
 }
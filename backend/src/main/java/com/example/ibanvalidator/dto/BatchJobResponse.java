@@ -0,0 +1,81 @@
+package com.example.ibanvalidator.dto;
+
+import com.example.ibanvalidator.model.BatchJob;
+
+import java.time.Instant;
+
+public class BatchJobResponse {
+
+    private String id;
+    private String status;
+    private String type;
+    private long total;
+    private long processed;
+    private long valid;
+    private long invalid;
+    private long chunkDuplicates;
+    private String directoryVersion;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String errorMessage;
+
+    public BatchJobResponse() {}
+
+    public static BatchJobResponse fromJob(BatchJob job) {
+        BatchJobResponse response = new BatchJobResponse();
+        response.setId(job.getId());
+        response.setStatus(job.getStatus().name());
+        response.setType(job.getType() != null ? job.getType().name() : BatchJob.Type.IBANS.name());
+        response.setTotal(job.getTotal());
+        response.setProcessed(job.getProcessed());
+        response.setValid(job.getValidCount());
+        response.setInvalid(job.getProcessed() - job.getValidCount());
+        response.setChunkDuplicates(job.getChunkDuplicateCount());
+        response.setDirectoryVersion(job.getDirectoryVersion());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setStartedAt(job.getStartedAt());
+        response.setFinishedAt(job.getFinishedAt());
+        response.setErrorMessage(job.getErrorMessage());
+        return response;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public long getProcessed() { return processed; }
+    public void setProcessed(long processed) { this.processed = processed; }
+
+    public long getValid() { return valid; }
+    public void setValid(long valid) { this.valid = valid; }
+
+    public long getInvalid() { return invalid; }
+    public void setInvalid(long invalid) { this.invalid = invalid; }
+
+    public long getChunkDuplicates() { return chunkDuplicates; }
+    public void setChunkDuplicates(long chunkDuplicates) { this.chunkDuplicates = chunkDuplicates; }
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+}
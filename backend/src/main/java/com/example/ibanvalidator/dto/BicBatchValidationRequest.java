@@ -0,0 +1,28 @@
+package com.example.ibanvalidator.dto;
+
+import com.example.ibanvalidator.constants.ValidationConstants;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BicBatchValidationRequest {
+
+    @NotEmpty(message = "Mindestens ein BIC ist erforderlich")
+    @Size(max = ValidationConstants.BULK_MAX_ITEMS, message = "Maximal " + ValidationConstants.BULK_MAX_ITEMS + " BICs pro Anfrage")
+    private List<String> bics;
+
+    public BicBatchValidationRequest() {}
+
+    public BicBatchValidationRequest(List<String> bics) {
+        this.bics = bics;
+    }
+
+    public List<String> getBics() {
+        return bics;
+    }
+
+    public void setBics(List<String> bics) {
+        this.bics = bics;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.List;
+
+public class BicBatchValidationResponse {
+
+    private String directoryVersion;
+    private int total;
+    private int valid;
+    private int invalid;
+    private int unknown;
+    private List<BicValidationResponse> results;
+
+    public BicBatchValidationResponse() {}
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getValid() { return valid; }
+    public void setValid(int valid) { this.valid = valid; }
+
+    public int getInvalid() { return invalid; }
+    public void setInvalid(int invalid) { this.invalid = invalid; }
+
+    public int getUnknown() { return unknown; }
+    public void setUnknown(int unknown) { this.unknown = unknown; }
+
+    public List<BicValidationResponse> getResults() { return results; }
+    public void setResults(List<BicValidationResponse> results) { this.results = results; }
+}
@@ -0,0 +1,23 @@
+package com.example.ibanvalidator.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class BicValidationRequest {
+
+    @NotBlank(message = "BIC ist erforderlich")
+    private String bic;
+
+    public BicValidationRequest() {}
+
+    public BicValidationRequest(String bic) {
+        this.bic = bic;
+    }
+
+    public String getBic() {
+        return bic;
+    }
+
+    public void setBic(String bic) {
+        this.bic = bic;
+    }
+}
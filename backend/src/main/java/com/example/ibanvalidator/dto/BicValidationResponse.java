@@ -0,0 +1,45 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.List;
+
+public class BicValidationResponse {
+
+    private String bic;
+    private boolean valid;
+    private boolean exists;
+    private String institutionCode;
+    private String countryCode;
+    private String locationCode;
+    private String branchCode;
+    private List<String> reasonCodes;
+    private BankResponse bank;
+
+    public BicValidationResponse() {}
+
+    public String getBic() { return bic; }
+    public void setBic(String bic) { this.bic = bic; }
+
+    public boolean isValid() { return valid; }
+    public void setValid(boolean valid) { this.valid = valid; }
+
+    public boolean isExists() { return exists; }
+    public void setExists(boolean exists) { this.exists = exists; }
+
+    public String getInstitutionCode() { return institutionCode; }
+    public void setInstitutionCode(String institutionCode) { this.institutionCode = institutionCode; }
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+    public String getLocationCode() { return locationCode; }
+    public void setLocationCode(String locationCode) { this.locationCode = locationCode; }
+
+    public String getBranchCode() { return branchCode; }
+    public void setBranchCode(String branchCode) { this.branchCode = branchCode; }
+
+    public List<String> getReasonCodes() { return reasonCodes; }
+    public void setReasonCodes(List<String> reasonCodes) { this.reasonCodes = reasonCodes; }
+
+    public BankResponse getBank() { return bank; }
+    public void setBank(BankResponse bank) { this.bank = bank; }
+}
@@ -0,0 +1,29 @@
+package com.example.ibanvalidator.dto;
+
+import java.time.Instant;
+
+public class BlocklistStatus {
+
+    private boolean enabled;
+    private String source;
+    private int entries;
+    private int rejected;
+    private Instant loadedAt;
+
+    public BlocklistStatus() {}
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+
+    public int getEntries() { return entries; }
+    public void setEntries(int entries) { this.entries = entries; }
+
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+
+    public Instant getLoadedAt() { return loadedAt; }
+    public void setLoadedAt(Instant loadedAt) { this.loadedAt = loadedAt; }
+}
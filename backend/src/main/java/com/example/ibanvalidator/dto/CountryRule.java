@@ -0,0 +1,39 @@
+package com.example.ibanvalidator.dto;
+
+public class CountryRule {
+
+    private String countryCode;
+    private int length;
+    private String bbanFormat;
+    private Integer bankCodeStart;
+    private Integer bankCodeEnd;
+    private Integer branchCodeEnd;
+    private Integer accountNumberStart;
+    private String nationalCheck;
+
+    public CountryRule() {}
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+    public int getLength() { return length; }
+    public void setLength(int length) { this.length = length; }
+
+    public String getBbanFormat() { return bbanFormat; }
+    public void setBbanFormat(String bbanFormat) { this.bbanFormat = bbanFormat; }
+
+    public Integer getBankCodeStart() { return bankCodeStart; }
+    public void setBankCodeStart(Integer bankCodeStart) { this.bankCodeStart = bankCodeStart; }
+
+    public Integer getBankCodeEnd() { return bankCodeEnd; }
+    public void setBankCodeEnd(Integer bankCodeEnd) { this.bankCodeEnd = bankCodeEnd; }
+
+    public Integer getBranchCodeEnd() { return branchCodeEnd; }
+    public void setBranchCodeEnd(Integer branchCodeEnd) { this.branchCodeEnd = branchCodeEnd; }
+
+    public Integer getAccountNumberStart() { return accountNumberStart; }
+    public void setAccountNumberStart(Integer accountNumberStart) { this.accountNumberStart = accountNumberStart; }
+
+    public String getNationalCheck() { return nationalCheck; }
+    public void setNationalCheck(String nationalCheck) { this.nationalCheck = nationalCheck; }
+}
@@ -0,0 +1,79 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DirectoryImportReport {
+
+    private boolean dryRun;
+    private int received;
+    private int inserted;
+    private int updated;
+    private int deleted;
+    private int unchanged;
+    private long durationMs;
+    private List<Change> changes = new ArrayList<>();
+
+    public DirectoryImportReport() {}
+
+    public boolean isDryRun() { return dryRun; }
+    public void setDryRun(boolean dryRun) { this.dryRun = dryRun; }
+
+    public int getReceived() { return received; }
+    public void setReceived(int received) { this.received = received; }
+
+    public int getInserted() { return inserted; }
+    public void setInserted(int inserted) { this.inserted = inserted; }
+
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+
+    public int getDeleted() { return deleted; }
+    public void setDeleted(int deleted) { this.deleted = deleted; }
+
+    public int getUnchanged() { return unchanged; }
+    public void setUnchanged(int unchanged) { this.unchanged = unchanged; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+
+    public List<Change> getChanges() { return changes; }
+    public void setChanges(List<Change> changes) { this.changes = changes; }
+
+    public static class Change {
+        private String type;
+        private String bic;
+        private String bankCode;
+        private String countryCode;
+        private String name;
+        private List<String> changedFields;
+
+        public Change(String type, String bic, String bankCode, String countryCode, String name,
+                      List<String> changedFields) {
+            this.type = type;
+            this.bic = bic;
+            this.bankCode = bankCode;
+            this.countryCode = countryCode;
+            this.name = name;
+            this.changedFields = changedFields;
+        }
+
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+
+        public String getBic() { return bic; }
+        public void setBic(String bic) { this.bic = bic; }
+
+        public String getBankCode() { return bankCode; }
+        public void setBankCode(String bankCode) { this.bankCode = bankCode; }
+
+        public String getCountryCode() { return countryCode; }
+        public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public List<String> getChangedFields() { return changedFields; }
+        public void setChangedFields(List<String> changedFields) { this.changedFields = changedFields; }
+    }
+}
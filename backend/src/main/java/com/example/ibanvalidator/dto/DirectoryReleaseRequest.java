@@ -0,0 +1,54 @@
+package com.example.ibanvalidator.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+import java.util.List;
+
+public class DirectoryReleaseRequest {
+
+    @NotBlank(message = "Version ist erforderlich")
+    private String version;
+
+    @NotNull(message = "Gültigkeitsbeginn ist erforderlich")
+    private Instant validFrom;
+
+    @NotEmpty(message = "Release muss mindestens eine Bank enthalten")
+    @Valid
+    private List<BankRequest> banks;
+
+    public DirectoryReleaseRequest() {}
+
+    public DirectoryReleaseRequest(String version, Instant validFrom, List<BankRequest> banks) {
+        this.version = version;
+        this.validFrom = validFrom;
+        this.banks = banks;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public Instant getValidFrom() {
+        return validFrom;
+    }
+
+    public void setValidFrom(Instant validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    public List<BankRequest> getBanks() {
+        return banks;
+    }
+
+    public void setBanks(List<BankRequest> banks) {
+        this.banks = banks;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.ibanvalidator.dto;
+
+import com.example.ibanvalidator.model.DirectoryRelease;
+
+import java.time.Instant;
+
+public class DirectoryReleaseResponse {
+
+    private Long id;
+    private String version;
+    private Instant validFrom;
+    private String status;
+    private int entryCount;
+    private Instant createdAt;
+    private Instant activatedAt;
+
+    public DirectoryReleaseResponse() {}
+
+    public static DirectoryReleaseResponse fromEntity(DirectoryRelease release) {
+        DirectoryReleaseResponse response = new DirectoryReleaseResponse();
+        response.setId(release.getId());
+        response.setVersion(release.getVersion());
+        response.setValidFrom(release.getValidFrom());
+        response.setStatus(release.getStatus().name());
+        response.setEntryCount(release.getEntryCount());
+        response.setCreatedAt(release.getCreatedAt());
+        response.setActivatedAt(release.getActivatedAt());
+        return response;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+
+    public Instant getValidFrom() { return validFrom; }
+    public void setValidFrom(Instant validFrom) { this.validFrom = validFrom; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public int getEntryCount() { return entryCount; }
+    public void setEntryCount(int entryCount) { this.entryCount = entryCount; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getActivatedAt() { return activatedAt; }
+    public void setActivatedAt(Instant activatedAt) { this.activatedAt = activatedAt; }
+}
@@ -0,0 +1,39 @@
+package com.example.ibanvalidator.dto;
+
+import com.example.ibanvalidator.constants.ValidationConstants;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class IbanBicPairBatchRequest {
+
+    @NotEmpty(message = "Mindestens ein IBAN/BIC-Paar ist erforderlich")
+    @Size(max = ValidationConstants.BULK_MAX_ITEMS, message = "Maximal " + ValidationConstants.BULK_MAX_ITEMS + " Paare pro Anfrage")
+    private List<IbanBicPairRequest> pairs;
+
+    private LocalDate asOf;
+
+    public IbanBicPairBatchRequest() {}
+
+    public IbanBicPairBatchRequest(List<IbanBicPairRequest> pairs) {
+        this.pairs = pairs;
+    }
+
+    public List<IbanBicPairRequest> getPairs() {
+        return pairs;
+    }
+
+    public void setPairs(List<IbanBicPairRequest> pairs) {
+        this.pairs = pairs;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+}
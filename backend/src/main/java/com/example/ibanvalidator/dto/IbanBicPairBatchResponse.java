@@ -0,0 +1,33 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.List;
+
+public class IbanBicPairBatchResponse {
+
+    private String directoryVersion;
+    private int total;
+    private int consistent;
+    private int inconsistent;
+    private int distinctBanks;
+    private List<IbanBicPairResponse> results;
+
+    public IbanBicPairBatchResponse() {}
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getConsistent() { return consistent; }
+    public void setConsistent(int consistent) { this.consistent = consistent; }
+
+    public int getInconsistent() { return inconsistent; }
+    public void setInconsistent(int inconsistent) { this.inconsistent = inconsistent; }
+
+    public int getDistinctBanks() { return distinctBanks; }
+    public void setDistinctBanks(int distinctBanks) { this.distinctBanks = distinctBanks; }
+
+    public List<IbanBicPairResponse> getResults() { return results; }
+    public void setResults(List<IbanBicPairResponse> results) { this.results = results; }
+}
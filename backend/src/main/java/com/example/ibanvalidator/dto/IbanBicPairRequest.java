@@ -0,0 +1,47 @@
+package com.example.ibanvalidator.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.LocalDate;
+
+public class IbanBicPairRequest {
+
+    @NotBlank(message = "IBAN ist erforderlich")
+    private String iban;
+
+    @NotBlank(message = "BIC ist erforderlich")
+    private String bic;
+
+    private LocalDate asOf;
+
+    public IbanBicPairRequest() {}
+
+    public IbanBicPairRequest(String iban, String bic) {
+        this.iban = iban;
+        this.bic = bic;
+    }
+
+    public String getIban() {
+        return iban;
+    }
+
+    public void setIban(String iban) {
+        this.iban = iban;
+    }
+
+    public String getBic() {
+        return bic;
+    }
+
+    public void setBic(String bic) {
+        this.bic = bic;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+}
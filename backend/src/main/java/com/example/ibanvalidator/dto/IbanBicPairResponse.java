@@ -0,0 +1,56 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.List;
+
+public class IbanBicPairResponse {
+
+    public enum Status {
+        MATCH,
+        INSTITUTION_MATCH,
+        MISMATCH,
+        COUNTRY_MISMATCH,
+        BANK_UNKNOWN,
+        IBAN_INVALID,
+        ACCOUNT_INVALID,
+        BIC_INVALID
+    }
+
+    private String iban;
+    private String bic;
+    private Status status;
+    private boolean consistent;
+    private String countryCode;
+    private String bankCode;
+    private List<String> expectedBics;
+    private boolean blocklisted;
+    private String message;
+
+    public IbanBicPairResponse() {}
+
+    public String getIban() { return iban; }
+    public void setIban(String iban) { this.iban = iban; }
+
+    public String getBic() { return bic; }
+    public void setBic(String bic) { this.bic = bic; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public boolean isConsistent() { return consistent; }
+    public void setConsistent(boolean consistent) { this.consistent = consistent; }
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+    public String getBankCode() { return bankCode; }
+    public void setBankCode(String bankCode) { this.bankCode = bankCode; }
+
+    public List<String> getExpectedBics() { return expectedBics; }
+    public void setExpectedBics(List<String> expectedBics) { this.expectedBics = expectedBics; }
+
+    public boolean isBlocklisted() { return blocklisted; }
+    public void setBlocklisted(boolean blocklisted) { this.blocklisted = blocklisted; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
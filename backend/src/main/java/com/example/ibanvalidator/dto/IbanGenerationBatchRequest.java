@@ -0,0 +1,39 @@
+package com.example.ibanvalidator.dto;
+
+import com.example.ibanvalidator.constants.ValidationConstants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class IbanGenerationBatchRequest {
+
+    @NotEmpty(message = "Mindestens ein Eintrag ist erforderlich")
+    @Size(max = ValidationConstants.BULK_MAX_ITEMS, message = "Maximal " + ValidationConstants.BULK_MAX_ITEMS + " Einträge pro Anfrage")
+    private List<@Valid IbanGenerationRequest> items;
+
+    private boolean validate;
+
+    public IbanGenerationBatchRequest() {}
+
+    public IbanGenerationBatchRequest(List<IbanGenerationRequest> items) {
+        this.items = items;
+    }
+
+    public List<IbanGenerationRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<IbanGenerationRequest> items) {
+        this.items = items;
+    }
+
+    public boolean isValidate() {
+        return validate;
+    }
+
+    public void setValidate(boolean validate) {
+        this.validate = validate;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.List;
+
+public class IbanGenerationBatchResponse {
+
+    private String directoryVersion;
+    private int total;
+    private int generated;
+    private int failed;
+    private List<IbanGenerationResponse> results;
+
+    public IbanGenerationBatchResponse() {}
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getGenerated() { return generated; }
+    public void setGenerated(int generated) { this.generated = generated; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<IbanGenerationResponse> getResults() { return results; }
+    public void setResults(List<IbanGenerationResponse> results) { this.results = results; }
+}
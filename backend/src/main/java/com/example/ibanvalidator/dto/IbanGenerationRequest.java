@@ -0,0 +1,67 @@
+package com.example.ibanvalidator.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class IbanGenerationRequest {
+
+    @NotBlank(message = "Ländercode ist erforderlich")
+    private String countryCode;
+
+    @NotBlank(message = "Bankleitzahl ist erforderlich")
+    private String bankCode;
+
+    private String branchCode;
+
+    @NotBlank(message = "Kontonummer ist erforderlich")
+    private String accountNumber;
+
+    private boolean validate;
+
+    public IbanGenerationRequest() {}
+
+    public IbanGenerationRequest(String countryCode, String bankCode, String accountNumber) {
+        this.countryCode = countryCode;
+        this.bankCode = bankCode;
+        this.accountNumber = accountNumber;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public String getBankCode() {
+        return bankCode;
+    }
+
+    public void setBankCode(String bankCode) {
+        this.bankCode = bankCode;
+    }
+
+    public String getBranchCode() {
+        return branchCode;
+    }
+
+    public void setBranchCode(String branchCode) {
+        this.branchCode = branchCode;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(String accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public boolean isValidate() {
+        return validate;
+    }
+
+    public void setValidate(boolean validate) {
+        this.validate = validate;
+    }
+}
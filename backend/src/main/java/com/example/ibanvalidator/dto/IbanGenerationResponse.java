@@ -0,0 +1,45 @@
+package com.example.ibanvalidator.dto;
+
+import com.example.ibanvalidator.model.Bank;
+
+public class IbanGenerationResponse {
+
+    private String countryCode;
+    private String bankCode;
+    private String accountNumber;
+    private String iban;
+    private boolean valid;
+    private Bank bank;
+    private String bic;
+    private String directoryVersion;
+    private String errorMessage;
+
+    public IbanGenerationResponse() {}
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+    public String getBankCode() { return bankCode; }
+    public void setBankCode(String bankCode) { this.bankCode = bankCode; }
+
+    public String getAccountNumber() { return accountNumber; }
+    public void setAccountNumber(String accountNumber) { this.accountNumber = accountNumber; }
+
+    public String getIban() { return iban; }
+    public void setIban(String iban) { this.iban = iban; }
+
+    public boolean isValid() { return valid; }
+    public void setValid(boolean valid) { this.valid = valid; }
+
+    public Bank getBank() { return bank; }
+    public void setBank(Bank bank) { this.bank = bank; }
+
+    public String getBic() { return bic; }
+    public void setBic(String bic) { this.bic = bic; }
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+}
@@ -0,0 +1,33 @@
+package com.example.ibanvalidator.dto;
+
+import com.example.ibanvalidator.model.Bank;
+
+public class IbanSuggestion {
+
+    private String iban;
+    private String edit;
+    private int position;
+    private boolean bankKnown;
+    private Bank bank;
+    private String bic;
+
+    public IbanSuggestion() {}
+
+    public String getIban() { return iban; }
+    public void setIban(String iban) { this.iban = iban; }
+
+    public String getEdit() { return edit; }
+    public void setEdit(String edit) { this.edit = edit; }
+
+    public int getPosition() { return position; }
+    public void setPosition(int position) { this.position = position; }
+
+    public boolean isBankKnown() { return bankKnown; }
+    public void setBankKnown(boolean bankKnown) { this.bankKnown = bankKnown; }
+
+    public Bank getBank() { return bank; }
+    public void setBank(Bank bank) { this.bank = bank; }
+
+    public String getBic() { return bic; }
+    public void setBic(String bic) { this.bic = bic; }
+}
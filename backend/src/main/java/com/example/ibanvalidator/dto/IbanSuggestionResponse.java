@@ -0,0 +1,29 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.List;
+
+public class IbanSuggestionResponse {
+
+    private String iban;
+    private boolean valid;
+    private String errorMessage;
+    private String directoryVersion;
+    private List<IbanSuggestion> suggestions;
+
+    public IbanSuggestionResponse() {}
+
+    public String getIban() { return iban; }
+    public void setIban(String iban) { this.iban = iban; }
+
+    public boolean isValid() { return valid; }
+    public void setValid(boolean valid) { this.valid = valid; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public List<IbanSuggestion> getSuggestions() { return suggestions; }
+    public void setSuggestions(List<IbanSuggestion> suggestions) { this.suggestions = suggestions; }
+}
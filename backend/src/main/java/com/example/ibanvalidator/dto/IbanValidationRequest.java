@@ -3,6 +3,8 @@ package com.example.ibanvalidator.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
+import java.time.LocalDate;
+
 public class IbanValidationRequest {
 
     @NotBlank(message = "IBAN ist erforderlich")
@@ -10,6 +12,8 @@ public class IbanValidationRequest {
             message = "Ungültiges IBAN-Format")
     private String iban;
 
+    private LocalDate asOf;
+
     public IbanValidationRequest() {}
 
     public IbanValidationRequest(String iban) {
@@ -22,4 +26,11 @@ public class IbanValidationRequest {
     public void setIban(String iban) {
         this.iban = iban;
     }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+    public void setAsOf(LocalDate asOf) {
+        this.asOf = asOf;
+    }
 }
\ No newline at end of file
@@ -11,6 +11,12 @@ public class IbanValidationResponse {
     private String bankCode;
     private String accountNumber;
     private Bank bank;
+    private String bic;
+    private String bicSource;
+    private String checkDigitMethod;
+    private String accountCheck;
+    private String directoryVersion;
+    private boolean blocklisted;
     private String errorMessage;
 
     public IbanValidationResponse() {}
@@ -41,6 +47,24 @@ public class IbanValidationResponse {
     public Bank getBank() { return bank; }
     public void setBank(Bank bank) { this.bank = bank; }
 
+    public String getBic() { return bic; }
+    public void setBic(String bic) { this.bic = bic; }
+
+    public String getBicSource() { return bicSource; }
+    public void setBicSource(String bicSource) { this.bicSource = bicSource; }
+
+    public String getCheckDigitMethod() { return checkDigitMethod; }
+    public void setCheckDigitMethod(String checkDigitMethod) { this.checkDigitMethod = checkDigitMethod; }
+
+    public String getAccountCheck() { return accountCheck; }
+    public void setAccountCheck(String accountCheck) { this.accountCheck = accountCheck; }
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public boolean isBlocklisted() { return blocklisted; }
+    public void setBlocklisted(boolean blocklisted) { this.blocklisted = blocklisted; }
+
     public String getErrorMessage() { return errorMessage; }
     public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.ibanvalidator.dto;
+
+import jakarta.validation.constraints.Size;
+
+public class IncrementalValidationRequest {
+
+    @Size(max = 64, message = "Eingabe darf höchstens 64 Zeichen lang sein")
+    private String iban;
+
+    @Size(max = 32, message = "Ungültiger Zustand")
+    private String state;
+
+    public IncrementalValidationRequest() {}
+
+    public IncrementalValidationRequest(String iban, String state) {
+        this.iban = iban;
+        this.state = state;
+    }
+
+    public String getIban() {
+        return iban;
+    }
+    public void setIban(String iban) {
+        this.iban = iban;
+    }
+
+    public String getState() {
+        return state;
+    }
+    public void setState(String state) {
+        this.state = state;
+    }
+}
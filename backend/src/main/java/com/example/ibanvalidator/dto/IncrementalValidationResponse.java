@@ -0,0 +1,47 @@
+package com.example.ibanvalidator.dto;
+
+public class IncrementalValidationResponse {
+
+    private int length;
+    private Integer expectedLength;
+    private Boolean countryKnown;
+    private Boolean bankRecognized;
+    private boolean validSoFar;
+    private boolean complete;
+    private boolean valid;
+    private Integer errorPosition;
+    private String errorMessage;
+    private String state;
+
+    public IncrementalValidationResponse() {}
+
+    public int getLength() { return length; }
+    public void setLength(int length) { this.length = length; }
+
+    public Integer getExpectedLength() { return expectedLength; }
+    public void setExpectedLength(Integer expectedLength) { this.expectedLength = expectedLength; }
+
+    public Boolean getCountryKnown() { return countryKnown; }
+    public void setCountryKnown(Boolean countryKnown) { this.countryKnown = countryKnown; }
+
+    public Boolean getBankRecognized() { return bankRecognized; }
+    public void setBankRecognized(Boolean bankRecognized) { this.bankRecognized = bankRecognized; }
+
+    public boolean isValidSoFar() { return validSoFar; }
+    public void setValidSoFar(boolean validSoFar) { this.validSoFar = validSoFar; }
+
+    public boolean isComplete() { return complete; }
+    public void setComplete(boolean complete) { this.complete = complete; }
+
+    public boolean isValid() { return valid; }
+    public void setValid(boolean valid) { this.valid = valid; }
+
+    public Integer getErrorPosition() { return errorPosition; }
+    public void setErrorPosition(Integer errorPosition) { this.errorPosition = errorPosition; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+}
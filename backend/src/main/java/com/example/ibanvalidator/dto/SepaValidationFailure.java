@@ -0,0 +1,40 @@
+package com.example.ibanvalidator.dto;
+
+public class SepaValidationFailure {
+
+    private String location;
+    private String party;
+    private String iban;
+    private String bic;
+    private String status;
+    private String message;
+
+    public SepaValidationFailure() {}
+
+    public SepaValidationFailure(String location, String party, String iban, String bic, String status, String message) {
+        this.location = location;
+        this.party = party;
+        this.iban = iban;
+        this.bic = bic;
+        this.status = status;
+        this.message = message;
+    }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public String getParty() { return party; }
+    public void setParty(String party) { this.party = party; }
+
+    public String getIban() { return iban; }
+    public void setIban(String iban) { this.iban = iban; }
+
+    public String getBic() { return bic; }
+    public void setBic(String bic) { this.bic = bic; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,46 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SepaValidationReport {
+
+    private String messageType;
+    private String messageId;
+    private String directoryVersion;
+    private long transactions;
+    private long accounts;
+    private long valid;
+    private long invalid;
+    private boolean failuresTruncated;
+    private List<SepaValidationFailure> failures = new ArrayList<>();
+
+    public SepaValidationReport() {}
+
+    public String getMessageType() { return messageType; }
+    public void setMessageType(String messageType) { this.messageType = messageType; }
+
+    public String getMessageId() { return messageId; }
+    public void setMessageId(String messageId) { this.messageId = messageId; }
+
+    public String getDirectoryVersion() { return directoryVersion; }
+    public void setDirectoryVersion(String directoryVersion) { this.directoryVersion = directoryVersion; }
+
+    public long getTransactions() { return transactions; }
+    public void setTransactions(long transactions) { this.transactions = transactions; }
+
+    public long getAccounts() { return accounts; }
+    public void setAccounts(long accounts) { this.accounts = accounts; }
+
+    public long getValid() { return valid; }
+    public void setValid(long valid) { this.valid = valid; }
+
+    public long getInvalid() { return invalid; }
+    public void setInvalid(long invalid) { this.invalid = invalid; }
+
+    public boolean isFailuresTruncated() { return failuresTruncated; }
+    public void setFailuresTruncated(boolean failuresTruncated) { this.failuresTruncated = failuresTruncated; }
+
+    public List<SepaValidationFailure> getFailures() { return failures; }
+    public void setFailures(List<SepaValidationFailure> failures) { this.failures = failures; }
+}
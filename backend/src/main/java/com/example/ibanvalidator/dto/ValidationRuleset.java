@@ -0,0 +1,22 @@
+package com.example.ibanvalidator.dto;
+
+import java.util.List;
+
+public class ValidationRuleset {
+
+    private String version;
+    private List<CountryRule> countries;
+
+    public ValidationRuleset() {}
+
+    public ValidationRuleset(String version, List<CountryRule> countries) {
+        this.version = version;
+        this.countries = countries;
+    }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+
+    public List<CountryRule> getCountries() { return countries; }
+    public void setCountries(List<CountryRule> countries) { this.countries = countries; }
+}
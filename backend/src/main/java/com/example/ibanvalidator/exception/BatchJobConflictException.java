@@ -0,0 +1,8 @@
+package com.example.ibanvalidator.exception;
+
+public class BatchJobConflictException extends RuntimeException {
+
+    public BatchJobConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.ibanvalidator.exception;
+
+public class BatchJobNotFoundException extends RuntimeException {
+
+    private final String jobId;
+
+    public BatchJobNotFoundException(String id) {
+        super(String.format("Validierungsjob mit ID %s wurde nicht gefunden", id));
+        this.jobId = id;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+}
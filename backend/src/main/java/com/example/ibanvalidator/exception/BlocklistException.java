@@ -0,0 +1,8 @@
+package com.example.ibanvalidator.exception;
+
+public class BlocklistException extends RuntimeException {
+
+    public BlocklistException(String message) {
+        super(message);
+    }
+}
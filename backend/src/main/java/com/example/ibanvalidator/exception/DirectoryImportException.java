@@ -0,0 +1,21 @@
+package com.example.ibanvalidator.exception;
+
+import java.util.List;
+
+public class DirectoryImportException extends RuntimeException {
+
+    private final List<String> lineErrors;
+
+    public DirectoryImportException(String message, List<String> lineErrors) {
+        super(message);
+        this.lineErrors = lineErrors;
+    }
+
+    public DirectoryImportException(String message) {
+        this(message, List.of());
+    }
+
+    public List<String> getLineErrors() {
+        return lineErrors;
+    }
+}
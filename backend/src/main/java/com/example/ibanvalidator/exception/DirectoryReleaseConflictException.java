@@ -0,0 +1,8 @@
+package com.example.ibanvalidator.exception;
+
+public class DirectoryReleaseConflictException extends RuntimeException {
+
+    public DirectoryReleaseConflictException(String message) {
+        super(message);
+    }
+}
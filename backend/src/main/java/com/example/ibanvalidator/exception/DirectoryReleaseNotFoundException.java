@@ -0,0 +1,15 @@
+package com.example.ibanvalidator.exception;
+
+public class DirectoryReleaseNotFoundException extends RuntimeException {
+
+    private final Long releaseId;
+
+    public DirectoryReleaseNotFoundException(Long id) {
+        super(String.format("Verzeichnis-Release mit ID %d wurde nicht gefunden", id));
+        this.releaseId = id;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+}
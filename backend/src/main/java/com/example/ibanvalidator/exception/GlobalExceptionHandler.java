@@ -6,6 +6,7 @@ import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -58,6 +59,160 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(DirectoryReleaseNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponse> handleDirectoryReleaseNotFoundException(
+            DirectoryReleaseNotFoundException ex,
+            HttpServletRequest request) {
+
+        log.warn("Verzeichnis-Release nicht gefunden: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Nicht gefunden",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(DirectoryReleaseConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleDirectoryReleaseConflictException(
+            DirectoryReleaseConflictException ex,
+            HttpServletRequest request) {
+
+        log.warn("Verzeichnis-Release-Konflikt: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Konflikt",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(BatchJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponse> handleBatchJobNotFoundException(
+            BatchJobNotFoundException ex,
+            HttpServletRequest request) {
+
+        log.warn("Validierungsjob nicht gefunden: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Nicht gefunden",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(BatchJobConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleBatchJobConflictException(
+            BatchJobConflictException ex,
+            HttpServletRequest request) {
+
+        log.warn("Validierungsjob-Konflikt: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Konflikt",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(DirectoryImportException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleDirectoryImportException(
+            DirectoryImportException ex,
+            HttpServletRequest request) {
+
+        log.warn("Verzeichnis-Import abgelehnt: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Ungültige Anfrage",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        List<ErrorResponse.ValidationError> validationErrors = new ArrayList<>();
+        for (String lineError : ex.getLineErrors()) {
+            validationErrors.add(new ErrorResponse.ValidationError("file", lineError, null));
+        }
+        if (!validationErrors.isEmpty()) {
+            error.setValidationErrors(validationErrors);
+        }
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(SepaFileException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleSepaFileException(
+            SepaFileException ex,
+            HttpServletRequest request) {
+
+        log.warn("SEPA-Datei abgelehnt: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Ungültige Anfrage",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(BlocklistException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleBlocklistException(
+            BlocklistException ex,
+            HttpServletRequest request) {
+
+        log.warn("Sperrliste nicht geladen: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Konflikt",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(
+            RateLimitExceededException ex,
+            HttpServletRequest request) {
+
+        log.debug("Anfragelimit überschritten: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Zu viele Anfragen",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(IbanValidationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponse> handleIbanValidationException(
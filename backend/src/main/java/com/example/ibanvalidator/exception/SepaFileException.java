@@ -0,0 +1,8 @@
+package com.example.ibanvalidator.exception;
+
+public class SepaFileException extends RuntimeException {
+
+    public SepaFileException(String message) {
+        super(message);
+    }
+}
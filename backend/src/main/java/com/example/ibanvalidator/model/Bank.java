@@ -30,6 +30,10 @@ public class Bank {
     @Column(nullable = false)
     private String countryCode;
 
+    @Size(min = 2, max = 2, message = "Prüfzifferverfahren muss 2 Zeichen lang sein")
+    @Column(name = "check_digit_method", length = 2)
+    private String checkDigitMethod;
+
     public Bank() {
     }
 
@@ -79,4 +83,12 @@ public class Bank {
     public void setCountryCode(String countryCode) {
         this.countryCode = countryCode;
     }
+
+    public String getCheckDigitMethod() {
+        return checkDigitMethod;
+    }
+
+    public void setCheckDigitMethod(String checkDigitMethod) {
+        this.checkDigitMethod = checkDigitMethod;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.example.ibanvalidator.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "batch_jobs")
+public class BatchJob {
+
+    public enum Status {
+        UPLOADING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+    public enum Type {
+        IBANS,
+        SEPA
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Type type;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(name = "valid_count", nullable = false)
+    private long validCount;
+
+    @Column(name = "chunk_duplicate_count", nullable = false, columnDefinition = "bigint default 0")
+    private long chunkDuplicateCount;
+
+    @Column(name = "chunk_count", nullable = false)
+    private int chunkCount;
+
+    @Column(name = "directory_version")
+    private String directoryVersion;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    public BatchJob() {
+    }
+
+    public BatchJob(String id) {
+        this.id = id;
+        this.status = Status.UPLOADING;
+        this.type = Type.IBANS;
+        this.createdAt = Instant.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getValidCount() {
+        return validCount;
+    }
+
+    public void setValidCount(long validCount) {
+        this.validCount = validCount;
+    }
+
+    public long getChunkDuplicateCount() {
+        return chunkDuplicateCount;
+    }
+
+    public void setChunkDuplicateCount(long chunkDuplicateCount) {
+        this.chunkDuplicateCount = chunkDuplicateCount;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+
+    public String getDirectoryVersion() {
+        return directoryVersion;
+    }
+
+    public void setDirectoryVersion(String directoryVersion) {
+        this.directoryVersion = directoryVersion;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
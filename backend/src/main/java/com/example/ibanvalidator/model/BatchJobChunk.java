@@ -0,0 +1,164 @@
+package com.example.ibanvalidator.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "batch_job_chunks",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "chunk_index"}),
+        indexes = @Index(name = "idx_batch_job_chunks_status", columnList = "status, claimed_at"))
+public class BatchJobChunk {
+
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        DONE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(name = "first_line", nullable = false)
+    private long firstLine;
+
+    @Column(name = "line_count", nullable = false)
+    private int lineCount;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String input;
+
+    @Column(columnDefinition = "TEXT")
+    private String output;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "valid_count", nullable = false)
+    private int validCount;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    public BatchJobChunk() {
+    }
+
+    public BatchJobChunk(String jobId, int chunkIndex, long firstLine, int lineCount, String input) {
+        this.jobId = jobId;
+        this.chunkIndex = chunkIndex;
+        this.firstLine = firstLine;
+        this.lineCount = lineCount;
+        this.input = input;
+        this.status = Status.PENDING;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+
+    public long getFirstLine() {
+        return firstLine;
+    }
+
+    public void setFirstLine(long firstLine) {
+        this.firstLine = firstLine;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public void setLineCount(int lineCount) {
+        this.lineCount = lineCount;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public void setInput(String input) {
+        this.input = input;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getValidCount() {
+        return validCount;
+    }
+
+    public void setValidCount(int validCount) {
+        this.validCount = validCount;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public Instant getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(Instant claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+}
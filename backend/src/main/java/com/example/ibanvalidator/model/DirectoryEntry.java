@@ -0,0 +1,105 @@
+package com.example.ibanvalidator.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "directory_entries", indexes = {
+        @Index(name = "idx_directory_entries_release", columnList = "release_id")
+})
+public class DirectoryEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "release_id", nullable = false)
+    private Long releaseId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, length = 11)
+    private String bic;
+
+    @Column(name = "bank_code", nullable = false)
+    private String bankCode;
+
+    @Column(name = "country_code", nullable = false, length = 2)
+    private String countryCode;
+
+    @Column(name = "check_digit_method", length = 2)
+    private String checkDigitMethod;
+
+    public DirectoryEntry() {
+    }
+
+    public DirectoryEntry(Long releaseId, String name, String bic, String bankCode, String countryCode) {
+        this.releaseId = releaseId;
+        this.name = name;
+        this.bic = bic;
+        this.bankCode = bankCode;
+        this.countryCode = countryCode;
+    }
+
+    public Bank toBank() {
+        Bank bank = new Bank(name, bic, bankCode, countryCode);
+        bank.setCheckDigitMethod(checkDigitMethod);
+        return bank;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public void setReleaseId(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBic() {
+        return bic;
+    }
+
+    public void setBic(String bic) {
+        this.bic = bic;
+    }
+
+    public String getBankCode() {
+        return bankCode;
+    }
+
+    public void setBankCode(String bankCode) {
+        this.bankCode = bankCode;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public String getCheckDigitMethod() {
+        return checkDigitMethod;
+    }
+
+    public void setCheckDigitMethod(String checkDigitMethod) {
+        this.checkDigitMethod = checkDigitMethod;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,8 @@ public interface BankRepository extends JpaRepository<Bank, Long> {
 
     Optional<Bank> findByBic(String bic);
 
+    List<Bank> findByBicIn(Collection<String> bics);
+
     List<Bank> findByCountryCode(String countryCode);
 
     @Query("SELECT b FROM Bank b WHERE b.name LIKE %:name%")
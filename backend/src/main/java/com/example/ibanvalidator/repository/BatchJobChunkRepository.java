@@ -0,0 +1,41 @@
+package com.example.ibanvalidator.repository;
+
+import com.example.ibanvalidator.model.BatchJobChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface BatchJobChunkRepository extends JpaRepository<BatchJobChunk, Long> {
+
+    @Query(value = "SELECT c.* FROM batch_job_chunks c "
+            + "WHERE c.job_id IN (SELECT j.id FROM batch_jobs j WHERE j.status = 'RUNNING') "
+            + "AND (c.status = 'PENDING' OR (c.status = 'PROCESSING' AND c.claimed_at < :staleBefore)) "
+            + "ORDER BY c.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<BatchJobChunk> lockClaimable(@Param("staleBefore") Instant staleBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE BatchJobChunk c SET c.status = :done, c.output = :output, c.validCount = :valid, c.input = '' "
+            + "WHERE c.id = :id AND c.attempts = :attempts AND c.status = :processing")
+    int checkpoint(@Param("id") Long id,
+                   @Param("attempts") int attempts,
+                   @Param("output") String output,
+                   @Param("valid") int valid,
+                   @Param("done") BatchJobChunk.Status done,
+                   @Param("processing") BatchJobChunk.Status processing);
+
+    @Query("SELECT c.id FROM BatchJobChunk c WHERE c.jobId = :jobId ORDER BY c.chunkIndex")
+    List<Long> findIdsByJobId(@Param("jobId") String jobId);
+
+    @Query("SELECT c.output FROM BatchJobChunk c WHERE c.id = :id")
+    String findOutputById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM BatchJobChunk c WHERE c.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") String jobId);
+}
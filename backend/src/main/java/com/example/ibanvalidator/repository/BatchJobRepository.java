@@ -0,0 +1,59 @@
+package com.example.ibanvalidator.repository;
+
+import com.example.ibanvalidator.model.BatchJob;
+import com.example.ibanvalidator.model.BatchJobChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BatchJobRepository extends JpaRepository<BatchJob, String> {
+
+    List<BatchJob> findByFinishedAtBefore(Instant threshold);
+
+    List<BatchJob> findByStatusAndCreatedAtBefore(BatchJob.Status status, Instant threshold);
+
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.status = :status, j.total = :total, j.chunkCount = :chunkCount, "
+            + "j.startedAt = :now, j.finishedAt = :finishedAt WHERE j.id = :id AND j.status = :uploading")
+    int start(@Param("id") String id,
+              @Param("status") BatchJob.Status status,
+              @Param("total") long total,
+              @Param("chunkCount") int chunkCount,
+              @Param("now") Instant now,
+              @Param("finishedAt") Instant finishedAt,
+              @Param("uploading") BatchJob.Status uploading);
+
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.processed = j.processed + :lines, j.validCount = j.validCount + :valid, "
+            + "j.chunkDuplicateCount = j.chunkDuplicateCount + :chunkDuplicates WHERE j.id = :id")
+    int addProgress(@Param("id") String id,
+                    @Param("lines") long lines,
+                    @Param("valid") long valid,
+                    @Param("chunkDuplicates") long chunkDuplicates);
+
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.status = :completed, j.finishedAt = :now "
+            + "WHERE j.id = :id AND j.status = :running AND NOT EXISTS "
+            + "(SELECT c.id FROM BatchJobChunk c WHERE c.jobId = :id AND c.status <> :done)")
+    int completeIfDone(@Param("id") String id,
+                       @Param("now") Instant now,
+                       @Param("completed") BatchJob.Status completed,
+                       @Param("running") BatchJob.Status running,
+                       @Param("done") BatchJobChunk.Status done);
+
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.status = :status, j.finishedAt = :now, j.errorMessage = :message "
+            + "WHERE j.id = :id AND j.status IN :active")
+    int finish(@Param("id") String id,
+               @Param("status") BatchJob.Status status,
+               @Param("message") String message,
+               @Param("now") Instant now,
+               @Param("active") Collection<BatchJob.Status> active);
+}
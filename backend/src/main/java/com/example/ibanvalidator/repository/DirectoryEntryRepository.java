@@ -0,0 +1,20 @@
+package com.example.ibanvalidator.repository;
+
+import com.example.ibanvalidator.model.DirectoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DirectoryEntryRepository extends JpaRepository<DirectoryEntry, Long> {
+
+    List<DirectoryEntry> findByReleaseId(Long releaseId);
+
+    @Modifying
+    @Query("DELETE FROM DirectoryEntry e WHERE e.releaseId = :releaseId")
+    int deleteByReleaseId(@Param("releaseId") Long releaseId);
+}
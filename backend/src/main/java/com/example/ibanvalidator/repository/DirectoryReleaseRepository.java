@@ -0,0 +1,33 @@
+package com.example.ibanvalidator.repository;
+
+import com.example.ibanvalidator.model.DirectoryRelease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DirectoryReleaseRepository extends JpaRepository<DirectoryRelease, Long> {
+
+    Optional<DirectoryRelease> findByVersion(String version);
+
+    List<DirectoryRelease> findByStatusOrderByValidFromAsc(DirectoryRelease.Status status);
+
+    List<DirectoryRelease> findByStatusInOrderByValidFromAsc(Collection<DirectoryRelease.Status> statuses);
+
+    List<DirectoryRelease> findAllByOrderByValidFromDesc();
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DirectoryRelease r SET r.status = :active, r.activatedAt = :now "
+            + "WHERE r.id = :id AND r.status = :staged")
+    int markActive(@Param("id") Long id,
+                   @Param("now") Instant now,
+                   @Param("staged") DirectoryRelease.Status staged,
+                   @Param("active") DirectoryRelease.Status active);
+}
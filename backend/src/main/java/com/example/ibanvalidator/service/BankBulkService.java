@@ -0,0 +1,246 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BankBulkResponse;
+import com.example.ibanvalidator.dto.BankBulkResponse.ItemResult;
+import com.example.ibanvalidator.dto.BankBulkResponse.ItemStatus;
+import com.example.ibanvalidator.dto.BankBulkUpdateRequest;
+import com.example.ibanvalidator.dto.BankRequest;
+import com.example.ibanvalidator.dto.BankResponse;
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.repository.BankRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+public class BankBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(BankBulkService.class);
+    private static final String MISSING_ITEM = "Eintrag fehlt (null)";
+
+    private final BankRepository bankRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public BankBulkService(BankRepository bankRepository,
+                           TransactionTemplate transactionTemplate,
+                           Validator validator,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${iban.bulk.chunk-size:500}") int chunkSize) {
+        this.bankRepository = bankRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public BankBulkResponse createBanks(List<BankRequest> requests) {
+        log.info("Bulk-Erstellung: {} Banken", requests.size());
+        BankBulkResponse response = new BankBulkResponse();
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            List<BankRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            int offset = from;
+            runChunk(response, chunk, offset, () -> createChunk(chunk, offset));
+        }
+        return finish(response, "Bulk-Erstellung");
+    }
+
+    public BankBulkResponse updateBanks(List<BankBulkUpdateRequest> requests) {
+        log.info("Bulk-Aktualisierung: {} Banken", requests.size());
+        BankBulkResponse response = new BankBulkResponse();
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            List<BankBulkUpdateRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            int offset = from;
+            runChunk(response, chunk, offset, () -> updateChunk(chunk, offset));
+        }
+        return finish(response, "Bulk-Aktualisierung");
+    }
+
+    public BankBulkResponse deleteBanks(List<Long> ids) {
+        log.info("Bulk-Löschung: {} Banken", ids.size());
+        BankBulkResponse response = new BankBulkResponse();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            int offset = from;
+            runChunk(response, chunk, offset, () -> deleteChunk(chunk, offset));
+        }
+        return finish(response, "Bulk-Löschung");
+    }
+
+    private List<ItemResult> createChunk(List<BankRequest> chunk, int offset) {
+        ItemResult[] results = new ItemResult[chunk.size()];
+        Set<String> existingBics = existingBics(chunk.stream().filter(Objects::nonNull).map(BankRequest::getBic).filter(Objects::nonNull).toList());
+
+        Set<String> batchBics = new HashSet<>();
+        List<Bank> toSave = new ArrayList<>(chunk.size());
+        List<Integer> positions = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            BankRequest request = chunk.get(i);
+            if (request == null) {
+                results[i] = ItemResult.failure(offset + i, ItemStatus.INVALID, null, null, MISSING_ITEM);
+                continue;
+            }
+            String violation = validate(request);
+            if (violation != null) {
+                results[i] = ItemResult.failure(offset + i, ItemStatus.INVALID, null, request.getBic(), violation);
+            } else if (existingBics.contains(request.getBic()) || !batchBics.add(request.getBic())) {
+                results[i] = ItemResult.failure(offset + i, ItemStatus.CONFLICT, null, request.getBic(),
+                        String.format("Bank mit BIC '%s' existiert bereits", request.getBic()));
+            } else {
+                Bank bank = new Bank(request.getName(), request.getBic(), request.getBankCode(), request.getCountryCode());
+                bank.setCheckDigitMethod(request.getCheckDigitMethod());
+                toSave.add(bank);
+                positions.add(i);
+            }
+        }
+
+        List<Bank> saved = bankRepository.saveAll(toSave);
+        for (int i = 0; i < saved.size(); i++) {
+            int position = positions.get(i);
+            results[position] = ItemResult.success(offset + position, ItemStatus.CREATED, BankResponse.fromEntity(saved.get(i)));
+        }
+        return List.of(results);
+    }
+
+    private List<ItemResult> updateChunk(List<BankBulkUpdateRequest> chunk, int offset) {
+        ItemResult[] results = new ItemResult[chunk.size()];
+
+        Map<Long, Bank> banksById = bankRepository.findAllById(chunk.stream()
+                        .filter(Objects::nonNull)
+                        .map(BankBulkUpdateRequest::getId)
+                        .filter(Objects::nonNull)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Bank::getId, Function.identity()));
+        Map<String, Long> idsByBic = new HashMap<>();
+        for (Bank bank : bankRepository.findByBicIn(chunk.stream().filter(Objects::nonNull).map(BankRequest::getBic)
+                .filter(Objects::nonNull).toList())) {
+            idsByBic.put(bank.getBic(), bank.getId());
+        }
+
+        List<Bank> toSave = new ArrayList<>(chunk.size());
+        List<Integer> positions = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            BankBulkUpdateRequest request = chunk.get(i);
+            if (request == null) {
+                results[i] = ItemResult.failure(offset + i, ItemStatus.INVALID, null, null, MISSING_ITEM);
+                continue;
+            }
+            String violation = validate(request);
+            Bank bank = request.getId() != null ? banksById.get(request.getId()) : null;
+            Long bicOwner = idsByBic.get(request.getBic());
+
+            if (violation != null) {
+                results[i] = ItemResult.failure(offset + i, ItemStatus.INVALID, request.getId(), request.getBic(), violation);
+            } else if (bank == null) {
+                results[i] = ItemResult.failure(offset + i, ItemStatus.NOT_FOUND, request.getId(), request.getBic(),
+                        String.format("Bank mit ID %d wurde nicht gefunden", request.getId()));
+            } else if (bicOwner != null && !bicOwner.equals(bank.getId())) {
+                results[i] = ItemResult.failure(offset + i, ItemStatus.CONFLICT, request.getId(), request.getBic(),
+                        String.format("Bank mit BIC '%s' existiert bereits", request.getBic()));
+            } else {
+                idsByBic.remove(bank.getBic());
+                idsByBic.put(request.getBic(), bank.getId());
+                bank.setName(request.getName());
+                bank.setBic(request.getBic());
+                bank.setBankCode(request.getBankCode());
+                bank.setCountryCode(request.getCountryCode());
+                bank.setCheckDigitMethod(request.getCheckDigitMethod());
+                toSave.add(bank);
+                positions.add(i);
+            }
+        }
+
+        List<Bank> saved = bankRepository.saveAll(toSave);
+        for (int i = 0; i < saved.size(); i++) {
+            int position = positions.get(i);
+            results[position] = ItemResult.success(offset + position, ItemStatus.UPDATED, BankResponse.fromEntity(saved.get(i)));
+        }
+        return List.of(results);
+    }
+
+    private List<ItemResult> deleteChunk(List<Long> chunk, int offset) {
+        Map<Long, Bank> banksById = bankRepository.findAllById(chunk.stream()
+                        .filter(Objects::nonNull)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Bank::getId, Function.identity()));
+
+        List<ItemResult> results = new ArrayList<>(chunk.size());
+        Set<Long> toDelete = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Long id = chunk.get(i);
+            Bank bank = id != null ? banksById.get(id) : null;
+            if (bank == null || !toDelete.add(id)) {
+                results.add(ItemResult.failure(offset + i, ItemStatus.NOT_FOUND, id, null,
+                        String.format("Bank mit ID %d wurde nicht gefunden", id)));
+            } else {
+                results.add(ItemResult.success(offset + i, ItemStatus.DELETED, BankResponse.fromEntity(bank)));
+            }
+        }
+
+        bankRepository.deleteAllByIdInBatch(toDelete);
+        return results;
+    }
+
+    private <T> void runChunk(BankBulkResponse response, List<T> chunk, int offset,
+                              Supplier<List<ItemResult>> work) {
+        try {
+            List<ItemResult> results = transactionTemplate.execute(status -> work.get());
+            if (results != null) {
+                results.forEach(response::add);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Bulk-Chunk ab Position {} zurückgerollt: {}", offset, e.getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                response.add(ItemResult.failure(offset + i, ItemStatus.FAILED, null, null,
+                        "Chunk wurde wegen eines Datenbankfehlers zurückgerollt"));
+            }
+        }
+    }
+
+    private BankBulkResponse finish(BankBulkResponse response, String operation) {
+        if (response.getSucceeded() > 0) {
+            eventPublisher.publishEvent(new BankDirectoryChangedEvent(operation));
+        }
+        log.info("{} abgeschlossen: {} erfolgreich, {} fehlgeschlagen",
+                operation, response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    private Set<String> existingBics(List<String> bics) {
+        Set<String> existing = new HashSet<>();
+        for (Bank bank : bankRepository.findByBicIn(bics)) {
+            existing.add(bank.getBic());
+        }
+        return existing;
+    }
+
+    private String validate(BankRequest request) {
+        Set<ConstraintViolation<BankRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
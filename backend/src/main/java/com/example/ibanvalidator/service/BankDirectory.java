@@ -0,0 +1,164 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.model.DirectoryEntry;
+import com.example.ibanvalidator.model.DirectoryRelease;
+import com.example.ibanvalidator.repository.BankRepository;
+import com.example.ibanvalidator.repository.DirectoryEntryRepository;
+import com.example.ibanvalidator.repository.DirectoryReleaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+public class BankDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(BankDirectory.class);
+
+    private final BankRepository bankRepository;
+    private final DirectoryReleaseRepository releaseRepository;
+    private final DirectoryEntryRepository entryRepository;
+    private final ZoneId zone;
+
+    private final ConcurrentSkipListMap<Instant, DirectorySnapshot> staged = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Instant, Long> activatedReleases = new ConcurrentSkipListMap<>();
+    private final Map<Long, DirectorySnapshot> history;
+
+    private volatile DirectorySnapshot live;
+    private volatile Long activeReleaseId;
+    private volatile long nextCutoverMillis = Long.MAX_VALUE;
+
+    public BankDirectory(BankRepository bankRepository,
+                         DirectoryReleaseRepository releaseRepository,
+                         DirectoryEntryRepository entryRepository,
+                         @Value("${iban.directory.zone:Europe/Berlin}") String zone,
+                         @Value("${iban.directory.history-size:8}") int historySize) {
+        this.bankRepository = bankRepository;
+        this.releaseRepository = releaseRepository;
+        this.entryRepository = entryRepository;
+        this.zone = ZoneId.of(zone);
+        this.history = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, DirectorySnapshot> eldest) {
+                return size() > historySize;
+            }
+        });
+    }
+
+    public DirectorySnapshot current() {
+        if (System.currentTimeMillis() >= nextCutoverMillis) {
+            Map.Entry<Instant, DirectorySnapshot> due = staged.floorEntry(Instant.now());
+            if (due != null) {
+                return due.getValue();
+            }
+        }
+        DirectorySnapshot snapshot = live;
+        return snapshot != null ? snapshot : reload();
+    }
+
+    public DirectorySnapshot asOf(LocalDate date) {
+        return asOf(date.atStartOfDay(zone).toInstant());
+    }
+
+    public DirectorySnapshot asOf(Instant instant) {
+        DirectorySnapshot current = current();
+
+        Map.Entry<Instant, DirectorySnapshot> pending = staged.floorEntry(instant);
+        if (pending != null) {
+            return pending.getValue();
+        }
+
+        Instant activeFrom = current.getValidFrom();
+        if (!instant.isBefore(Instant.now()) || activeFrom == null || !instant.isBefore(activeFrom)) {
+            return current;
+        }
+
+        Map.Entry<Instant, Long> release = activatedReleases.floorEntry(instant);
+        if (release == null) {
+            release = activatedReleases.firstEntry();
+        }
+        if (release == null || release.getValue().equals(activeReleaseId)) {
+            return current;
+        }
+        return history.computeIfAbsent(release.getValue(), this::loadRelease);
+    }
+
+    public synchronized DirectorySnapshot reload() {
+        DirectorySnapshot previous = live;
+
+        List<DirectoryRelease> releases = releaseRepository.findByStatusInOrderByValidFromAsc(
+                List.of(DirectoryRelease.Status.ACTIVE, DirectoryRelease.Status.SUPERSEDED));
+        activatedReleases.clear();
+        DirectoryRelease active = null;
+        for (DirectoryRelease release : releases) {
+            activatedReleases.put(release.getValidFrom(), release.getId());
+            if (release.getStatus() == DirectoryRelease.Status.ACTIVE) {
+                active = release;
+            }
+        }
+
+        DirectorySnapshot snapshot = active != null
+                ? DirectorySnapshot.of(active.getVersion(), active.getValidFrom(), bankRepository.findAll())
+                : DirectorySnapshot.of(DirectorySnapshot.LIVE_VERSION, null, bankRepository.findAll());
+        activeReleaseId = active != null ? active.getId() : null;
+        live = snapshot;
+
+        log.info("Bankverzeichnis geladen: Version={}, {} Banken (vorher {})",
+                snapshot.getVersion(), snapshot.size(), previous != null ? previous.size() : 0);
+        return snapshot;
+    }
+
+    public void stage(DirectoryRelease release, DirectorySnapshot snapshot) {
+        staged.put(release.getValidFrom(), snapshot);
+        updateNextCutover();
+        log.info("Verzeichnis-Release {} vorgemerkt: gültig ab {}, {} Banken",
+                release.getVersion(), release.getValidFrom(), snapshot.size());
+    }
+
+    public void unstage(DirectoryRelease release) {
+        staged.remove(release.getValidFrom());
+        updateNextCutover();
+    }
+
+    public synchronized void activated(DirectoryRelease release) {
+        reload();
+        staged.remove(release.getValidFrom());
+        updateNextCutover();
+        log.info("Verzeichnis-Release {} aktiviert", release.getVersion());
+    }
+
+    public boolean isStaged(Instant validFrom) {
+        return staged.containsKey(validFrom);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankDirectoryChanged(BankDirectoryChangedEvent event) {
+        log.debug("Bankverzeichnis geändert ({}), lade neu", event.reason());
+        reload();
+    }
+
+    private DirectorySnapshot loadRelease(Long releaseId) {
+        DirectoryRelease release = releaseRepository.findById(releaseId).orElseThrow();
+        List<Bank> banks = entryRepository.findByReleaseId(releaseId).stream()
+                .map(DirectoryEntry::toBank)
+                .toList();
+        log.debug("Historisches Verzeichnis-Release {} geladen: {} Banken", release.getVersion(), banks.size());
+        return DirectorySnapshot.of(release.getVersion(), release.getValidFrom(), banks);
+    }
+
+    private void updateNextCutover() {
+        Map.Entry<Instant, DirectorySnapshot> next = staged.firstEntry();
+        nextCutoverMillis = next != null ? next.getKey().toEpochMilli() : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.ibanvalidator.service;
+
+public record BankDirectoryChangedEvent(String reason) {
+}
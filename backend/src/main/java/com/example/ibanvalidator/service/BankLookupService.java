@@ -0,0 +1,84 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BankLookupRequest;
+import com.example.ibanvalidator.dto.BankLookupRequest.BankCodeKey;
+import com.example.ibanvalidator.dto.BankLookupResponse;
+import com.example.ibanvalidator.dto.BankResponse;
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.repository.BankRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+public class BankLookupService {
+
+    private static final Logger log = LoggerFactory.getLogger(BankLookupService.class);
+
+    private final BankRepository bankRepository;
+    private final BankDirectory bankDirectory;
+
+    public BankLookupService(BankRepository bankRepository, BankDirectory bankDirectory) {
+        this.bankRepository = bankRepository;
+        this.bankDirectory = bankDirectory;
+    }
+
+    @Transactional(readOnly = true)
+    public BankLookupResponse lookup(BankLookupRequest request) {
+        BankLookupResponse response = new BankLookupResponse();
+        DirectorySnapshot directory = bankDirectory.current();
+        response.setDirectoryVersion(directory.getVersion());
+
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            Set<Long> ids = new LinkedHashSet<>(request.getIds());
+            ids.remove(null);
+            Map<Long, Bank> banksById = new HashMap<>(ids.size() * 2);
+            for (Bank bank : bankRepository.findAllById(ids)) {
+                banksById.put(bank.getId(), bank);
+            }
+            for (Long id : ids) {
+                put(response, response.getById(), String.valueOf(id), banksById.get(id));
+            }
+        }
+
+        if (request.getBics() != null) {
+            for (String bic : request.getBics()) {
+                if (bic != null && !response.getByBic().containsKey(bic)) {
+                    BankResponse bank = directory.resolveBic(bic.trim())
+                            .map(BankService::toBicMatchResponse)
+                            .orElse(null);
+                    response.getByBic().put(bic, bank);
+                    response.countResult(bank);
+                }
+            }
+        }
+
+        if (request.getBankCodes() != null) {
+            for (BankCodeKey key : request.getBankCodes()) {
+                if (key != null && !response.getByBankCode().containsKey(key.key())) {
+                    Bank bank = directory.findByBankCodeAndCountryCode(
+                            Objects.toString(key.getBankCode(), "").trim(),
+                            Objects.toString(key.getCountryCode(), "").trim().toUpperCase(Locale.ROOT)).orElse(null);
+                    put(response, response.getByBankCode(), key.key(), bank);
+                }
+            }
+        }
+
+        log.debug("Multi-Get: {} von {} Schlüsseln aufgelöst", response.getFound(), response.getRequested());
+        return response;
+    }
+
+    private void put(BankLookupResponse response, Map<String, BankResponse> target, String key, Bank bank) {
+        BankResponse value = bank != null ? BankResponse.fromEntity(bank) : null;
+        target.put(key, value);
+        response.countResult(value);
+    }
+}
@@ -8,6 +8,7 @@ import com.example.ibanvalidator.model.Bank;
 import com.example.ibanvalidator.repository.BankRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,9 +23,14 @@ public class BankService {
     private static final Logger log = LoggerFactory.getLogger(BankService.class);
 
     private final BankRepository bankRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BankDirectory bankDirectory;
 
-    public BankService(BankRepository bankRepository) {
+    public BankService(BankRepository bankRepository, ApplicationEventPublisher eventPublisher,
+                       BankDirectory bankDirectory) {
         this.bankRepository = bankRepository;
+        this.eventPublisher = eventPublisher;
+        this.bankDirectory = bankDirectory;
         log.info("BankService initialisiert");
     }
 
@@ -48,8 +54,14 @@ public class BankService {
 
     @Transactional(readOnly = true)
     public Optional<BankResponse> getBankByBic(String bic) {
-        return bankRepository.findByBic(bic)
-                .map(BankResponse::fromEntity);
+        return bankDirectory.current().resolveBic(bic)
+                .map(BankService::toBicMatchResponse);
+    }
+
+    static BankResponse toBicMatchResponse(BicMatch match) {
+        BankResponse response = BankResponse.fromEntity(match.bank());
+        response.setBicMatch(match.granularity().name());
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -71,9 +83,11 @@ public class BankService {
                 request.getBankCode(),
                 request.getCountryCode()
         );
+        bank.setCheckDigitMethod(request.getCheckDigitMethod());
 
         Bank savedBank = bankRepository.save(bank);
         log.info("Bank erstellt: ID={}, Name={}", savedBank.getId(), savedBank.getName());
+        eventPublisher.publishEvent(new BankDirectoryChangedEvent("Bank erstellt"));
         return BankResponse.fromEntity(savedBank);
     }
 
@@ -90,8 +104,10 @@ public class BankService {
         bank.setBic(request.getBic());
         bank.setBankCode(request.getBankCode());
         bank.setCountryCode(request.getCountryCode());
+        bank.setCheckDigitMethod(request.getCheckDigitMethod());
 
         Bank updatedBank = bankRepository.save(bank);
+        eventPublisher.publishEvent(new BankDirectoryChangedEvent("Bank aktualisiert"));
         return BankResponse.fromEntity(updatedBank);
     }
 
@@ -104,6 +120,7 @@ public class BankService {
         }
 
         bankRepository.deleteById(id);
+        eventPublisher.publishEvent(new BankDirectoryChangedEvent("Bank gelöscht"));
         log.info("Bank gelöscht: ID={}", id);
     }
 
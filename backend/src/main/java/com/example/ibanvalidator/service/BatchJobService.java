@@ -0,0 +1,429 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BatchJobResponse;
+import com.example.ibanvalidator.exception.BatchJobConflictException;
+import com.example.ibanvalidator.exception.BatchJobNotFoundException;
+import com.example.ibanvalidator.model.BatchJob;
+import com.example.ibanvalidator.model.BatchJobChunk;
+import com.example.ibanvalidator.repository.BatchJobChunkRepository;
+import com.example.ibanvalidator.repository.BatchJobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class BatchJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchJobService.class);
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final List<BatchJob.Status> ACTIVE = List.of(BatchJob.Status.UPLOADING, BatchJob.Status.RUNNING);
+    private static final List<BatchJob.Status> UPLOADING = List.of(BatchJob.Status.UPLOADING);
+
+    private final BatchLineValidator lineValidator;
+    private final SepaValidationService sepaValidationService;
+    private final BankDirectory bankDirectory;
+    private final BatchJobRepository jobRepository;
+    private final BatchJobChunkRepository chunkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration retention;
+    private final Duration claimTimeout;
+    private final int maxAttempts;
+    private final long subscriptionTimeout;
+    private final String nodeId;
+    private final ForkJoinPool validationPool;
+    private final int window;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean filling = new AtomicBoolean();
+    private final Map<String, JobContext> contexts = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public BatchJobService(BatchLineValidator lineValidator,
+                           SepaValidationService sepaValidationService,
+                           BankDirectory bankDirectory,
+                           BatchJobRepository jobRepository,
+                           BatchJobChunkRepository chunkRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${iban.jobs.chunk-size:1000}") int chunkSize,
+                           @Value("${iban.jobs.parallelism:0}") int parallelism,
+                           @Value("${iban.jobs.retention:PT24H}") Duration retention,
+                           @Value("${iban.jobs.claim-timeout:PT5M}") Duration claimTimeout,
+                           @Value("${iban.jobs.max-attempts:3}") int maxAttempts,
+                           @Value("${iban.jobs.subscription-timeout:PT30M}") Duration subscriptionTimeout,
+                           @Value("${iban.jobs.node-id:}") String nodeId) {
+        this.lineValidator = lineValidator;
+        this.sepaValidationService = sepaValidationService;
+        this.bankDirectory = bankDirectory;
+        this.jobRepository = jobRepository;
+        this.chunkRepository = chunkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+        this.claimTimeout = claimTimeout;
+        this.maxAttempts = maxAttempts;
+        this.subscriptionTimeout = subscriptionTimeout.toMillis();
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.validationPool = new ForkJoinPool(threads, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.window = threads * 2;
+        log.info("BatchJobService initialisiert: Knoten {}, {} Validierungsthreads, Chunkgröße {}",
+                this.nodeId, threads, chunkSize);
+    }
+
+    public BatchJobResponse submit(InputStream body) throws IOException {
+        return create(BatchJob.Type.IBANS, chunks -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                chunks.add(line);
+            }
+        });
+    }
+
+    public BatchJobResponse submitSepa(InputStream body) throws IOException {
+        return create(BatchJob.Type.SEPA, chunks -> sepaValidationService.extract(body, chunks::add));
+    }
+
+    private BatchJobResponse create(BatchJob.Type type, LineSource source) throws IOException {
+        BatchJob job = new BatchJob(UUID.randomUUID().toString());
+        job.setType(type);
+        job.setDirectoryVersion(bankDirectory.current().getVersion());
+        jobRepository.save(job);
+
+        ChunkWriter chunks = new ChunkWriter(job.getId());
+        try {
+            source.feed(chunks);
+            chunks.flush();
+        } catch (IOException | RuntimeException e) {
+            abort(job.getId(), BatchJob.Status.FAILED, "Upload fehlgeschlagen: " + e.getMessage(), ACTIVE);
+            throw e;
+        }
+
+        Instant now = Instant.now();
+        job.setTotal(chunks.lines);
+        job.setChunkCount(chunks.chunks);
+        job.setStartedAt(now);
+        job.setStatus(chunks.chunks > 0 ? BatchJob.Status.RUNNING : BatchJob.Status.COMPLETED);
+        if (chunks.chunks == 0) {
+            job.setFinishedAt(now);
+        }
+        Boolean running = transactionTemplate.execute(status -> {
+            if (jobRepository.start(job.getId(), job.getStatus(), job.getTotal(), job.getChunkCount(), now,
+                    job.getFinishedAt(), BatchJob.Status.UPLOADING) > 0) {
+                return true;
+            }
+            chunkRepository.deleteByJobId(job.getId());
+            return false;
+        });
+        if (!Boolean.TRUE.equals(running)) {
+            throw new BatchJobConflictException("Validierungsjob " + job.getId()
+                    + " wurde während des Uploads als fehlgeschlagen markiert");
+        }
+        log.info("Validierungsjob {} ({}) angelegt: {} Zeilen in {} Chunks", job.getId(), type, chunks.lines, chunks.chunks);
+        return BatchJobResponse.fromJob(job);
+    }
+
+    public BatchJobResponse getJob(String id) {
+        return BatchJobResponse.fromJob(find(id));
+    }
+
+    public SseEmitter subscribe(String id) {
+        BatchJob job = find(id);
+        SseEmitter emitter = new SseEmitter(subscriptionTimeout);
+        if (!send(emitter, job)) {
+            return emitter;
+        }
+        if (job.isFinished()) {
+            emitter.complete();
+            return emitter;
+        }
+        List<SseEmitter> emitters = subscribers.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        return emitter;
+    }
+
+    public void writeResult(String id, OutputStream output) throws IOException {
+        BatchJob job = find(id);
+        if (job.getStatus() != BatchJob.Status.COMPLETED) {
+            throw new BatchJobConflictException("Validierungsjob " + id + " ist nicht abgeschlossen (Status "
+                    + job.getStatus() + ")");
+        }
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        writer.write(job.getType() == BatchJob.Type.SEPA ? SepaValidationService.RESULT_HEADER : BatchLineValidator.HEADER);
+        writer.newLine();
+        for (Long chunkId : chunkRepository.findIdsByJobId(id)) {
+            String chunkOutput = chunkRepository.findOutputById(chunkId);
+            if (chunkOutput != null) {
+                writer.write(chunkOutput);
+            }
+        }
+        writer.flush();
+    }
+
+    public BatchJobResponse cancel(String id) {
+        find(id);
+        if (abort(id, BatchJob.Status.CANCELLED, "Abgebrochen", ACTIVE)) {
+            log.info("Validierungsjob {} abgebrochen", id);
+        }
+        return BatchJobResponse.fromJob(find(id));
+    }
+
+    @Scheduled(fixedDelayString = "${iban.jobs.poll-interval:PT1S}")
+    public void fillWindow() {
+        if (validationPool.isShutdown() || !filling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int free;
+            while ((free = window - inFlight.get()) > 0) {
+                List<BatchJobChunk> claimed = claim(free);
+                if (claimed.isEmpty()) {
+                    break;
+                }
+                for (BatchJobChunk chunk : claimed) {
+                    inFlight.incrementAndGet();
+                    validationPool.execute(() -> process(chunk));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Chunks konnten nicht übernommen werden: {}", e.getMessage());
+        } finally {
+            filling.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${iban.jobs.progress-interval:PT0.5S}")
+    public void publishProgress() {
+        for (Map.Entry<String, List<SseEmitter>> entry : subscribers.entrySet()) {
+            List<SseEmitter> emitters = entry.getValue();
+            BatchJob job = jobRepository.findById(entry.getKey()).orElse(null);
+            if (job == null || emitters.isEmpty()) {
+                subscribers.remove(entry.getKey());
+                emitters.forEach(SseEmitter::complete);
+                continue;
+            }
+            for (SseEmitter emitter : emitters) {
+                if (!send(emitter, job)) {
+                    emitters.remove(emitter);
+                } else if (job.isFinished()) {
+                    emitter.complete();
+                }
+            }
+            if (job.isFinished()) {
+                subscribers.remove(entry.getKey());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${iban.jobs.cleanup-interval:PT10M}")
+    public void removeExpiredJobs() {
+        Instant staleUploads = Instant.now().minus(claimTimeout);
+        for (BatchJob job : jobRepository.findByStatusAndCreatedAtBefore(BatchJob.Status.UPLOADING, staleUploads)) {
+            if (abort(job.getId(), BatchJob.Status.FAILED, "Upload nicht abgeschlossen", UPLOADING)) {
+                log.warn("Validierungsjob {} hing seit {} im Upload und wurde als fehlgeschlagen markiert",
+                        job.getId(), job.getCreatedAt());
+            }
+        }
+        for (BatchJob job : jobRepository.findByFinishedAtBefore(Instant.now().minus(retention))) {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunkRepository.deleteByJobId(job.getId());
+                jobRepository.deleteById(job.getId());
+            });
+            contexts.remove(job.getId());
+            log.debug("Validierungsjob {} nach Ablauf der Aufbewahrungsfrist entfernt", job.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validationPool.shutdown();
+        try {
+            if (!validationPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                validationPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            validationPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    List<BatchJobChunk> claim(int limit) {
+        Instant now = Instant.now();
+        List<BatchJobChunk> claimed = transactionTemplate.execute(status -> {
+            List<BatchJobChunk> chunks = chunkRepository.lockClaimable(now.minus(claimTimeout), limit);
+            List<BatchJobChunk> result = new ArrayList<>(chunks.size());
+            for (BatchJobChunk chunk : chunks) {
+                if (chunk.getAttempts() >= maxAttempts) {
+                    jobRepository.finish(chunk.getJobId(), BatchJob.Status.FAILED,
+                            "Chunk " + chunk.getChunkIndex() + " nach " + chunk.getAttempts() + " Versuchen abgebrochen",
+                            now, ACTIVE);
+                    continue;
+                }
+                if (chunk.getStatus() == BatchJobChunk.Status.PROCESSING) {
+                    log.info("Chunk {} von Job {} wird von Knoten {} übernommen (zuvor {})",
+                            chunk.getChunkIndex(), chunk.getJobId(), nodeId, chunk.getClaimedBy());
+                }
+                chunk.setStatus(BatchJobChunk.Status.PROCESSING);
+                chunk.setClaimedBy(nodeId);
+                chunk.setClaimedAt(now);
+                chunk.setAttempts(chunk.getAttempts() + 1);
+                result.add(chunk);
+            }
+            return result;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    void process(BatchJobChunk chunk) {
+        try {
+            JobContext context = contextFor(chunk.getJobId());
+            if (context != null) {
+                List<String> lines = Arrays.asList(chunk.getInput().split("\n", -1));
+                BatchLineValidator.ChunkResult result = context.type() == BatchJob.Type.SEPA
+                        ? sepaValidationService.validateChunk(lines, context.directory())
+                        : lineValidator.validate(lines, chunk.getFirstLine(), context.directory());
+                checkpoint(chunk, result);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Chunk {} von Job {} fehlgeschlagen, wird erneut vergeben: {}",
+                    chunk.getChunkIndex(), chunk.getJobId(), e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+            fillWindow();
+        }
+    }
+
+    private void checkpoint(BatchJobChunk chunk, BatchLineValidator.ChunkResult result) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int updated = chunkRepository.checkpoint(chunk.getId(), chunk.getAttempts(), result.output(), result.valid(),
+                    BatchJobChunk.Status.DONE, BatchJobChunk.Status.PROCESSING);
+            if (updated == 0) {
+                log.debug("Chunk {} von Job {} wurde zwischenzeitlich neu vergeben", chunk.getChunkIndex(), chunk.getJobId());
+                return;
+            }
+            jobRepository.addProgress(chunk.getJobId(), result.lines(), result.valid(), result.duplicates());
+            if (jobRepository.completeIfDone(chunk.getJobId(), Instant.now(), BatchJob.Status.COMPLETED,
+                    BatchJob.Status.RUNNING, BatchJobChunk.Status.DONE) > 0) {
+                contexts.remove(chunk.getJobId());
+                log.info("Validierungsjob {} abgeschlossen", chunk.getJobId());
+            }
+        });
+    }
+
+    private JobContext contextFor(String jobId) {
+        return contexts.computeIfAbsent(jobId, id -> jobRepository.findById(id)
+                .filter(job -> job.getStatus() == BatchJob.Status.RUNNING)
+                .map(job -> new JobContext(job.getType() != null ? job.getType() : BatchJob.Type.IBANS,
+                        bankDirectory.asOf(job.getCreatedAt())))
+                .orElse(null));
+    }
+
+    private boolean abort(String id, BatchJob.Status status, String message, List<BatchJob.Status> active) {
+        Boolean aborted = transactionTemplate.execute(tx -> {
+            if (jobRepository.finish(id, status, message, Instant.now(), active) == 0) {
+                return false;
+            }
+            chunkRepository.deleteByJobId(id);
+            return true;
+        });
+        contexts.remove(id);
+        return Boolean.TRUE.equals(aborted);
+    }
+
+    private BatchJob find(String id) {
+        return jobRepository.findById(id).orElseThrow(() -> new BatchJobNotFoundException(id));
+    }
+
+    private static boolean send(SseEmitter emitter, BatchJob job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(job.isFinished() ? "completed" : "progress")
+                    .data(BatchJobResponse.fromJob(job)));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE-Abonnent von Job {} getrennt: {}", job.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private interface LineSource {
+
+        void feed(ChunkWriter chunks) throws IOException;
+    }
+
+    private record JobContext(BatchJob.Type type, DirectorySnapshot directory) {
+    }
+
+    private final class ChunkWriter {
+
+        private final String jobId;
+        private final StringBuilder chunk = new StringBuilder();
+        private int count;
+        private long lines;
+        private int chunks;
+
+        private ChunkWriter(String jobId) {
+            this.jobId = jobId;
+        }
+
+        private void add(String line) {
+            if (count > 0) {
+                chunk.append('\n');
+            }
+            chunk.append(line);
+            count++;
+            lines++;
+            if (count == chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (count == 0) {
+                return;
+            }
+            chunkRepository.save(new BatchJobChunk(jobId, chunks++, lines - count + 1, count, chunk.toString()));
+            chunk.setLength(0);
+            count = 0;
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host = System.getenv("HOSTNAME");
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return host != null && !host.isBlank() ? host + "-" + suffix : suffix;
+    }
+}
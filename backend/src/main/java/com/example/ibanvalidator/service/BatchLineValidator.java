@@ -0,0 +1,133 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class BatchLineValidator {
+
+    public static final String HEADER = "line;iban;valid;countryCode;bankCode;bic;message";
+
+    public record ChunkResult(String output, int lines, int valid, int ibans, int distinct) {
+
+        public ChunkResult(String output, int lines, int valid) {
+            this(output, lines, valid, lines, lines);
+        }
+
+        public int duplicates() {
+            return ibans - distinct;
+        }
+    }
+
+    private static final int MAX_MEMO_ENTRIES = 1 << 14;
+
+    private final IbanService ibanService;
+
+    public BatchLineValidator(IbanService ibanService) {
+        this.ibanService = ibanService;
+    }
+
+    public ChunkResult validate(List<String> lines, long firstLine, DirectorySnapshot directory) {
+        StringBuilder output = new StringBuilder(lines.size() * 64);
+        Batch batch = batch(directory);
+        int valid = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String iban = extractIban(lines.get(i));
+            if (iban.isEmpty() || (firstLine + i == 1 && iban.equalsIgnoreCase("iban"))) {
+                continue;
+            }
+            if (batch.validateLine(output, firstLine + i, iban)) {
+                valid++;
+            }
+        }
+        return new ChunkResult(output.toString(), lines.size(), valid, batch.ibans(), batch.distinct());
+    }
+
+    public Batch batch(DirectorySnapshot directory) {
+        return new Batch(directory);
+    }
+
+    public final class Batch {
+
+        private final DirectorySnapshot directory;
+        private final PackedIbanMap<IbanValidationResponse> memo = new PackedIbanMap<>();
+        private int ibans;
+        private int distinct;
+
+        private Batch(DirectorySnapshot directory) {
+            this.directory = directory;
+        }
+
+        public boolean validateLine(StringBuilder output, long lineNumber, String iban) {
+            IbanValidationResponse response = lookup(iban);
+            ibans++;
+            appendRow(output, lineNumber, iban, response);
+            return response.isValid();
+        }
+
+        public int ibans() {
+            return ibans;
+        }
+
+        public int distinct() {
+            return distinct;
+        }
+
+        private IbanValidationResponse lookup(String iban) {
+            if (iban.isBlank()) {
+                distinct++;
+                return ibanService.validateStructure(iban);
+            }
+            String normalized = ibanService.normalizeIban(iban);
+            PackedIban key = PackedIban.pack(normalized);
+            IbanValidationResponse response = key != null ? memo.get(key) : null;
+            if (response != null) {
+                return response;
+            }
+
+            distinct++;
+            response = ibanService.validateNormalized(normalized);
+            if (response.isValid() && directory != null) {
+                ibanService.enrich(response, directory);
+            }
+            if (key != null && memo.size() < MAX_MEMO_ENTRIES) {
+                memo.put(key, response);
+            }
+            return response;
+        }
+    }
+
+    private static String extractIban(String line) {
+        int start = !line.isEmpty() && line.charAt(0) == '\uFEFF' ? 1 : 0;
+        int end = line.length();
+        for (int i = start; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ';' || c == ',' || c == '\t') {
+                end = i;
+                break;
+            }
+        }
+        String iban = line.substring(start, end).trim();
+        if (iban.length() >= 2 && iban.charAt(0) == '"' && iban.charAt(iban.length() - 1) == '"') {
+            iban = iban.substring(1, iban.length() - 1).trim();
+        }
+        return iban;
+    }
+
+    private static void appendRow(StringBuilder output, long lineNumber, String iban, IbanValidationResponse response) {
+        output.append(lineNumber).append(';')
+                .append(response.getIban() != null ? response.getIban() : iban.replace(";", "")).append(';')
+                .append(response.isValid()).append(';')
+                .append(response.getCountryCode() != null ? response.getCountryCode() : "").append(';')
+                .append(response.getBankCode() != null ? response.getBankCode() : "").append(';')
+                .append(response.getBic() != null ? response.getBic() : "").append(';');
+        if (response.getErrorMessage() != null) {
+            output.append('"').append(response.getErrorMessage().replace("\"", "\"\"")).append('"');
+        } else if (response.isBlocklisted()) {
+            output.append('"').append(BlocklistService.MATCH_MESSAGE).append('"');
+        }
+        output.append('\n');
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+
+import java.util.List;
+
+public final class BicIndex {
+
+    public enum Granularity {
+        EXACT,
+        PRIMARY_OFFICE,
+        INSTITUTION
+    }
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int BRANCH_RADIX = 36 * 36 * 36;
+    private static final int PRIMARY_OFFICE_BRANCH = ('X' - 'A' + 10) * (36 * 36 + 36 + 1);
+    private static final long BRANCH_KEY = 1L << 60;
+    private static final long INSTITUTION_KEY = 1L << 61;
+    private static final int GRANULARITY_SHIFT = 28;
+    private static final int INDEX_MASK = (1 << GRANULARITY_SHIFT) - 1;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+
+    public BicIndex(List<Bank> banks) {
+        int capacity = Integer.highestOneBit(Math.max(4, banks.size() * 4) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < banks.size(); i++) {
+            long packed = pack(banks.get(i).getBic());
+            if (packed < 0) {
+                continue;
+            }
+            insert(packed | BRANCH_KEY, i, false);
+            boolean primaryOffice = packed % BRANCH_RADIX == PRIMARY_OFFICE_BRANCH;
+            insert((packed / BRANCH_RADIX) | INSTITUTION_KEY, i, primaryOffice);
+        }
+    }
+
+    public int find(CharSequence bic) {
+        long packed = pack(bic);
+        if (packed < 0) {
+            return NOT_FOUND;
+        }
+
+        int index = probe(packed | BRANCH_KEY);
+        if (index >= 0) {
+            return encode(index, Granularity.EXACT);
+        }
+
+        long institution = packed / BRANCH_RADIX;
+        if (packed % BRANCH_RADIX != PRIMARY_OFFICE_BRANCH) {
+            index = probe((institution * BRANCH_RADIX + PRIMARY_OFFICE_BRANCH) | BRANCH_KEY);
+            if (index >= 0) {
+                return encode(index, Granularity.PRIMARY_OFFICE);
+            }
+        }
+
+        index = probe(institution | INSTITUTION_KEY);
+        return index >= 0 ? encode(index, Granularity.INSTITUTION) : NOT_FOUND;
+    }
+
+    public int findExact(CharSequence bic) {
+        long packed = pack(bic);
+        return packed < 0 ? NOT_FOUND : probe(packed | BRANCH_KEY);
+    }
+
+    public static int indexOf(int result) {
+        return result & INDEX_MASK;
+    }
+
+    public static Granularity granularityOf(int result) {
+        return Granularity.values()[result >>> GRANULARITY_SHIFT];
+    }
+
+    static long pack(CharSequence bic) {
+        if (bic == null) {
+            return -1;
+        }
+        int length = bic.length();
+        if (length != 8 && length != 11) {
+            return -1;
+        }
+
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = digit(bic.charAt(i));
+            if (digit < 0) {
+                return -1;
+            }
+            packed = packed * 36 + digit;
+        }
+        return length == 8 ? packed * BRANCH_RADIX + PRIMARY_OFFICE_BRANCH : packed;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    private void insert(long key, int value, boolean replace) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                if (replace) {
+                    values[slot] = value;
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    private int probe(long key) {
+        int slot = slot(key);
+        long candidate;
+        while ((candidate = keys[slot]) != 0) {
+            if (candidate == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int encode(int index, Granularity granularity) {
+        return index | (granularity.ordinal() << GRANULARITY_SHIFT);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+
+public record BicMatch(Bank bank, BicIndex.Granularity granularity) {
+}
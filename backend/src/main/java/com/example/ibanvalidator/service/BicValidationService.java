@@ -0,0 +1,110 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BicBatchValidationResponse;
+import com.example.ibanvalidator.dto.BicValidationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class BicValidationService {
+
+    public static final String NOT_IN_DIRECTORY = "NOT_IN_DIRECTORY";
+
+    private static final Logger log = LoggerFactory.getLogger(BicValidationService.class);
+
+    private final BankDirectory bankDirectory;
+
+    public BicValidationService(BankDirectory bankDirectory) {
+        this.bankDirectory = bankDirectory;
+    }
+
+    public BicValidationResponse validateBic(String bic) {
+        log.debug("Validiere BIC: {}", bic);
+        return validate(bic, bankDirectory.current());
+    }
+
+    public BicBatchValidationResponse validateBics(List<String> bics) {
+        DirectorySnapshot directory = bankDirectory.current();
+        List<BicValidationResponse> results = new ArrayList<>(bics.size());
+        int valid = 0;
+        int unknown = 0;
+        for (String bic : bics) {
+            BicValidationResponse result = validate(bic, directory);
+            results.add(result);
+            if (result.isValid()) {
+                valid++;
+                if (!result.isExists()) {
+                    unknown++;
+                }
+            }
+        }
+
+        BicBatchValidationResponse response = new BicBatchValidationResponse();
+        response.setDirectoryVersion(directory.getVersion());
+        response.setTotal(bics.size());
+        response.setValid(valid);
+        response.setInvalid(bics.size() - valid);
+        response.setUnknown(unknown);
+        response.setResults(results);
+        log.debug("Batch-BIC-Validierung: {} gültig, {} ungültig, {} unbekannt", valid, bics.size() - valid, unknown);
+        return response;
+    }
+
+    BicValidationResponse validate(String raw, DirectorySnapshot directory) {
+        String bic = normalize(raw);
+        BicValidationResponse response = new BicValidationResponse();
+        response.setBic(bic);
+
+        BicValidator.Reason reason = BicValidator.check(bic);
+        if (reason != BicValidator.Reason.OK) {
+            response.setReasonCodes(List.of(reason.name()));
+            return response;
+        }
+
+        response.setValid(true);
+        response.setInstitutionCode(bic.substring(0, 4));
+        response.setCountryCode(bic.substring(4, 6));
+        response.setLocationCode(bic.substring(6, 8));
+        response.setBranchCode(bic.length() == 11 ? bic.substring(8) : "XXX");
+
+        Optional<BicMatch> match = directory.resolveBic(bic);
+        if (match.isPresent()) {
+            response.setExists(true);
+            response.setBank(BankService.toBicMatchResponse(match.get()));
+            response.setReasonCodes(List.of());
+        } else {
+            response.setReasonCodes(List.of(NOT_IN_DIRECTORY));
+        }
+        return response;
+    }
+
+    static String normalize(String bic) {
+        if (bic == null) {
+            return "";
+        }
+        StringBuilder normalized = null;
+        for (int i = 0; i < bic.length(); i++) {
+            char c = bic.charAt(i);
+            if (c == ' ' || (c >= 'a' && c <= 'z')) {
+                normalized = new StringBuilder(bic.length());
+                break;
+            }
+        }
+        if (normalized == null) {
+            return bic;
+        }
+        for (int i = 0; i < bic.length(); i++) {
+            char c = bic.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            normalized.append(c >= 'a' && c <= 'z' ? (char) (c - 32) : c);
+        }
+        return normalized.toString();
+    }
+}
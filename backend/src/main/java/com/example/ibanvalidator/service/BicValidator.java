@@ -0,0 +1,85 @@
+package com.example.ibanvalidator.service;
+
+import java.util.Locale;
+
+public final class BicValidator {
+
+    public enum Reason {
+        OK,
+        EMPTY,
+        INVALID_LENGTH,
+        INVALID_CHARACTERS,
+        INVALID_INSTITUTION_CODE,
+        UNKNOWN_COUNTRY,
+        INVALID_LOCATION_CODE,
+        INVALID_BRANCH_CODE
+    }
+
+    private static final boolean[] ISO_COUNTRIES = new boolean[26 * 26];
+
+    static {
+        for (String country : Locale.getISOCountries()) {
+            ISO_COUNTRIES[countryIndex(country.charAt(0), country.charAt(1))] = true;
+        }
+        ISO_COUNTRIES[countryIndex('X', 'K')] = true;
+    }
+
+    private BicValidator() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static Reason check(CharSequence bic) {
+        if (bic == null || bic.length() == 0) {
+            return Reason.EMPTY;
+        }
+        int length = bic.length();
+        if (length != 8 && length != 11) {
+            return Reason.INVALID_LENGTH;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAlphanumeric(upper(bic.charAt(i)))) {
+                return Reason.INVALID_CHARACTERS;
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            if (!isLetter(upper(bic.charAt(i)))) {
+                return Reason.INVALID_INSTITUTION_CODE;
+            }
+        }
+        char c1 = upper(bic.charAt(4));
+        char c2 = upper(bic.charAt(5));
+        if (!isLetter(c1) || !isLetter(c2) || !ISO_COUNTRIES[countryIndex(c1, c2)]) {
+            return Reason.UNKNOWN_COUNTRY;
+        }
+        char location = upper(bic.charAt(6));
+        if (location == '0' || location == '1' || upper(bic.charAt(7)) == 'O') {
+            return Reason.INVALID_LOCATION_CODE;
+        }
+        if (length == 11 && upper(bic.charAt(8)) == 'X' && !(upper(bic.charAt(9)) == 'X' && upper(bic.charAt(10)) == 'X')) {
+            return Reason.INVALID_BRANCH_CODE;
+        }
+        return Reason.OK;
+    }
+
+    public static boolean isKnownCountry(char c1, char c2) {
+        char u1 = upper(c1);
+        char u2 = upper(c2);
+        return isLetter(u1) && isLetter(u2) && ISO_COUNTRIES[countryIndex(u1, u2)];
+    }
+
+    private static int countryIndex(char c1, char c2) {
+        return (c1 - 'A') * 26 + (c2 - 'A');
+    }
+
+    private static char upper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - 32) : c;
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+}
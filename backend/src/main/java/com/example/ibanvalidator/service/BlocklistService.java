@@ -0,0 +1,158 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BlocklistStatus;
+import com.example.ibanvalidator.exception.BlocklistException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class BlocklistService {
+
+    public static final String MATCH_MESSAGE = "IBAN steht auf der Sperrliste";
+
+    private static final Logger log = LoggerFactory.getLogger(BlocklistService.class);
+
+    private final Path source;
+    private final Path indexDirectory;
+
+    private volatile IbanBlocklist current = IbanBlocklist.empty();
+    private volatile FileTime loadedModified;
+    private volatile long loadedSize = -1;
+    private volatile long generation;
+
+    private final LongAdder clean = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+    private final Counter successfulReloads;
+    private final Counter failedReloads;
+    private final Timer reloadDuration;
+
+    public BlocklistService(MeterRegistry meterRegistry,
+                            @Value("${iban.blocklist.path:}") String source,
+                            @Value("${iban.blocklist.index-path:}") String indexDirectory) {
+        this.source = source.isBlank() ? null : Path.of(source).toAbsolutePath().normalize();
+        this.indexDirectory = indexDirectory.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"))
+                : Path.of(indexDirectory).toAbsolutePath().normalize();
+
+        FunctionCounter.builder("iban.blocklist.screenings", clean, LongAdder::sum).tag("result", "clean")
+                .description("Sperrlistenprüfungen gültiger IBANs").register(meterRegistry);
+        FunctionCounter.builder("iban.blocklist.screenings", falsePositives, LongAdder::sum)
+                .tag("result", "false_positive")
+                .description("Sperrlistenprüfungen gültiger IBANs").register(meterRegistry);
+        FunctionCounter.builder("iban.blocklist.screenings", matches, LongAdder::sum).tag("result", "match")
+                .description("Sperrlistenprüfungen gültiger IBANs").register(meterRegistry);
+        Gauge.builder("iban.blocklist.entries", this, service -> service.current.size())
+                .description("Einträge der aktiven Sperrliste").register(meterRegistry);
+        this.successfulReloads = Counter.builder("iban.blocklist.reloads").tag("outcome", "success")
+                .register(meterRegistry);
+        this.failedReloads = Counter.builder("iban.blocklist.reloads").tag("outcome", "failure")
+                .register(meterRegistry);
+        this.reloadDuration = Timer.builder("iban.blocklist.reload.duration").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (source == null) {
+            log.info("Keine Sperrliste konfiguriert (iban.blocklist.path)");
+            return;
+        }
+        try {
+            reload();
+        } catch (BlocklistException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${iban.blocklist.reload-interval:PT1M}")
+    public void reloadIfChanged() {
+        if (source == null) {
+            return;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+            if (attributes.lastModifiedTime().equals(loadedModified) && attributes.size() == loadedSize) {
+                return;
+            }
+            log.info("Sperrliste {} geändert, lade neu", source);
+            reload();
+        } catch (IOException | BlocklistException e) {
+            log.warn("Sperrliste {} nicht neu geladen: {}", source, e.getMessage());
+        }
+    }
+
+    public synchronized BlocklistStatus reload() {
+        if (source == null) {
+            throw new BlocklistException("Keine Sperrliste konfiguriert (iban.blocklist.path)");
+        }
+        long started = System.nanoTime();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+            IbanBlocklist next = IbanBlocklist.load(source, indexDirectory);
+            int previous = current.size();
+            current = next;
+            generation++;
+            loadedModified = attributes.lastModifiedTime();
+            loadedSize = attributes.size();
+            successfulReloads.increment();
+            log.info("Sperrliste {} geladen: {} Einträge (vorher {}), {} ungültige Zeilen", source, next.size(),
+                    previous, next.getRejected());
+            return status();
+        } catch (IOException | RuntimeException e) {
+            failedReloads.increment();
+            throw new BlocklistException("Sperrliste " + source + " konnte nicht geladen werden: " + e.getMessage());
+        } finally {
+            reloadDuration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public boolean isBlocked(String normalizedIban) {
+        IbanBlocklist blocklist = current;
+        if (blocklist.isEmpty()) {
+            return false;
+        }
+        PackedIban iban = PackedIban.pack(normalizedIban);
+        if (iban == null || !blocklist.mightContain(iban)) {
+            clean.increment();
+            return false;
+        }
+        if (blocklist.contains(iban)) {
+            matches.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public BlocklistStatus status() {
+        IbanBlocklist blocklist = current;
+        BlocklistStatus status = new BlocklistStatus();
+        status.setEnabled(source != null);
+        status.setSource(source != null ? source.toString() : null);
+        status.setEntries(blocklist.size());
+        status.setRejected(blocklist.getRejected());
+        status.setLoadedAt(blocklist.getSource() != null ? blocklist.getLoadedAt() : null);
+        return status;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanValidationRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final HotKeyTracker hotKeyTracker;
+    private final BankDirectory bankDirectory;
+    private final IbanService ibanService;
+
+    public CacheWarmer(HotKeyTracker hotKeyTracker, BankDirectory bankDirectory, IbanService ibanService) {
+        this.hotKeyTracker = hotKeyTracker;
+        this.bankDirectory = bankDirectory;
+        this.ibanService = ibanService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void warmUp() {
+        long started = System.nanoTime();
+        HotKeyTracker.HotKeys hotKeys = hotKeyTracker.restore();
+        DirectorySnapshot directory = bankDirectory.current();
+
+        int banks = 0;
+        for (HeavyHitters.Entry entry : hotKeys.banks()) {
+            int separator = entry.key().indexOf(':');
+            if (separator > 0 && directory.findByBankCodeAndCountryCode(entry.key().substring(separator + 1),
+                    entry.key().substring(0, separator)).isPresent()) {
+                banks++;
+            }
+        }
+        for (HeavyHitters.Entry entry : hotKeys.ibans()) {
+            ibanService.validateUntracked(new IbanValidationRequest(entry.key()));
+        }
+
+        log.info("Caches vorgewärmt: {} IBANs, {} von {} Bankleitzahlen bekannt in {} ms", hotKeys.ibans().size(),
+                banks, hotKeys.banks().size(), (System.nanoTime() - started) / 1_000_000);
+    }
+}
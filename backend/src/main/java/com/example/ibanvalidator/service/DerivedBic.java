@@ -0,0 +1,12 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+
+public record DerivedBic(String bic, Bank bank, Source source) {
+
+    public enum Source {
+        BRANCH,
+        BANK,
+        PRIMARY_OFFICE
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+
+import java.util.List;
+
+public record DirectoryDelta(
+        List<Bank> inserts,
+        List<Update> updates,
+        List<Bank> deletes,
+        int unchanged
+) {
+
+    public record Update(Bank existing, Bank incoming, List<String> changedFields) {
+    }
+
+    public boolean isEmpty() {
+        return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+    }
+}
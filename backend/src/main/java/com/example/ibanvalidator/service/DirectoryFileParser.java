@@ -0,0 +1,163 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.constants.ValidationConstants;
+import com.example.ibanvalidator.exception.DirectoryImportException;
+import com.example.ibanvalidator.model.Bank;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class DirectoryFileParser {
+
+    private static final int MAX_REPORTED_ERRORS = 50;
+
+    private DirectoryFileParser() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static List<Bank> parse(InputStream input) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<Bank> parse(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        while (header != null && header.isBlank()) {
+            header = reader.readLine();
+        }
+        if (header == null) {
+            throw new DirectoryImportException("Verzeichnisdatei ist leer");
+        }
+
+        char delimiter = header.indexOf(';') >= 0 ? ';' : ',';
+        int[] columns = resolveColumns(split(stripBom(header), delimiter));
+
+        List<Bank> banks = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        int lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = split(line, delimiter);
+            if (fields.size() <= max(columns)) {
+                addError(errors, lineNumber, "zu wenige Spalten");
+                continue;
+            }
+            String name = fields.get(columns[0]).trim();
+            String bic = fields.get(columns[1]).trim().toUpperCase(Locale.ROOT);
+            String bankCode = fields.get(columns[2]).trim();
+            String countryCode = fields.get(columns[3]).trim().toUpperCase(Locale.ROOT);
+            String checkDigitMethod = columns[4] >= 0 ? fields.get(columns[4]).trim().toUpperCase(Locale.ROOT) : "";
+
+            String error = validate(name, bic, bankCode, countryCode);
+            if (error == null && !checkDigitMethod.isEmpty() && !GermanCheckDigitEngine.isMethodCode(checkDigitMethod)) {
+                error = "ungültiges Prüfzifferverfahren";
+            }
+            if (error != null) {
+                addError(errors, lineNumber, error);
+                continue;
+            }
+            Bank bank = new Bank(name, bic, bankCode, countryCode);
+            bank.setCheckDigitMethod(checkDigitMethod.isEmpty() ? null : checkDigitMethod);
+            banks.add(bank);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new DirectoryImportException("Verzeichnisdatei enthält ungültige Zeilen", errors);
+        }
+        return banks;
+    }
+
+    private static int[] resolveColumns(List<String> header) {
+        int[] columns = {-1, -1, -1, -1, -1};
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            switch (column) {
+                case "name" -> columns[0] = i;
+                case "bic" -> columns[1] = i;
+                case "bankcode" -> columns[2] = i;
+                case "countrycode" -> columns[3] = i;
+                case "checkdigitmethod" -> columns[4] = i;
+                default -> { }
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            if (columns[i] < 0) {
+                throw new DirectoryImportException(
+                        "Kopfzeile muss die Spalten name, bic, bankCode und countryCode enthalten");
+            }
+        }
+        return columns;
+    }
+
+    private static String validate(String name, String bic, String bankCode, String countryCode) {
+        if (name.length() < ValidationConstants.BANK_NAME_MIN_LENGTH || name.length() > ValidationConstants.BANK_NAME_MAX_LENGTH) {
+            return "ungültiger Bankname";
+        }
+        if (bic.length() < ValidationConstants.BIC_MIN_LENGTH || bic.length() > ValidationConstants.BIC_MAX_LENGTH) {
+            return "BIC muss " + ValidationConstants.BIC_MIN_LENGTH + "-" + ValidationConstants.BIC_MAX_LENGTH + " Zeichen lang sein";
+        }
+        if (bankCode.length() < ValidationConstants.BANK_CODE_MIN_LENGTH || bankCode.length() > ValidationConstants.BANK_CODE_MAX_LENGTH) {
+            return "ungültige Bankleitzahl";
+        }
+        if (countryCode.length() != ValidationConstants.COUNTRY_CODE_LENGTH) {
+            return "ungültiger Ländercode";
+        }
+        return null;
+    }
+
+    static List<String> split(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == delimiter && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String stripBom(String header) {
+        return !header.isEmpty() && header.charAt(0) == '\uFEFF' ? header.substring(1) : header;
+    }
+
+    private static void addError(List<String> errors, int lineNumber, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("Zeile " + lineNumber + ": " + message);
+        }
+    }
+
+    private static int max(int[] values) {
+        int max = values[0];
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+}
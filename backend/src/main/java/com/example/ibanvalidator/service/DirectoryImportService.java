@@ -0,0 +1,213 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.DirectoryImportReport;
+import com.example.ibanvalidator.exception.DirectoryImportException;
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.repository.BankRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+public class DirectoryImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectoryImportService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO banks (name, bic, bank_code, country_code, check_digit_method) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE banks SET name = ?, bic = ?, bank_code = ?, country_code = ?, check_digit_method = ? WHERE id = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM banks WHERE id = ?";
+
+    private final BankRepository bankRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxReportedChanges;
+
+    public DirectoryImportService(BankRepository bankRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${iban.directory.import.batch-size:500}") int batchSize,
+                                  @Value("${iban.directory.import.max-reported-changes:1000}") int maxReportedChanges) {
+        this.bankRepository = bankRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxReportedChanges = maxReportedChanges;
+    }
+
+    @Transactional
+    public DirectoryImportReport importFile(InputStream input, boolean dryRun) {
+        long start = System.nanoTime();
+        List<Bank> incoming = DirectoryFileParser.parse(input);
+        log.info("Delta-Import gestartet: {} Einträge in Datei, Probelauf={}", incoming.size(), dryRun);
+
+        DirectoryDelta delta = computeDelta(bankRepository.findAll(), incoming);
+        if (!dryRun && !delta.isEmpty()) {
+            apply(delta);
+            eventPublisher.publishEvent(new BankDirectoryChangedEvent("Delta-Import"));
+        }
+
+        DirectoryImportReport report = toReport(delta, incoming.size(), dryRun);
+        report.setDurationMs((System.nanoTime() - start) / 1_000_000);
+        log.info("Delta-Import abgeschlossen: {} neu, {} geändert, {} gelöscht, {} unverändert in {}ms",
+                report.getInserted(), report.getUpdated(), report.getDeleted(), report.getUnchanged(),
+                report.getDurationMs());
+        return report;
+    }
+
+    @Transactional
+    public DirectoryDelta replaceDirectory(List<Bank> incoming) {
+        DirectoryDelta delta = computeDelta(bankRepository.findAll(), incoming);
+        apply(delta);
+        return delta;
+    }
+
+    public DirectoryDelta computeDelta(List<Bank> current, List<Bank> incoming) {
+        Map<String, Bank> currentByBic = new HashMap<>(current.size() * 2);
+        Map<String, List<Bank>> currentByBankCode = new HashMap<>(current.size() * 2);
+        for (Bank bank : current) {
+            currentByBic.put(bank.getBic(), bank);
+            currentByBankCode.computeIfAbsent(bankCodeKey(bank), key -> new ArrayList<>(1)).add(bank);
+        }
+
+        Set<String> incomingBics = new HashSet<>(incoming.size() * 2);
+        for (Bank bank : incoming) {
+            if (!incomingBics.add(bank.getBic())) {
+                throw new DirectoryImportException(
+                        String.format("BIC '%s' ist in der Verzeichnisdatei mehrfach enthalten", bank.getBic()));
+            }
+        }
+
+        Set<Long> matched = new HashSet<>(current.size() * 2);
+        List<Bank> inserts = new ArrayList<>();
+        List<DirectoryDelta.Update> updates = new ArrayList<>();
+        int unchanged = 0;
+
+        for (Bank bank : incoming) {
+            Bank existing = currentByBic.get(bank.getBic());
+            if (existing == null) {
+                existing = findUnmatchedByBankCode(currentByBankCode.get(bankCodeKey(bank)), matched, incomingBics);
+            }
+            if (existing == null) {
+                inserts.add(bank);
+                continue;
+            }
+
+            matched.add(existing.getId());
+            List<String> changedFields = changedFields(existing, bank);
+            if (changedFields.isEmpty()) {
+                unchanged++;
+            } else {
+                updates.add(new DirectoryDelta.Update(existing, bank, changedFields));
+            }
+        }
+
+        List<Bank> deletes = current.stream()
+                .filter(bank -> !matched.contains(bank.getId()))
+                .toList();
+
+        return new DirectoryDelta(inserts, updates, deletes, unchanged);
+    }
+
+    private void apply(DirectoryDelta delta) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, delta.deletes(), batchSize,
+                (ps, bank) -> ps.setLong(1, bank.getId()));
+        jdbcTemplate.batchUpdate(UPDATE_SQL, delta.updates(), batchSize, (ps, update) -> {
+            Bank bank = update.incoming();
+            ps.setString(1, bank.getName());
+            ps.setString(2, bank.getBic());
+            ps.setString(3, bank.getBankCode());
+            ps.setString(4, bank.getCountryCode());
+            ps.setString(5, bank.getCheckDigitMethod());
+            ps.setLong(6, update.existing().getId());
+        });
+        jdbcTemplate.batchUpdate(INSERT_SQL, delta.inserts(), batchSize, (ps, bank) -> {
+            ps.setString(1, bank.getName());
+            ps.setString(2, bank.getBic());
+            ps.setString(3, bank.getBankCode());
+            ps.setString(4, bank.getCountryCode());
+            ps.setString(5, bank.getCheckDigitMethod());
+        });
+    }
+
+    private Bank findUnmatchedByBankCode(List<Bank> candidates, Set<Long> matched, Set<String> incomingBics) {
+        if (candidates == null) {
+            return null;
+        }
+        for (Bank candidate : candidates) {
+            if (!matched.contains(candidate.getId()) && !incomingBics.contains(candidate.getBic())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private List<String> changedFields(Bank existing, Bank incoming) {
+        List<String> fields = new ArrayList<>(4);
+        if (!Objects.equals(existing.getName(), incoming.getName())) {
+            fields.add("name");
+        }
+        if (!Objects.equals(existing.getBic(), incoming.getBic())) {
+            fields.add("bic");
+        }
+        if (!Objects.equals(existing.getBankCode(), incoming.getBankCode())) {
+            fields.add("bankCode");
+        }
+        if (!Objects.equals(existing.getCountryCode(), incoming.getCountryCode())) {
+            fields.add("countryCode");
+        }
+        if (!Objects.equals(existing.getCheckDigitMethod(), incoming.getCheckDigitMethod())) {
+            fields.add("checkDigitMethod");
+        }
+        return fields;
+    }
+
+    private DirectoryImportReport toReport(DirectoryDelta delta, int received, boolean dryRun) {
+        DirectoryImportReport report = new DirectoryImportReport();
+        report.setDryRun(dryRun);
+        report.setReceived(received);
+        report.setInserted(delta.inserts().size());
+        report.setUpdated(delta.updates().size());
+        report.setDeleted(delta.deletes().size());
+        report.setUnchanged(delta.unchanged());
+
+        List<DirectoryImportReport.Change> changes = report.getChanges();
+        for (Bank bank : delta.inserts()) {
+            addChange(changes, "INSERT", bank, List.of());
+        }
+        for (DirectoryDelta.Update update : delta.updates()) {
+            addChange(changes, "UPDATE", update.incoming(), update.changedFields());
+        }
+        for (Bank bank : delta.deletes()) {
+            addChange(changes, "DELETE", bank, List.of());
+        }
+        return report;
+    }
+
+    private void addChange(List<DirectoryImportReport.Change> changes, String type, Bank bank, List<String> fields) {
+        if (changes.size() < maxReportedChanges) {
+            changes.add(new DirectoryImportReport.Change(type, bank.getBic(), bank.getBankCode(),
+                    bank.getCountryCode(), bank.getName(), fields));
+        }
+    }
+
+    private static String bankCodeKey(Bank bank) {
+        return bank.getCountryCode() + bank.getBankCode();
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BankRequest;
+import com.example.ibanvalidator.dto.DirectoryReleaseRequest;
+import com.example.ibanvalidator.dto.DirectoryReleaseResponse;
+import com.example.ibanvalidator.exception.DirectoryReleaseConflictException;
+import com.example.ibanvalidator.exception.DirectoryReleaseNotFoundException;
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.model.DirectoryEntry;
+import com.example.ibanvalidator.model.DirectoryRelease;
+import com.example.ibanvalidator.repository.DirectoryEntryRepository;
+import com.example.ibanvalidator.repository.DirectoryReleaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+@Service
+public class DirectoryReleaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectoryReleaseService.class);
+
+    private final DirectoryReleaseRepository releaseRepository;
+    private final DirectoryEntryRepository entryRepository;
+    private final DirectoryImportService directoryImportService;
+    private final BankDirectory bankDirectory;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    private record Activation(DirectoryRelease release, boolean switched) {
+    }
+
+    private final Map<Long, ScheduledFuture<?>> scheduledActivations = new ConcurrentHashMap<>();
+
+    public DirectoryReleaseService(DirectoryReleaseRepository releaseRepository,
+                                   DirectoryEntryRepository entryRepository,
+                                   DirectoryImportService directoryImportService,
+                                   BankDirectory bankDirectory,
+                                   TaskScheduler taskScheduler,
+                                   TransactionTemplate transactionTemplate) {
+        this.releaseRepository = releaseRepository;
+        this.entryRepository = entryRepository;
+        this.directoryImportService = directoryImportService;
+        this.bankDirectory = bankDirectory;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Transactional
+    public DirectoryReleaseResponse stageRelease(DirectoryReleaseRequest request) {
+        log.debug("Merke Verzeichnis-Release vor: Version={}, gültig ab {}", request.getVersion(), request.getValidFrom());
+
+        if (releaseRepository.findByVersion(request.getVersion()).isPresent()) {
+            throw new DirectoryReleaseConflictException(
+                    String.format("Verzeichnis-Release '%s' existiert bereits", request.getVersion()));
+        }
+        if (bankDirectory.isStaged(request.getValidFrom())) {
+            throw new DirectoryReleaseConflictException(
+                    String.format("Für %s ist bereits ein Verzeichnis-Release vorgemerkt", request.getValidFrom()));
+        }
+
+        Set<String> bics = new HashSet<>();
+        for (BankRequest bank : request.getBanks()) {
+            if (!bics.add(bank.getBic())) {
+                throw new DirectoryReleaseConflictException(
+                        String.format("BIC '%s' ist im Release mehrfach enthalten", bank.getBic()));
+            }
+        }
+
+        DirectoryRelease release = releaseRepository.save(
+                new DirectoryRelease(request.getVersion(), request.getValidFrom(), request.getBanks().size()));
+
+        List<DirectoryEntry> entries = request.getBanks().stream()
+                .map(bank -> {
+                    DirectoryEntry entry = new DirectoryEntry(release.getId(), bank.getName(), bank.getBic(),
+                            bank.getBankCode(), bank.getCountryCode());
+                    entry.setCheckDigitMethod(bank.getCheckDigitMethod());
+                    return entry;
+                })
+                .toList();
+        entryRepository.saveAll(entries);
+
+        DirectorySnapshot snapshot = buildSnapshot(release, entries);
+        afterCommit(() -> schedule(release, snapshot));
+
+        log.info("Verzeichnis-Release vorgemerkt: ID={}, Version={}, {} Banken",
+                release.getId(), release.getVersion(), entries.size());
+        return DirectoryReleaseResponse.fromEntity(release);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DirectoryReleaseResponse> getAllReleases() {
+        return releaseRepository.findAllByOrderByValidFromDesc().stream()
+                .map(DirectoryReleaseResponse::fromEntity)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public DirectoryReleaseResponse getRelease(Long id) {
+        return releaseRepository.findById(id)
+                .map(DirectoryReleaseResponse::fromEntity)
+                .orElseThrow(() -> new DirectoryReleaseNotFoundException(id));
+    }
+
+    @Transactional
+    public DirectoryReleaseResponse cancelRelease(Long id) {
+        DirectoryRelease release = releaseRepository.findById(id)
+                .orElseThrow(() -> new DirectoryReleaseNotFoundException(id));
+
+        if (release.getStatus() != DirectoryRelease.Status.STAGED) {
+            throw new DirectoryReleaseConflictException(
+                    String.format("Verzeichnis-Release '%s' ist nicht mehr vorgemerkt (Status %s)",
+                            release.getVersion(), release.getStatus()));
+        }
+
+        release.setStatus(DirectoryRelease.Status.CANCELLED);
+        entryRepository.deleteByReleaseId(id);
+
+        afterCommit(() -> {
+            ScheduledFuture<?> activation = scheduledActivations.remove(id);
+            if (activation != null) {
+                activation.cancel(false);
+            }
+            bankDirectory.unstage(release);
+        });
+
+        log.info("Verzeichnis-Release storniert: ID={}, Version={}", id, release.getVersion());
+        return DirectoryReleaseResponse.fromEntity(release);
+    }
+
+    public void activate(Long releaseId) {
+        scheduledActivations.remove(releaseId);
+
+        Activation activation = transactionTemplate.execute(status -> {
+            if (releaseRepository.markActive(releaseId, Instant.now(), DirectoryRelease.Status.STAGED,
+                    DirectoryRelease.Status.ACTIVE) == 0) {
+                return releaseRepository.findById(releaseId)
+                        .map(release -> new Activation(release, false))
+                        .orElse(null);
+            }
+            DirectoryRelease release = releaseRepository.findById(releaseId).orElseThrow();
+
+            for (DirectoryRelease previous : releaseRepository.findByStatusOrderByValidFromAsc(DirectoryRelease.Status.ACTIVE)) {
+                if (!previous.getId().equals(releaseId)) {
+                    previous.setStatus(DirectoryRelease.Status.SUPERSEDED);
+                }
+            }
+
+            List<Bank> banks = entryRepository.findByReleaseId(releaseId).stream()
+                    .map(DirectoryEntry::toBank)
+                    .toList();
+            DirectoryDelta delta = directoryImportService.replaceDirectory(banks);
+            log.info("Verzeichnis-Release {} übernommen: {} neu, {} geändert, {} gelöscht",
+                    release.getVersion(), delta.inserts().size(), delta.updates().size(), delta.deletes().size());
+
+            return new Activation(release, true);
+        });
+
+        if (activation == null) {
+            return;
+        }
+        if (activation.switched()) {
+            bankDirectory.activated(activation.release());
+            return;
+        }
+        log.info("Verzeichnis-Release {} wurde bereits anderweitig übernommen (Status {}), lade Verzeichnis neu",
+                activation.release().getVersion(), activation.release().getStatus());
+        bankDirectory.unstage(activation.release());
+        bankDirectory.reload();
+    }
+
+    @Scheduled(fixedDelayString = "${iban.directory.activation-check-interval:PT1M}")
+    public void activateDueReleases() {
+        Instant now = Instant.now();
+        for (DirectoryRelease release : releaseRepository.findByStatusOrderByValidFromAsc(DirectoryRelease.Status.STAGED)) {
+            if (release.getValidFrom().isAfter(now)) {
+                break;
+            }
+            log.info("Verzeichnis-Release {} ist fällig, aktiviere", release.getVersion());
+            activate(release.getId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreStagedReleases() {
+        activateDueReleases();
+
+        for (DirectoryRelease release : releaseRepository.findByStatusOrderByValidFromAsc(DirectoryRelease.Status.STAGED)) {
+            schedule(release, buildSnapshot(release, entryRepository.findByReleaseId(release.getId())));
+        }
+    }
+
+    private void schedule(DirectoryRelease release, DirectorySnapshot snapshot) {
+        bankDirectory.stage(release, snapshot);
+        scheduledActivations.put(release.getId(),
+                taskScheduler.schedule(() -> activate(release.getId()), release.getValidFrom()));
+    }
+
+    private DirectorySnapshot buildSnapshot(DirectoryRelease release, List<DirectoryEntry> entries) {
+        return DirectorySnapshot.of(release.getVersion(), release.getValidFrom(),
+                entries.stream().map(DirectoryEntry::toBank).toList());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
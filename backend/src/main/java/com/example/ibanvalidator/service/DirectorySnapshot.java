@@ -0,0 +1,130 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.config.IbanCountryConfig;
+import com.example.ibanvalidator.config.IbanCountryConfig.CountryFormat;
+import com.example.ibanvalidator.model.Bank;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class DirectorySnapshot {
+
+    public static final String LIVE_VERSION = "live";
+
+    private final String version;
+    private final Instant validFrom;
+    private final List<Bank> banks;
+    private final Map<String, List<Bank>> byBankCode;
+    private final Map<String, DerivedBic> derivedBics;
+    private final BicIndex bicIndex;
+
+    private DirectorySnapshot(String version, Instant validFrom, List<Bank> banks) {
+        this.version = version;
+        this.validFrom = validFrom;
+        this.banks = banks;
+        this.byBankCode = new HashMap<>(banks.size() * 2);
+        for (Bank bank : banks) {
+            byBankCode.computeIfAbsent(bankCodeKey(bank.getBankCode(), bank.getCountryCode()), key -> new ArrayList<>(1))
+                    .add(bank);
+        }
+        this.derivedBics = new HashMap<>(byBankCode.size() * 2);
+        for (Map.Entry<String, List<Bank>> entry : byBankCode.entrySet()) {
+            DerivedBic derived = derive(entry.getValue());
+            if (derived != null) {
+                derivedBics.put(entry.getKey(), derived);
+            }
+        }
+        this.bicIndex = new BicIndex(banks);
+    }
+
+    public static DirectorySnapshot of(String version, Instant validFrom, Collection<Bank> banks) {
+        return new DirectorySnapshot(version, validFrom, List.copyOf(banks));
+    }
+
+    public static DirectorySnapshot empty() {
+        return of(LIVE_VERSION, null, List.of());
+    }
+
+    public Optional<Bank> findByBankCodeAndCountryCode(String bankCode, String countryCode) {
+        List<Bank> candidates = byBankCode.get(bankCodeKey(bankCode, countryCode));
+        return candidates != null ? Optional.of(candidates.get(0)) : Optional.empty();
+    }
+
+    public List<Bank> findAllByBankCodeAndCountryCode(String bankCode, String countryCode) {
+        return byBankCode.getOrDefault(bankCodeKey(bankCode, countryCode), List.of());
+    }
+
+    public Optional<DerivedBic> deriveBic(String countryCode, String bankCode, String branchCode) {
+        if (branchCode != null && !branchCode.isEmpty()) {
+            DerivedBic branch = derivedBics.get(bankCodeKey(bankCode + branchCode, countryCode));
+            if (branch != null) {
+                return Optional.of(branch);
+            }
+        }
+        return Optional.ofNullable(derivedBics.get(bankCodeKey(bankCode, countryCode)));
+    }
+
+    public Optional<Bank> findByBic(String bic) {
+        int index = bicIndex.findExact(bic);
+        return index == BicIndex.NOT_FOUND ? Optional.empty() : Optional.of(banks.get(index));
+    }
+
+    public Optional<BicMatch> resolveBic(String bic) {
+        int result = bicIndex.find(bic);
+        if (result == BicIndex.NOT_FOUND) {
+            return Optional.empty();
+        }
+        return Optional.of(new BicMatch(banks.get(BicIndex.indexOf(result)), BicIndex.granularityOf(result)));
+    }
+
+    public List<Bank> getBanks() {
+        return banks;
+    }
+
+    public int size() {
+        return banks.size();
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Instant getValidFrom() {
+        return validFrom;
+    }
+
+    private static DerivedBic derive(List<Bank> candidates) {
+        Bank first = candidates.get(0);
+        if (candidates.size() == 1) {
+            return new DerivedBic(first.getBic(), first, isBranchLevel(first) ? DerivedBic.Source.BRANCH : DerivedBic.Source.BANK);
+        }
+
+        for (Bank candidate : candidates) {
+            String bic = candidate.getBic();
+            if (bic.length() == 8 || bic.endsWith("XXX")) {
+                return new DerivedBic(bic, candidate, DerivedBic.Source.PRIMARY_OFFICE);
+            }
+        }
+        for (Bank candidate : candidates) {
+            if (!candidate.getBic().regionMatches(0, first.getBic(), 0, 8)) {
+                return null;
+            }
+        }
+        return new DerivedBic(first.getBic().substring(0, 8) + "XXX", first, DerivedBic.Source.PRIMARY_OFFICE);
+    }
+
+    private static boolean isBranchLevel(Bank bank) {
+        CountryFormat format = IbanCountryConfig.getFormat(bank.getCountryCode());
+        return format.branchCodeEnd() > format.bankCodeEnd()
+                && bank.getBankCode().length() == format.branchCodeEnd() - format.bankCodeStart();
+    }
+
+    private static String bankCodeKey(String bankCode, String countryCode) {
+        return countryCode + bankCode;
+    }
+}
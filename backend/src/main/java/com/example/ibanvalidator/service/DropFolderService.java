@@ -0,0 +1,455 @@
+package com.example.ibanvalidator.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@ConditionalOnProperty(name = "iban.drop-folder.enabled", havingValue = "true")
+public class DropFolderService {
+
+    private static final Logger log = LoggerFactory.getLogger(DropFolderService.class);
+
+    private static final String RESULT_SUFFIX = ".result.csv";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private record Observation(long size, Instant modified) {
+    }
+
+    private record Work(InboxFile file, Future<BatchLineValidator.ChunkResult> result) {
+    }
+
+    private static final class InboxFile {
+
+        private final Path path;
+        private final boolean sepa;
+        private final Instant landedAt;
+        private volatile boolean started;
+        private volatile Exception failure;
+        private DirectorySnapshot directory;
+        private long startedNanos;
+        private Path temp;
+        private BufferedWriter out;
+        private long lines;
+        private long valid;
+        private long chunkDuplicates;
+
+        private InboxFile(Path path, boolean sepa, Instant landedAt) {
+            this.path = path;
+            this.sepa = sepa;
+            this.landedAt = landedAt;
+        }
+    }
+
+    private final BatchLineValidator lineValidator;
+    private final SepaValidationService sepaValidationService;
+    private final BankDirectory bankDirectory;
+    private final Path inbox;
+    private final Path archive;
+    private final Path error;
+    private final Path processing;
+    private final int chunkSize;
+
+    private final BlockingQueue<InboxFile> files;
+    private final BlockingQueue<Work> pending;
+    private final ExecutorService workers;
+    private final Map<Path, Observation> observed = new ConcurrentHashMap<>();
+    private final Map<Path, InboxFile> tracked = new ConcurrentHashMap<>();
+    private final Thread reader;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Counter archivedFiles;
+    private final Counter failedFiles;
+    private final Counter validLines;
+    private final Counter invalidLines;
+    private final Timer fileDuration;
+
+    public DropFolderService(BatchLineValidator lineValidator,
+                             SepaValidationService sepaValidationService,
+                             BankDirectory bankDirectory,
+                             MeterRegistry meterRegistry,
+                             @Value("${iban.drop-folder.path:./drop}") String inbox,
+                             @Value("${iban.drop-folder.archive-path:}") String archive,
+                             @Value("${iban.drop-folder.error-path:}") String error,
+                             @Value("${iban.drop-folder.processing-path:}") String processing,
+                             @Value("${iban.drop-folder.workers:2}") int workers,
+                             @Value("${iban.drop-folder.chunk-size:1000}") int chunkSize,
+                             @Value("${iban.drop-folder.queue-capacity:16}") int queueCapacity) {
+        this.lineValidator = lineValidator;
+        this.sepaValidationService = sepaValidationService;
+        this.bankDirectory = bankDirectory;
+        this.inbox = Path.of(inbox).toAbsolutePath().normalize();
+        this.archive = archive.isBlank() ? this.inbox.resolve("archive") : Path.of(archive).toAbsolutePath().normalize();
+        this.error = error.isBlank() ? this.inbox.resolve("error") : Path.of(error).toAbsolutePath().normalize();
+        this.processing = processing.isBlank()
+                ? this.inbox.resolve("processing-" + hostName())
+                : Path.of(processing).toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+
+        this.files = new ArrayBlockingQueue<>(queueCapacity);
+        this.pending = new ArrayBlockingQueue<>(workers * 2);
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workers, runnable -> daemon(runnable,
+                "drop-folder-worker-" + workerNumber.incrementAndGet()));
+        this.reader = daemon(this::readLoop, "drop-folder-reader");
+        this.writer = daemon(this::writeLoop, "drop-folder-writer");
+
+        this.archivedFiles = Counter.builder("iban.dropfolder.files").tag("outcome", "archived")
+                .description("Verarbeitete Dateien aus dem Eingangsordner").register(meterRegistry);
+        this.failedFiles = Counter.builder("iban.dropfolder.files").tag("outcome", "failed")
+                .description("Verarbeitete Dateien aus dem Eingangsordner").register(meterRegistry);
+        this.validLines = Counter.builder("iban.dropfolder.lines").tag("result", "valid").register(meterRegistry);
+        this.invalidLines = Counter.builder("iban.dropfolder.lines").tag("result", "invalid").register(meterRegistry);
+        this.fileDuration = Timer.builder("iban.dropfolder.file.duration").register(meterRegistry);
+        Gauge.builder("iban.dropfolder.backlog", tracked, map -> map.values().stream().filter(file -> !file.started).count())
+                .description("Erkannte, noch nicht begonnene Dateien").register(meterRegistry);
+        Gauge.builder("iban.dropfolder.lag", this, service -> service.lag().toMillis() / 1000.0)
+                .description("Wartezeit der ältesten unbearbeiteten Datei in Sekunden").baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(inbox);
+        Files.createDirectories(archive);
+        Files.createDirectories(error);
+        Files.createDirectories(processing);
+        requeueInterrupted();
+        reader.start();
+        writer.start();
+        log.info("Eingangsordner {} wird überwacht (Archiv {}, Fehler {}, in Arbeit {})", inbox, archive, error,
+                processing);
+    }
+
+    private void requeueInterrupted() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(processing)) {
+            for (Path path : stream) {
+                if (path.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                } else if (isInput(path)) {
+                    Files.move(path, target(inbox, path), StandardCopyOption.ATOMIC_MOVE);
+                    log.warn("Unterbrochene Datei {} wird erneut eingereiht", path.getFileName());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        reader.interrupt();
+        writer.interrupt();
+        workers.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${iban.drop-folder.poll-interval:PT5S}")
+    public void scan() {
+        Set<Path> present = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(inbox)) {
+            for (Path path : stream) {
+                if (!isInput(path)) {
+                    continue;
+                }
+                present.add(path);
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                Observation current = new Observation(attributes.size(), attributes.lastModifiedTime().toInstant());
+                if (!current.equals(observed.put(path, current)) || files.remainingCapacity() == 0) {
+                    continue;
+                }
+                Path claimed = claim(path);
+                observed.remove(path);
+                if (claimed == null) {
+                    continue;
+                }
+                InboxFile file = new InboxFile(claimed, isXml(claimed), current.modified());
+                tracked.put(claimed, file);
+                if (files.offer(file)) {
+                    log.debug("Datei {} im Eingangsordner eingereiht", path.getFileName());
+                } else {
+                    tracked.remove(claimed);
+                    Files.move(claimed, target(inbox, claimed), StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Eingangsordner {} konnte nicht gelesen werden: {}", inbox, e.getMessage());
+        }
+        observed.keySet().retainAll(present);
+    }
+
+    private Path claim(Path path) {
+        Path claimed = processing.resolve(path.getFileName());
+        if (Files.exists(claimed)) {
+            return null;
+        }
+        try {
+            return Files.move(path, claimed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException | FileAlreadyExistsException e) {
+            log.debug("Datei {} wurde bereits von einer anderen Instanz übernommen: {}", path.getFileName(),
+                    e.getMessage());
+            return null;
+        } catch (IOException e) {
+            log.warn("Datei {} konnte nicht nach {} übernommen werden: {}", path.getFileName(), processing,
+                    e.toString());
+            return null;
+        }
+    }
+
+    private static String hostName() {
+        String host = System.getenv("HOSTNAME");
+        if (host != null && !host.isBlank()) {
+            return host;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+
+    Duration lag() {
+        Instant now = Instant.now();
+        Duration lag = Duration.ZERO;
+        for (InboxFile file : tracked.values()) {
+            if (!file.started) {
+                Duration waiting = Duration.between(file.landedAt, now);
+                if (waiting.compareTo(lag) > 0) {
+                    lag = waiting;
+                }
+            }
+        }
+        return lag;
+    }
+
+    private void readLoop() {
+        while (running) {
+            InboxFile file;
+            try {
+                file = files.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            file.started = true;
+            file.startedNanos = System.nanoTime();
+            file.directory = bankDirectory.current();
+            try {
+                read(file);
+            } catch (IOException | RuntimeException e) {
+                file.failure = e;
+            }
+            if (!enqueue(new Work(file, null))) {
+                return;
+            }
+        }
+    }
+
+    private void read(InboxFile file) throws IOException {
+        List<String> chunk = new ArrayList<>(chunkSize);
+        long[] lines = {0};
+        try (InputStream input = Files.newInputStream(file.path)) {
+            if (file.sepa) {
+                sepaValidationService.extract(input, line -> {
+                    chunk.add(line);
+                    if (chunk.size() == chunkSize) {
+                        submit(file, chunk, lines);
+                    }
+                });
+            } else {
+                BufferedReader lineReader = new BufferedReader(
+                        new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+                String line;
+                while ((line = lineReader.readLine()) != null) {
+                    chunk.add(line);
+                    if (chunk.size() == chunkSize) {
+                        submit(file, chunk, lines);
+                    }
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            submit(file, chunk, lines);
+        }
+    }
+
+    private void submit(InboxFile file, List<String> chunk, long[] lines) {
+        List<String> batch = List.copyOf(chunk);
+        long firstLine = lines[0] + 1;
+        lines[0] += batch.size();
+        chunk.clear();
+        Future<BatchLineValidator.ChunkResult> result = workers.submit(() -> file.sepa
+                ? sepaValidationService.validateChunk(batch, file.directory)
+                : lineValidator.validate(batch, firstLine, file.directory));
+        if (!enqueue(new Work(file, result))) {
+            throw new IllegalStateException("Eingangsordner wird beendet");
+        }
+    }
+
+    private boolean enqueue(Work work) {
+        try {
+            pending.put(work);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeLoop() {
+        InboxFile current = null;
+        while (running) {
+            Work work;
+            try {
+                work = pending.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            InboxFile file = work.file();
+            if (file != current) {
+                current = file;
+                open(file);
+            }
+            if (work.result() != null) {
+                write(file, work.result());
+                continue;
+            }
+            finish(file);
+            current = null;
+        }
+    }
+
+    private void open(InboxFile file) {
+        file.temp = file.path.resolveSibling(file.path.getFileName() + RESULT_SUFFIX + TEMP_SUFFIX);
+        try {
+            file.out = Files.newBufferedWriter(file.temp, StandardCharsets.UTF_8);
+            file.out.write(file.sepa ? SepaValidationService.RESULT_HEADER : BatchLineValidator.HEADER);
+            file.out.write('\n');
+        } catch (IOException e) {
+            file.failure = e;
+        }
+    }
+
+    private void write(InboxFile file, Future<BatchLineValidator.ChunkResult> future) {
+        try {
+            BatchLineValidator.ChunkResult result = future.get();
+            if (file.failure == null) {
+                file.out.write(result.output());
+                file.lines += result.lines();
+                file.valid += result.valid();
+                file.chunkDuplicates += result.duplicates();
+            }
+        } catch (ExecutionException e) {
+            file.failure = e.getCause() instanceof Exception cause ? cause : e;
+        } catch (IOException e) {
+            file.failure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            file.failure = e;
+        }
+    }
+
+    private void finish(InboxFile file) {
+        try {
+            if (file.out != null) {
+                file.out.close();
+            }
+            if (file.failure == null) {
+                Files.move(file.temp, inbox.resolve(file.path.getFileName() + RESULT_SUFFIX),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(file.path, target(archive, file.path));
+            }
+        } catch (IOException e) {
+            file.failure = e;
+        }
+
+        long nanos = System.nanoTime() - file.startedNanos;
+        fileDuration.record(Duration.ofNanos(nanos));
+        if (file.failure == null) {
+            archivedFiles.increment();
+            validLines.increment(file.valid);
+            invalidLines.increment(file.lines - file.valid);
+            log.info("Datei {} verarbeitet: {} Zeilen, {} gültig, {} Duplikate innerhalb der Chunks in {} ms", file.path.getFileName(),
+                    file.lines, file.valid, file.chunkDuplicates, nanos / 1_000_000);
+        } else {
+            failedFiles.increment();
+            log.warn("Datei {} fehlgeschlagen, verschoben nach {}: {}", file.path.getFileName(), error,
+                    file.failure.getMessage());
+            try {
+                Files.deleteIfExists(file.temp);
+                Files.move(file.path, target(error, file.path));
+            } catch (IOException e) {
+                log.error("Datei {} konnte nicht in den Fehlerordner verschoben werden: {}", file.path, e.getMessage());
+            }
+        }
+        tracked.remove(file.path);
+    }
+
+    private static Path target(Path directory, Path file) {
+        Path target = directory.resolve(file.getFileName());
+        return Files.exists(target)
+                ? directory.resolve(file.getFileName() + "." + System.currentTimeMillis())
+                : target;
+    }
+
+    private static boolean isInput(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return Files.isRegularFile(path) && !name.startsWith(".") && !name.endsWith(RESULT_SUFFIX)
+                && (name.endsWith(".csv") || name.endsWith(".txt") || name.endsWith(".xml"));
+    }
+
+    private static boolean isXml(Path path) {
+        return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".xml");
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,939 @@
+package com.example.ibanvalidator.service;
+
+public final class GermanCheckDigitEngine {
+
+    public enum Result {
+        VALID,
+        INVALID,
+        NOT_SUPPORTED
+    }
+
+    public static final int ACCOUNT_DIGITS = 10;
+    public static final int METHOD_COUNT = 150;
+
+    private static final int VALID = 1;
+    private static final int INVALID = 0;
+    private static final int UNSUPPORTED = -1;
+
+    private static final int PLAIN = 0;
+    private static final int CROSS_SUM = 1;
+    private static final int UNITS = 2;
+
+    private static final int MOD10 = 0;
+    private static final int MOD11 = 1;
+    private static final int MOD11_STRICT = 2;
+    private static final int MOD11_NINE = 3;
+    private static final int MOD11_ONE = 4;
+    private static final int MOD11_INVERTED = 5;
+    private static final int MOD11_REMAINDER = 6;
+    private static final int MOD7 = 7;
+    private static final int MOD9 = 8;
+    private static final int MOD10_UNITS = 9;
+    private static final int MOD11_EXCLUSIVE = 10;
+
+    private static final long NO_BANK_CODE = -1;
+    private static final int BANK_CODE_DIGITS = 8;
+
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L, 10_000_000_000L
+    };
+
+    private static final int[][] M10H = {
+            {0, 1, 5, 9, 3, 7, 4, 8, 2, 6},
+            {0, 1, 7, 6, 9, 8, 3, 2, 5, 4},
+            {0, 1, 8, 4, 6, 2, 9, 5, 7, 3},
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}
+    };
+
+    private static final int[] W21 = {2, 1};
+    private static final int[] W12 = {1, 2};
+    private static final int[] W31 = {3, 1};
+    private static final int[] W371 = {3, 7, 1};
+    private static final int[] W731 = {7, 3, 1};
+    private static final int[] W317 = {3, 1, 7};
+    private static final int[] W3971 = {3, 9, 7, 1};
+    private static final int[] W2_5 = {2, 3, 4, 5};
+    private static final int[] W2_6 = {2, 3, 4, 5, 6};
+    private static final int[] W2_7 = {2, 3, 4, 5, 6, 7};
+    private static final int[] W2_8 = {2, 3, 4, 5, 6, 7, 8};
+    private static final int[] W2_9 = {2, 3, 4, 5, 6, 7, 8, 9};
+    private static final int[] W2_10 = {2, 3, 4, 5, 6, 7, 8, 9, 10};
+    private static final int[] W1_9 = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+    private static final int[] W9_1 = {9, 8, 7, 6, 5, 4, 3, 2, 1};
+    private static final int[] W7_2 = {7, 6, 5, 4, 3, 2};
+    private static final int[] W2_9_1 = {2, 3, 4, 5, 6, 7, 8, 9, 1};
+    private static final int[] W2_9_3 = {2, 3, 4, 5, 6, 7, 8, 9, 3};
+    private static final int[] W2_9_2 = {2, 3, 4, 5, 6, 7, 8, 9, 2};
+    private static final int[] W2_8_78 = {2, 3, 4, 5, 6, 7, 8, 7, 8};
+    private static final int[] W2485 = {2, 4, 8, 5, 10, 9, 7, 3, 6};
+    private static final int[] W371371 = {3, 7, 1, 3, 7, 1};
+    private static final int[] W2_7_2 = {2, 3, 4, 5, 6, 7, 2};
+    private static final int[] W_ESER = {2, 4, 8, 5, 10, 9, 7, 3, 6, 1, 2, 4};
+    private static final int[] W_B9_LONG = {1, 3, 2, 1, 3, 2, 1};
+    private static final int[] W_B9_SHORT = {1, 2, 3, 4, 5, 6};
+    private static final int[] W_E1 = {1, 2, 3, 4, 5, 6, 11, 10, 9};
+
+    private static final int[] TAB_87_A = {0, 4, 3, 2, 6};
+    private static final int[] TAB_87_B = {7, 1, 5, 9, 8};
+    private static final long[] PREFIX_C6 = {
+            4_451_970L, 4_451_981L, 4_451_992L, 4_451_993L, 4_344_992L,
+            4_344_990L, 4_344_991L, 5_499_570L, 4_451_994L, 5_499_579L
+    };
+    private static final long PREFIX_D1 = 436_338L;
+    private static final long PREFIX_D4 = 428_259L;
+    private static final long PREFIX_E2 = 4_383_200L;
+    private static final int E1_ASCII_OFFSET = '0' * 51;
+
+    private static final Rule[] RULES = new Rule[METHOD_COUNT];
+
+    private static final Rule MOD10_POS_4_9 = new Rule(W21, 4, 9, 10, CROSS_SUM, MOD10);
+    private static final Rule MOD10_POS_5_9 = new Rule(W21, 5, 9, 10, CROSS_SUM, MOD10);
+    private static final Rule MOD10_PLAIN_POS_5_9 = new Rule(W21, 5, 9, 10, PLAIN, MOD10);
+    private static final Rule MOD11_POS_3_9 = new Rule(W2_8, 3, 9, 10, PLAIN, MOD11);
+    private static final Rule MOD7_POS_4_9 = new Rule(W2_7, 4, 9, 10, PLAIN, MOD7);
+    private static final Rule MOD7_POS_5_9 = new Rule(W2_6, 5, 9, 10, PLAIN, MOD7);
+    private static final Rule MOD7_W21_POS_4_9 = new Rule(W21, 4, 9, 10, PLAIN, MOD7);
+    private static final Rule MOD7_W21_POS_5_9 = new Rule(W21, 5, 9, 10, PLAIN, MOD7);
+    private static final Rule MOD9_POS_5_9 = new Rule(W2_6, 5, 9, 10, PLAIN, MOD9);
+    private static final Rule LUHN_POS_1_8 = new Rule(W21, 1, 8, 9, CROSS_SUM, MOD10);
+    private static final Rule SUM_16 = new Rule(W2_7, 1, 9, 10, PLAIN, MOD11);
+    private static final Rule SUM_17 = new Rule(W21, 2, 7, 8, CROSS_SUM, MOD10);
+    private static final Rule SUM_C1 = new Rule(W12, 1, 9, 10, CROSS_SUM, MOD10);
+    private static final Rule RULE_89 = new Rule(W2_7, 4, 9, 10, CROSS_SUM, MOD11);
+    private static final Rule SUM_23 = new Rule(W2_7, 1, 6, 7, PLAIN, MOD11);
+    private static final Rule SUM_25 = new Rule(W2_9, 2, 9, 10, PLAIN, MOD11);
+    private static final Rule SUM_35 = new Rule(W2_10, 1, 9, 10, PLAIN, MOD11);
+    private static final Rule RULE_61 = Rule.positional(8, CROSS_SUM, MOD10, 2, 1, 2, 1, 2, 1, 2, 0, 1, 2);
+    private static final Rule RULE_65 = Rule.positional(8, CROSS_SUM, MOD10, 2, 1, 2, 1, 2, 1, 2, 0, 2, 1);
+    private static final Rule RULE_68_SHORT = Rule.positional(10, CROSS_SUM, MOD10, 2, 0, 0, 1, 2, 1, 2, 1, 2, 0);
+    private static final Rule RULE_77_A = Rule.positional(10, PLAIN, MOD10, 0, 0, 0, 0, 0, 5, 4, 3, 2, 1);
+    private static final Rule RULE_77_B = Rule.positional(10, PLAIN, MOD10, 0, 0, 0, 0, 0, 5, 4, 3, 4, 5);
+    private static final Rule RULE_79_SHORT = LUHN_POS_1_8;
+    private static final Rule RULE_91_A = new Rule(W2_7, 1, 6, 7, PLAIN, MOD11);
+    private static final Rule RULE_91_B = new Rule(W7_2, 1, 6, 7, PLAIN, MOD11);
+    private static final Rule RULE_91_C = Rule.positional(7, PLAIN, MOD11, 10, 9, 8, 7, 6, 5, 0, 4, 3, 2);
+    private static final Rule RULE_91_D = new Rule(W2485, 1, 6, 7, PLAIN, MOD11);
+    private static final Rule RULE_98 = new Rule(W317, 3, 9, 10, PLAIN, MOD10);
+    private static final Rule RULE_A1 = new Rule(W21, 3, 9, 10, CROSS_SUM, MOD10);
+    private static final Rule RULE_54 = new Rule(W2_7_2, 3, 9, 10, PLAIN, MOD11_EXCLUSIVE);
+    private static final Rule RULE_57_A = new Rule(W12, 1, 9, 10, CROSS_SUM, MOD10);
+    private static final Rule RULE_57_B = Rule.positional(3, CROSS_SUM, MOD10, 1, 2, 0, 1, 2, 1, 2, 1, 2, 1);
+    private static final Rule RULE_75_SHORT = MOD10_POS_5_9;
+    private static final Rule RULE_75_LONG = new Rule(W21, 2, 6, 7, CROSS_SUM, MOD10);
+    private static final Rule RULE_75_LONG_9 = new Rule(W21, 3, 7, 8, CROSS_SUM, MOD10);
+    private static final Rule RULE_93_HIGH_MOD11 = new Rule(W2_6, 1, 5, 6, PLAIN, MOD11);
+    private static final Rule RULE_93_HIGH_MOD7 = new Rule(W2_6, 1, 5, 6, PLAIN, MOD7);
+    private static final Rule RULE_93_LOW_MOD11 = new Rule(W2_6, 5, 9, 10, PLAIN, MOD11);
+    private static final Rule RULE_93_LOW_MOD7 = MOD7_POS_5_9;
+    private static final Rule RULE_PREFIXED = new Rule(W21, 2, 9, 10, CROSS_SUM, MOD10);
+    private static final Rule RULE_D5_MOD7 = new Rule(W2_7, 4, 9, 10, PLAIN, MOD7);
+    private static final Rule RULE_D5_MOD10 = new Rule(W2_7, 4, 9, 10, PLAIN, MOD10);
+    private static final Rule RULE_E1 = new Rule(W_E1, 1, 9, 10, PLAIN, MOD11_REMAINDER);
+
+    private static final int[] PREFIX_SUMS_C6 = new int[PREFIX_C6.length];
+    private static final int PREFIX_SUM_D1 = prefixSum(PREFIX_D1, 1);
+    private static final int PREFIX_SUM_D4 = prefixSum(PREFIX_D4, 1);
+    private static final int[] PREFIX_SUMS_E2 = new int[6];
+
+    static {
+        define("00", new Rule(W21, 1, 9, 10, CROSS_SUM, MOD10));
+        define("01", new Rule(W371, 1, 9, 10, PLAIN, MOD10));
+        define("02", new Rule(W2_9_2, 1, 9, 10, PLAIN, MOD11_STRICT));
+        define("03", new Rule(W21, 1, 9, 10, PLAIN, MOD10));
+        define("04", new Rule(W2_7, 1, 9, 10, PLAIN, MOD11_STRICT));
+        define("05", new Rule(W731, 1, 9, 10, PLAIN, MOD10));
+        define("06", new Rule(W2_7, 1, 9, 10, PLAIN, MOD11));
+        define("07", new Rule(W2_10, 1, 9, 10, PLAIN, MOD11_STRICT));
+        define("10", new Rule(W2_10, 1, 9, 10, PLAIN, MOD11));
+        define("11", new Rule(W2_10, 1, 9, 10, PLAIN, MOD11_NINE));
+        define("14", new Rule(W2_7, 4, 9, 10, PLAIN, MOD11_STRICT));
+        define("15", new Rule(W2_5, 6, 9, 10, PLAIN, MOD11));
+        define("18", new Rule(W3971, 1, 9, 10, PLAIN, MOD10));
+        define("19", new Rule(W2_9_1, 1, 9, 10, PLAIN, MOD11));
+        define("20", new Rule(W2_9_3, 1, 9, 10, PLAIN, MOD11));
+        define("22", new Rule(W31, 1, 9, 10, UNITS, MOD10));
+        define("28", new Rule(W2_8, 1, 7, 8, PLAIN, MOD11));
+        define("30", Rule.positional(10, PLAIN, MOD10, 2, 0, 0, 0, 0, 1, 2, 1, 2, 0));
+        define("31", new Rule(W9_1, 1, 9, 10, PLAIN, MOD11_REMAINDER));
+        define("32", new Rule(W2_7, 4, 9, 10, PLAIN, MOD11));
+        define("33", new Rule(W2_6, 5, 9, 10, PLAIN, MOD11));
+        define("34", new Rule(W2485, 1, 7, 8, PLAIN, MOD11));
+        define("36", new Rule(W2485, 6, 9, 10, PLAIN, MOD11));
+        define("37", new Rule(W2485, 5, 9, 10, PLAIN, MOD11));
+        define("38", new Rule(W2485, 4, 9, 10, PLAIN, MOD11));
+        define("39", new Rule(W2485, 3, 9, 10, PLAIN, MOD11));
+        define("40", new Rule(W2485, 1, 9, 10, PLAIN, MOD11));
+        define("42", new Rule(W2_9, 2, 9, 10, PLAIN, MOD11));
+        define("43", new Rule(W1_9, 1, 9, 10, PLAIN, MOD10));
+        define("44", new Rule(W2485, 5, 9, 10, PLAIN, MOD11));
+        define("46", new Rule(W2_6, 3, 7, 8, PLAIN, MOD11));
+        define("47", new Rule(W2_6, 4, 8, 9, PLAIN, MOD11));
+        define("48", new Rule(W2_7, 3, 8, 9, PLAIN, MOD11));
+        define("50", new Rule(W2_7, 1, 6, 7, PLAIN, MOD11));
+        define("55", new Rule(W2_8_78, 1, 9, 10, PLAIN, MOD11));
+        define("58", new Rule(W2_6, 5, 9, 10, PLAIN, MOD11_STRICT));
+        define("60", new Rule(W21, 3, 9, 10, CROSS_SUM, MOD10));
+        define("62", new Rule(W21, 3, 7, 8, CROSS_SUM, MOD10));
+        define("63", new Rule(W21, 2, 7, 8, CROSS_SUM, MOD10));
+        define("64", new Rule(W2485, 1, 6, 7, PLAIN, MOD11));
+        define("66", Rule.positional(10, PLAIN, MOD11_INVERTED, 0, 7, 0, 0, 6, 5, 4, 3, 2, 0));
+        define("67", new Rule(W21, 1, 7, 8, CROSS_SUM, MOD10));
+        define("71", Rule.positional(10, PLAIN, MOD11_ONE, 0, 6, 5, 4, 3, 2, 1, 0, 0, 0));
+        define("72", MOD10_POS_4_9);
+        define("76", new Rule(W2_7, 2, 7, 8, PLAIN, MOD11_REMAINDER));
+        define("92", new Rule(W371371, 4, 9, 10, PLAIN, MOD10));
+        define("94", new Rule(W12, 1, 9, 10, CROSS_SUM, MOD10));
+        define("A0", new Rule(W2485, 5, 9, 10, PLAIN, MOD11));
+        define("13", new Rule(W21, 2, 7, 8, CROSS_SUM, MOD10));
+        define("26", new Rule(W2_7, 1, 7, 8, PLAIN, MOD11));
+        define("D7", new Rule(W21, 1, 9, 10, CROSS_SUM, MOD10_UNITS));
+
+        for (int i = 0; i < PREFIX_C6.length; i++) {
+            PREFIX_SUMS_C6[i] = prefixSum(PREFIX_C6[i], 2);
+        }
+        for (int i = 0; i < PREFIX_SUMS_E2.length; i++) {
+            PREFIX_SUMS_E2[i] = prefixSum(PREFIX_E2 + i, 2);
+        }
+    }
+
+    private GermanCheckDigitEngine() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static Result check(CharSequence method, CharSequence accountNumber) {
+        return check(method, null, accountNumber);
+    }
+
+    public static Result check(CharSequence method, CharSequence bankCode, CharSequence accountNumber) {
+        int index = methodIndex(method);
+        if (index < 0) {
+            return Result.NOT_SUPPORTED;
+        }
+        long account = parseAccount(accountNumber);
+        if (account <= 0) {
+            return Result.INVALID;
+        }
+        long blz = bankCode != null && bankCode.length() == BANK_CODE_DIGITS ? parseAccount(bankCode) : NO_BANK_CODE;
+        return switch (evaluate(method.toString(), index, account, blz)) {
+            case VALID -> Result.VALID;
+            case INVALID -> Result.INVALID;
+            default -> Result.NOT_SUPPORTED;
+        };
+    }
+
+    public static boolean isMethodCode(CharSequence method) {
+        return methodIndex(method) >= 0;
+    }
+
+    static int methodIndex(CharSequence method) {
+        if (method == null || method.length() != 2) {
+            return -1;
+        }
+        char high = method.charAt(0);
+        char low = method.charAt(1);
+        if (low < '0' || low > '9') {
+            return -1;
+        }
+        int tens;
+        if (high >= '0' && high <= '9') {
+            tens = high - '0';
+        } else if (high >= 'A' && high <= 'E') {
+            tens = 10 + high - 'A';
+        } else {
+            return -1;
+        }
+        return tens * 10 + low - '0';
+    }
+
+    private static long parseAccount(CharSequence accountNumber) {
+        if (accountNumber == null || accountNumber.length() == 0 || accountNumber.length() > ACCOUNT_DIGITS) {
+            return -1;
+        }
+        long account = 0;
+        for (int i = 0; i < accountNumber.length(); i++) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            account = account * 10 + (c - '0');
+        }
+        return account;
+    }
+
+    private static int evaluate(String method, int index, long a, long blz) {
+        Rule rule = RULES[index];
+        if (rule != null && !hasVariants(method)) {
+            return result(rule.matches(a));
+        }
+        return switch (method) {
+            case "08" -> a < 60_000L ? VALID : is("00", a);
+            case "09" -> VALID;
+            case "13" -> result(rule.matches(a) || (leadingZeros(a, 2) && rule.matches(shift(a, 2))));
+            case "16" -> result(matchesRepeatedDigit(SUM_16, a));
+            case "17" -> result(check17(a));
+            case "21" -> result(check21(a));
+            case "23" -> result(matchesRepeatedDigit(SUM_23, a));
+            case "24" -> result(check24(a));
+            case "25" -> result(check25(a));
+            case "26" -> result(rule.matches(leadingZeros(a, 2) ? shift(a, 2) : a));
+            case "27" -> a < 1_000_000_000L ? is("00", a) : result(m10h(a));
+            case "29" -> result(m10h(a));
+            case "35" -> result(check35(a));
+            case "41" -> digit(a, 4) == 9 ? result(MOD10_POS_4_9.matches(a)) : is("00", a);
+            case "45" -> digit(a, 1) == 0 || digit(a, 5) == 1 ? VALID : is("00", a);
+            case "49" -> first("00", "01", a);
+            case "50" -> result(rule.matches(a) || (leadingZeros(a, 3) && rule.matches(shift(a, 3))));
+            case "51" -> result(check51(a));
+            case "52" -> check52(a, blz);
+            case "53" -> check53(a, blz);
+            case "54" -> result(isPrefix(a, 49, 49, 2) && RULE_54.matches(a));
+            case "56" -> result(check56(a));
+            case "57" -> check57(a);
+            case "59" -> a < 100_000_000L ? VALID : is("00", a);
+            case "61" -> result(digit(a, 9) == 8 ? RULE_61.matches(a) : is("67", a) == VALID);
+            case "63" -> result(digit(a, 1) == 0
+                    && (rule.matches(a) || (leadingZeros(a, 3) && rule.matches(shift(a, 2)))));
+            case "65" -> result(digit(a, 9) == 9 ? RULE_65.matches(a) : is("67", a) == VALID);
+            case "66" -> digit(a, 2) == 9 ? VALID : result(rule.matches(a));
+            case "68" -> check68(a);
+            case "69" -> check69(a);
+            case "70" -> digit(a, 4) == 5 || (digit(a, 4) == 6 && digit(a, 5) == 9) ? is("32", a) : is("06", a);
+            case "73" -> result(digit(a, 3) == 9 ? exception51(a)
+                    : MOD10_POS_4_9.matches(a) || MOD10_POS_5_9.matches(a) || MOD7_W21_POS_5_9.matches(a));
+            case "74" -> result(check74(a));
+            case "75" -> check75(a);
+            case "76" -> result(isAccountType76(digit(a, 1))
+                    && (rule.matches(a) || (leadingZeros(a, 2) && isAccountType76(digit(a, 3)) && rule.matches(shift(a, 2)))));
+            case "77" -> result(RULE_77_A.sum(a) % 11 == 0 || RULE_77_B.sum(a) % 11 == 0);
+            case "78" -> a >= 10_000_000L && a < 100_000_000L ? VALID : is("00", a);
+            case "79" -> check79(a);
+            case "80" -> result(digit(a, 3) == 9 ? exception51(a)
+                    : MOD10_POS_5_9.matches(a) || MOD7_W21_POS_5_9.matches(a));
+            case "81" -> digit(a, 3) == 9 ? result(exception51(a)) : is("32", a);
+            case "82" -> digit(a, 3) == 9 && digit(a, 4) == 9 ? is("10", a) : is("33", a);
+            case "83", "85" -> result(digit(a, 3) == 9 && digit(a, 4) == 9 ? MOD11_POS_3_9.matches(a)
+                    : is("32", a) == VALID || is("33", a) == VALID || mod7(MOD7_POS_4_9, a));
+            case "84" -> result(digit(a, 3) == 9 ? exception51(a)
+                    : is("33", a) == VALID || mod7(MOD7_POS_5_9, a) || MOD10_PLAIN_POS_5_9.matches(a));
+            case "86" -> result(digit(a, 3) == 9 ? exception51(a)
+                    : MOD10_POS_4_9.matches(a) || is("32", a) == VALID);
+            case "87" -> result(digit(a, 3) == 9 ? exception51(a)
+                    : check87(a) || is("33", a) == VALID || mod7(MOD7_POS_5_9, a));
+            case "88" -> digit(a, 3) == 9 ? result(MOD11_POS_3_9.matches(a)) : is("32", a);
+            case "89" -> check89(a);
+            case "90" -> result(check90(a));
+            case "91" -> result(RULE_91_A.matches(a) || RULE_91_B.matches(a)
+                    || RULE_91_C.matches(a) || RULE_91_D.matches(a));
+            case "93" -> result(check93(a));
+            case "95" -> isInRanges95(a) ? VALID : is("06", a);
+            case "96" -> a >= 1_300_000L && a <= 99_399_999L ? VALID : first("19", "00", a);
+            case "97" -> result(check97(a));
+            case "98" -> result(RULE_98.matches(a) || is("32", a) == VALID);
+            case "99" -> a >= 396_000_000L && a <= 499_999_999L ? VALID : is("06", a);
+            case "A0" -> a < 1_000L ? VALID : result(rule.matches(a));
+            case "A1" -> result((hasLength(a, 8) || hasLength(a, 10)) && RULE_A1.matches(a));
+            case "A2" -> first("00", "04", a);
+            case "A3" -> first("04", "10", a);
+            case "A4" -> result(digit(a, 3) == 9 && digit(a, 4) == 9
+                    ? is("33", a) == VALID || check93(a)
+                    : is("32", a) == VALID || mod7(MOD7_POS_4_9, a) || check93(a));
+            case "A5" -> is("00", a) == VALID ? VALID : digit(a, 1) == 9 ? INVALID : is("10", a);
+            case "A6" -> digit(a, 2) == 8 ? is("00", a) : is("01", a);
+            case "A7" -> first("00", "03", a);
+            case "A8" -> result(digit(a, 3) == 9 ? exception51(a)
+                    : is("32", a) == VALID || MOD10_POS_4_9.matches(a));
+            case "A9" -> first("01", "06", a);
+            case "B0" -> checkB0(a);
+            case "B1" -> first("05", "01", "00", a);
+            case "B2" -> digit(a, 1) <= 7 ? is("02", a) : is("00", a);
+            case "B3" -> digit(a, 1) == 9 ? is("06", a) : is("32", a);
+            case "B4" -> digit(a, 1) == 9 ? is("00", a) : is("02", a);
+            case "B5" -> is("05", a) == VALID ? VALID : digit(a, 1) >= 8 ? INVALID : is("00", a);
+            case "B6" -> digit(a, 1) >= 1 || isPrefix(a, 2691, 2699, 5) ? is("20", a) : check53(a, blz);
+            case "B7" -> (a >= 1_000_000L && a <= 5_999_999L) || (a >= 700_000_000L && a <= 899_999_999L)
+                    ? is("01", a) : VALID;
+            case "B8" -> first("20", "29", a);
+            case "B9" -> result(checkB9(a));
+            case "C0" -> hasLength(a, 8) ? checkC0(a, blz) : is("20", a);
+            case "C1" -> digit(a, 1) == 5 ? result(checkC1(a)) : is("17", a);
+            case "C2" -> first("22", "00", a);
+            case "C3" -> digit(a, 1) == 9 ? is("58", a) : is("00", a);
+            case "C4" -> digit(a, 1) == 9 ? is("58", a) : is("15", a);
+            case "C5" -> checkC5(a);
+            case "C6" -> result(matchesPrefixed(PREFIX_SUMS_C6[digit(a, 1)], RULE_PREFIXED, a));
+            case "C7" -> first("63", "06", a);
+            case "C8" -> first("00", "04", "07", a);
+            case "C9" -> first("00", "07", a);
+            case "D0" -> digit(a, 1) == 5 && digit(a, 2) == 7 ? VALID : is("20", a);
+            case "D2" -> first("95", "00", "68", a);
+            case "D3" -> first("00", "27", a);
+            case "D1" -> result(digit(a, 1) != 8 && matchesPrefixed(PREFIX_SUM_D1, rule("00"), a));
+            case "D4" -> result(digit(a, 1) != 0 && matchesPrefixed(PREFIX_SUM_D4, rule("00"), a));
+            case "D5" -> result(digit(a, 3) == 9 && digit(a, 4) == 9 ? MOD11_POS_3_9.matches(a)
+                    : is("32", a) == VALID || mod7(RULE_D5_MOD7, a) || RULE_D5_MOD10.matches(a));
+            case "D6" -> first("07", "03", "00", a);
+            case "D8" -> a >= 1_000_000_000L ? is("00", a) : a >= 10_000_000L && a < 100_000_000L ? VALID : INVALID;
+            case "D9" -> first("00", "10", "18", a);
+            case "E0" -> result(matchesPrefixed(7, rule("00"), a));
+            case "E1" -> result(checkE1(a));
+            case "E2" -> result(digit(a, 1) < PREFIX_SUMS_E2.length
+                    && matchesPrefixed(PREFIX_SUMS_E2[digit(a, 1)], RULE_PREFIXED, a));
+            case "E3" -> first("00", "21", a);
+            case "E4" -> first("02", "00", a);
+            default -> UNSUPPORTED;
+        };
+    }
+
+    private static boolean hasVariants(String method) {
+        return switch (method) {
+            case "13", "26", "50", "63", "66", "76", "A0" -> true;
+            default -> false;
+        };
+    }
+
+    private static int is(String method, long a) {
+        return evaluate(method, methodIndex(method), a, NO_BANK_CODE);
+    }
+
+    private static int first(String method, String alternative, long a) {
+        int result = is(method, a);
+        if (result == VALID) {
+            return VALID;
+        }
+        int next = is(alternative, a);
+        return next == VALID || result != UNSUPPORTED ? next : UNSUPPORTED;
+    }
+
+    private static int first(String method, String alternative, String fallback, long a) {
+        int result = first(method, alternative, a);
+        if (result == VALID) {
+            return VALID;
+        }
+        int next = is(fallback, a);
+        return next == VALID || result != UNSUPPORTED ? next : UNSUPPORTED;
+    }
+
+    private static int result(boolean valid) {
+        return valid ? VALID : INVALID;
+    }
+
+    private static boolean matchesRepeatedDigit(Rule rule, long a) {
+        int remainder = rule.sum(a) % 11;
+        int checkDigit = digit(a, rule.checkPosition);
+        if (remainder == 0) {
+            return checkDigit == 0;
+        }
+        if (remainder == 1) {
+            return checkDigit == digit(a, rule.checkPosition - 1);
+        }
+        return checkDigit == 11 - remainder;
+    }
+
+    private static boolean check17(long a) {
+        int remainder = (SUM_17.sum(a) - 1) % 11;
+        int expected = remainder == 0 ? 0 : 10 - remainder;
+        return expected == digit(a, 8);
+    }
+
+    private static int check89(long a) {
+        if (a >= POW10[6] && a < POW10[7]) {
+            return result(RULE_89.matches(a));
+        }
+        if (a >= POW10[7] && a < POW10[9]) {
+            return is("10", a);
+        }
+        return VALID;
+    }
+
+    private static boolean checkC1(long a) {
+        int remainder = (SUM_C1.sum(a) - 1) % 11;
+        int expected = remainder == 0 ? 0 : 10 - remainder;
+        return expected == digit(a, ACCOUNT_DIGITS);
+    }
+
+    private static boolean check21(long a) {
+        int sum = rule("00").sum(a);
+        while (sum > 9) {
+            sum = sum / 10 + sum % 10;
+        }
+        return 10 - sum == digit(a, 10);
+    }
+
+    private static boolean check24(long a) {
+        int first = digit(a, 1);
+        int start = 1;
+        if (first >= 3 && first <= 6) {
+            start = 2;
+        } else if (first == 9) {
+            start = 4;
+        }
+        while (start <= 9 && digit(a, start) == 0) {
+            start++;
+        }
+        int sum = 0;
+        int weight = 1;
+        for (int position = start; position <= 9; position++) {
+            sum += (digit(a, position) * weight + weight) % 11;
+            weight = weight == 3 ? 1 : weight + 1;
+        }
+        return sum % 10 == digit(a, 10);
+    }
+
+    private static boolean check25(long a) {
+        int expected = 11 - SUM_25.sum(a) % 11;
+        if (expected == 11) {
+            expected = 0;
+        }
+        if (expected == 10) {
+            int second = digit(a, 2);
+            return digit(a, 10) == 0 && (second == 8 || second == 9);
+        }
+        return expected == digit(a, 10);
+    }
+
+    private static boolean check35(long a) {
+        int remainder = SUM_35.sum(a) % 11;
+        if (remainder == 10) {
+            return digit(a, 9) == digit(a, 10);
+        }
+        return remainder == digit(a, 10);
+    }
+
+    private static boolean check51(long a) {
+        if (digit(a, 3) == 9) {
+            return exception51(a);
+        }
+        return is("32", a) == VALID
+                || is("33", a) == VALID
+                || MOD10_POS_4_9.matches(a)
+                || mod7(MOD7_POS_4_9, a);
+    }
+
+    private static boolean exception51(long a) {
+        return MOD11_POS_3_9.matches(a) || rule("10").matches(a);
+    }
+
+    private static boolean check56(long a) {
+        int expected = 11 - rule("06").sum(a) % 11;
+        if (digit(a, 1) == 9) {
+            if (expected == 10) {
+                expected = 7;
+            } else if (expected == 11) {
+                expected = 8;
+            }
+        } else if (expected >= 10) {
+            return false;
+        }
+        return expected == digit(a, 10);
+    }
+
+    private static int check52(long a, long blz) {
+        if (hasLength(a, 10) && digit(a, 1) == 9) {
+            return is("20", a);
+        }
+        if (!leadingZeros(a, 2)) {
+            return INVALID;
+        }
+        if (blz == NO_BANK_CODE) {
+            return UNSUPPORTED;
+        }
+        return result(matchesEser(a, blz, digit(blz, 7, BANK_CODE_DIGITS), 3));
+    }
+
+    private static int check53(long a, long blz) {
+        if (hasLength(a, 10) && digit(a, 1) == 9) {
+            return is("20", a);
+        }
+        if (!leadingZeros(a, 1)) {
+            return INVALID;
+        }
+        if (blz == NO_BANK_CODE) {
+            return UNSUPPORTED;
+        }
+        return result(matchesEser(a, blz, digit(a, 3), 2));
+    }
+
+    private static boolean matchesEser(long a, long blz, int thirdDigit, int accountTypePosition) {
+        long tail = a % POW10[6];
+        int tailDigits = 0;
+        while (tailDigits < 6 && tail >= POW10[tailDigits]) {
+            tailDigits++;
+        }
+        long eser = ((((digit(blz, 5, BANK_CODE_DIGITS) * 10L + digit(blz, 6, BANK_CODE_DIGITS)) * 10 + thirdDigit) * 10
+                + digit(blz, 8, BANK_CODE_DIGITS)) * 10 + digit(a, accountTypePosition)) * 10;
+        eser = eser * POW10[tailDigits] + tail;
+
+        int checkWeight = W_ESER[tailDigits];
+        int sum = 0;
+        for (int i = 0; eser > 0; i++, eser /= 10) {
+            sum += (int) (eser % 10) * W_ESER[i];
+        }
+        return (sum + digit(a, 4) * checkWeight) % 11 == 10;
+    }
+
+    private static int check57(long a) {
+        int prefix = (int) (a / POW10[8]);
+        if (prefix == 0) {
+            return INVALID;
+        }
+        if (prefix == 40 || prefix == 50 || prefix == 91 || prefix == 99) {
+            return VALID;
+        }
+        if (prefix <= 31) {
+            int month = (int) (a / POW10[6] % 100);
+            return result(a == 185_125_434L || (month >= 1 && month <= 12 && a / 10 % 1_000 < 500));
+        }
+        if (isVariant57A(prefix)) {
+            long head = a / POW10[4];
+            return result(head == 777_777L || head == 888_888L || RULE_57_A.matches(a));
+        }
+        return result(RULE_57_B.matches(a));
+    }
+
+    private static boolean isVariant57A(int prefix) {
+        return prefix == 51 || prefix == 55 || prefix == 61 || (prefix >= 64 && prefix <= 66) || prefix == 70
+                || (prefix >= 73 && prefix <= 82) || prefix == 88 || prefix == 94 || prefix == 95;
+    }
+
+    private static int check68(long a) {
+        if (a >= 1_000_000_000L) {
+            return result(digit(a, 4) == 9 && MOD10_POS_4_9.matches(a));
+        }
+        if (a >= 400_000_000L && a <= 499_999_999L) {
+            return VALID;
+        }
+        return result(rule("00").matches(a) || RULE_68_SHORT.matches(a));
+    }
+
+    private static int check69(long a) {
+        if (a >= 9_300_000_000L && a <= 9_399_999_999L) {
+            return VALID;
+        }
+        if (a >= 9_700_000_000L && a <= 9_799_999_999L) {
+            return result(m10h(a));
+        }
+        return result(rule("28").matches(a) || m10h(a));
+    }
+
+    private static boolean check74(long a) {
+        if (rule("00").matches(a)) {
+            return true;
+        }
+        if (!hasLength(a, 6)) {
+            return false;
+        }
+        int sum = rule("00").sum(a);
+        return (15 - sum % 10) % 10 == digit(a, 10);
+    }
+
+    private static int check79(long a) {
+        int first = digit(a, 1);
+        if (first == 0) {
+            return INVALID;
+        }
+        if (first >= 3 && first <= 8) {
+            return is("00", a);
+        }
+        return result(RULE_79_SHORT.matches(a));
+    }
+
+    private static int check75(long a) {
+        if (a >= POW10[5] && a < POW10[7]) {
+            return result(RULE_75_SHORT.matches(a));
+        }
+        if (hasLength(a, 9)) {
+            return result(digit(a, 2) == 9 ? RULE_75_LONG_9.matches(a) : RULE_75_LONG.matches(a));
+        }
+        return INVALID;
+    }
+
+    private static boolean check87(long a) {
+        int position = 4;
+        while (position < ACCOUNT_DIGITS && digit(a, position) == 0) {
+            position++;
+        }
+        int c2 = position % 2;
+        int d2 = 0;
+        int a5 = 0;
+        for (; position < ACCOUNT_DIGITS; position++) {
+            int value = switch (digit(a, position)) {
+                case 0 -> 5;
+                case 1 -> 6;
+                case 5 -> 10;
+                case 6 -> 1;
+                default -> digit(a, position);
+            };
+            if (c2 == d2) {
+                if (value > 5) {
+                    if (c2 == 0) {
+                        c2 = 1;
+                        d2 = 1;
+                        a5 += 6 - (value - 6);
+                    } else {
+                        c2 = 0;
+                        d2 = 0;
+                        a5 += value;
+                    }
+                } else {
+                    c2 = 1 - c2;
+                    a5 += value;
+                }
+            } else if (value > 5) {
+                if (c2 == 0) {
+                    c2 = 1;
+                    d2 = 0;
+                    a5 += -6 + (value - 6);
+                } else {
+                    c2 = 0;
+                    d2 = 1;
+                    a5 -= value;
+                }
+            } else {
+                c2 = 1 - c2;
+                a5 -= value;
+            }
+        }
+        a5 = Math.floorMod(a5, 5);
+        int expected = d2 == 0 ? TAB_87_A[a5] : TAB_87_B[a5];
+        int checkDigit = digit(a, ACCOUNT_DIGITS);
+        if (expected == checkDigit) {
+            return true;
+        }
+        return digit(a, 4) == 0 && (expected > 4 ? expected - 5 : expected + 5) == checkDigit;
+    }
+
+    private static boolean check90(long a) {
+        if (digit(a, 3) == 9) {
+            return MOD11_POS_3_9.matches(a);
+        }
+        return is("32", a) == VALID
+                || is("33", a) == VALID
+                || mod7(MOD7_POS_5_9, a)
+                || (digit(a, 10) != 9 && MOD9_POS_5_9.matches(a))
+                || MOD10_PLAIN_POS_5_9.matches(a)
+                || mod7(MOD7_W21_POS_4_9, a);
+    }
+
+    private static boolean check97(long a) {
+        int remainder = (int) (a / 10 % 11);
+        return (remainder == 10 ? 0 : remainder) == digit(a, 10);
+    }
+
+    private static boolean check93(long a) {
+        if (leadingZeros(a, 4)) {
+            return RULE_93_LOW_MOD11.matches(a) || RULE_93_LOW_MOD7.matches(a);
+        }
+        return RULE_93_HIGH_MOD11.matches(a) || RULE_93_HIGH_MOD7.matches(a);
+    }
+
+    private static int checkB0(long a) {
+        if (a < 1_000_000_000L || digit(a, 1) == 8) {
+            return INVALID;
+        }
+        int eighth = digit(a, 8);
+        if (eighth == 1 || eighth == 2 || eighth == 3 || eighth == 6) {
+            return VALID;
+        }
+        return is("06", a);
+    }
+
+    private static boolean checkB9(long a) {
+        if (!leadingZeros(a, 2) || leadingZeros(a, 4)) {
+            return false;
+        }
+        int expected;
+        if (leadingZeros(a, 3)) {
+            int sum = 0;
+            for (int i = 0; i < W_B9_SHORT.length; i++) {
+                sum += digit(a, 9 - i) * W_B9_SHORT[i];
+            }
+            expected = sum % 11;
+        } else {
+            int sum = 0;
+            for (int i = 0; i < W_B9_LONG.length; i++) {
+                sum += (digit(a, 9 - i) * W_B9_LONG[i] + W_B9_LONG[i]) % 11;
+            }
+            expected = sum % 10;
+        }
+        int checkDigit = digit(a, ACCOUNT_DIGITS);
+        if (expected == checkDigit) {
+            return true;
+        }
+        expected += 5;
+        return (expected > 9 ? expected - 10 : expected) == checkDigit;
+    }
+
+    private static int checkC0(long a, long blz) {
+        int eser = check52(a, blz);
+        if (eser == VALID) {
+            return VALID;
+        }
+        int fallback = is("20", a);
+        return fallback == VALID || eser != UNSUPPORTED ? fallback : UNSUPPORTED;
+    }
+
+    private static int checkC5(long a) {
+        if (hasLength(a, 6)) {
+            return digit(a, 5) >= 1 && digit(a, 5) <= 8 ? is("75", a) : INVALID;
+        }
+        if (hasLength(a, 8)) {
+            return result(digit(a, 3) >= 3 && digit(a, 3) <= 5);
+        }
+        if (hasLength(a, 9)) {
+            return digit(a, 2) >= 1 && digit(a, 2) <= 8 ? is("75", a) : INVALID;
+        }
+        if (!hasLength(a, 10)) {
+            return INVALID;
+        }
+        return switch (digit(a, 1)) {
+            case 1, 4, 5, 6, 9 -> is("29", a);
+            case 3 -> is("00", a);
+            default -> result(isPrefix(a, 70, 70, 2) || isPrefix(a, 85, 85, 2));
+        };
+    }
+
+    private static boolean checkE1(long a) {
+        int remainder = (RULE_E1.sum(a) + E1_ASCII_OFFSET) % 11;
+        return remainder != 10 && remainder == digit(a, ACCOUNT_DIGITS);
+    }
+
+    private static boolean matchesPrefixed(int prefixSum, Rule rule, long a) {
+        return (10 - (prefixSum + rule.sum(a)) % 10) % 10 == digit(a, rule.checkPosition);
+    }
+
+    private static int prefixSum(long prefix, int firstWeight) {
+        int sum = 0;
+        for (int weight = firstWeight; prefix > 0; prefix /= 10, weight = 3 - weight) {
+            int value = (int) (prefix % 10) * weight;
+            sum += value / 10 + value % 10;
+        }
+        return sum;
+    }
+
+    private static boolean isInRanges95(long a) {
+        return (a >= 1L && a <= 1_999_999L)
+                || (a >= 9_000_000L && a <= 25_999_999L)
+                || (a >= 396_000_000L && a <= 499_999_999L)
+                || (a >= 700_000_000L && a <= 799_999_999L)
+                || (a >= 910_000_000L && a <= 989_999_999L);
+    }
+
+    private static boolean isAccountType76(int digit) {
+        return digit == 0 || digit == 4 || digit == 6 || digit == 7 || digit == 8 || digit == 9;
+    }
+
+    private static boolean mod7(Rule rule, long a) {
+        return digit(a, rule.checkPosition) < 7 && rule.matches(a);
+    }
+
+    private static boolean m10h(long a) {
+        int sum = 0;
+        for (int position = 9, row = 0; position >= 1; position--, row = (row + 1) & 3) {
+            sum += M10H[row][digit(a, position)];
+        }
+        return (10 - sum % 10) % 10 == digit(a, 10);
+    }
+
+    private static boolean hasLength(long a, int digits) {
+        return a >= POW10[digits - 1] && a < POW10[digits];
+    }
+
+    private static boolean isPrefix(long a, int from, int to, int digits) {
+        long prefix = a / POW10[ACCOUNT_DIGITS - digits];
+        return prefix >= from && prefix <= to;
+    }
+
+    private static boolean leadingZeros(long a, int count) {
+        return a < POW10[ACCOUNT_DIGITS - count];
+    }
+
+    private static long shift(long a, int positions) {
+        return a * POW10[positions];
+    }
+
+    private static int digit(long a, int position) {
+        return digit(a, position, ACCOUNT_DIGITS);
+    }
+
+    private static int digit(long value, int position, int length) {
+        return (int) (value / POW10[length - position] % 10);
+    }
+
+    private static Rule rule(String method) {
+        return RULES[methodIndex(method)];
+    }
+
+    private static void define(String method, Rule rule) {
+        RULES[methodIndex(method)] = rule;
+    }
+
+    private static final class Rule {
+
+        private final int[] weights = new int[ACCOUNT_DIGITS + 1];
+        private final int checkPosition;
+        private final int product;
+        private final int remainder;
+
+        Rule(int[] weightsFromRight, int first, int last, int checkPosition, int product, int remainder) {
+            for (int position = last, i = 0; position >= first; position--, i++) {
+                weights[position] = weightsFromRight[i % weightsFromRight.length];
+            }
+            this.checkPosition = checkPosition;
+            this.product = product;
+            this.remainder = remainder;
+        }
+
+        private Rule(int checkPosition, int product, int remainder) {
+            this.checkPosition = checkPosition;
+            this.product = product;
+            this.remainder = remainder;
+        }
+
+        static Rule positional(int checkPosition, int product, int remainder, int... weightsByPosition) {
+            Rule rule = new Rule(checkPosition, product, remainder);
+            System.arraycopy(weightsByPosition, 0, rule.weights, 1, weightsByPosition.length);
+            return rule;
+        }
+
+        int sum(long a) {
+            int sum = 0;
+            for (int position = 1; position <= ACCOUNT_DIGITS; position++) {
+                int weight = weights[position];
+                if (weight == 0) {
+                    continue;
+                }
+                int value = digit(a, position) * weight;
+                if (product == CROSS_SUM) {
+                    value = value / 10 + value % 10;
+                } else if (product == UNITS) {
+                    value %= 10;
+                }
+                sum += value;
+            }
+            return sum;
+        }
+
+        boolean matches(long a) {
+            int expected = checkDigit(sum(a));
+            return expected >= 0 && expected == digit(a, checkPosition);
+        }
+
+        private int checkDigit(int sum) {
+            return switch (remainder) {
+                case MOD10 -> (10 - sum % 10) % 10;
+                case MOD11 -> sum % 11 <= 1 ? 0 : 11 - sum % 11;
+                case MOD11_STRICT -> sum % 11 == 0 ? 0 : sum % 11 == 1 ? -1 : 11 - sum % 11;
+                case MOD11_NINE -> sum % 11 == 0 ? 0 : sum % 11 == 1 ? 9 : 11 - sum % 11;
+                case MOD11_ONE -> sum % 11 <= 1 ? sum % 11 : 11 - sum % 11;
+                case MOD11_INVERTED -> sum % 11 == 0 ? 1 : sum % 11 == 1 ? 0 : 11 - sum % 11;
+                case MOD11_REMAINDER -> sum % 11 == 10 ? -1 : sum % 11;
+                case MOD7 -> (7 - sum % 7) % 7;
+                case MOD9 -> (9 - sum % 9) % 9;
+                case MOD10_UNITS -> sum % 10;
+                case MOD11_EXCLUSIVE -> sum % 11 <= 1 ? -1 : 11 - sum % 11;
+                default -> -1;
+            };
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+public class HotKeyTracker {
+
+    public record HotKeys(List<HeavyHitters.Entry> banks, List<HeavyHitters.Entry> ibans) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(HotKeyTracker.class);
+
+    private static final String BANK = "bank";
+    private static final String IBAN = "iban";
+    private static final char SEPARATOR = ';';
+
+    private final Path file;
+    private final int top;
+    private final HeavyHitters[] banks;
+    private final HeavyHitters[] ibans;
+
+    public HotKeyTracker(@Value("${iban.hot-keys.path:}") String file,
+                         @Value("${iban.hot-keys.capacity:4096}") int capacity,
+                         @Value("${iban.hot-keys.top:1000}") int top,
+                         @Value("${iban.hot-keys.stripes:16}") int stripes) {
+        this.file = file.isBlank() ? null : Path.of(file).toAbsolutePath().normalize();
+        this.top = top;
+        this.banks = stripes(capacity, stripes);
+        this.ibans = stripes(capacity, stripes);
+    }
+
+    public void record(IbanValidationResponse response) {
+        offer(ibans, response.getIban(), 1);
+        if (response.getBankCode() != null && !response.getBankCode().isEmpty()) {
+            offer(banks, bankKey(response.getCountryCode(), response.getBankCode()), 1);
+        }
+    }
+
+    public HotKeys hotKeys() {
+        return new HotKeys(merge(banks, top), merge(ibans, top));
+    }
+
+    public static String bankKey(String countryCode, String bankCode) {
+        return countryCode + ":" + bankCode;
+    }
+
+    public HotKeys restore() {
+        List<HeavyHitters.Entry> restoredBanks = new ArrayList<>();
+        List<HeavyHitters.Entry> restoredIbans = new ArrayList<>();
+        if (file == null || !Files.exists(file)) {
+            return new HotKeys(restoredBanks, restoredIbans);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int first = line.indexOf(SEPARATOR);
+                int last = line.lastIndexOf(SEPARATOR);
+                if (first < 0 || first == last) {
+                    continue;
+                }
+                String type = line.substring(0, first);
+                String key = line.substring(first + 1, last);
+                long count = Math.max(1, Long.parseLong(line.substring(last + 1)) / 2);
+                if (BANK.equals(type) && restoredBanks.size() < top) {
+                    offer(banks, key, count);
+                    restoredBanks.add(new HeavyHitters.Entry(key, count, 0));
+                } else if (IBAN.equals(type) && restoredIbans.size() < top) {
+                    offer(ibans, key, count);
+                    restoredIbans.add(new HeavyHitters.Entry(key, count, 0));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Häufigste Schlüssel aus {} nicht vollständig gelesen: {}", file, e.getMessage());
+        }
+        return new HotKeys(restoredBanks, restoredIbans);
+    }
+
+    @Scheduled(fixedDelayString = "${iban.hot-keys.persist-interval:PT5M}",
+            initialDelayString = "${iban.hot-keys.persist-interval:PT5M}")
+    @PreDestroy
+    public void persist() {
+        if (file == null) {
+            return;
+        }
+        HotKeys hotKeys = hotKeys();
+        if (hotKeys.banks().isEmpty() && hotKeys.ibans().isEmpty()) {
+            return;
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                write(out, BANK, hotKeys.banks());
+                write(out, IBAN, hotKeys.ibans());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Häufigste Schlüssel gesichert: {} Bankleitzahlen, {} IBANs", hotKeys.banks().size(),
+                    hotKeys.ibans().size());
+        } catch (IOException e) {
+            log.warn("Häufigste Schlüssel konnten nicht nach {} geschrieben werden: {}", file, e.getMessage());
+        }
+    }
+
+    private static HeavyHitters[] stripes(int capacity, int stripes) {
+        int count = Integer.highestOneBit(Math.max(1, stripes));
+        HeavyHitters[] sketches = new HeavyHitters[count];
+        for (int i = 0; i < count; i++) {
+            sketches[i] = new HeavyHitters(Math.max(1, (capacity + count - 1) / count));
+        }
+        return sketches;
+    }
+
+    private static void offer(HeavyHitters[] sketches, String key, long weight) {
+        int hash = key.hashCode();
+        sketches[(hash ^ (hash >>> 16)) & (sketches.length - 1)].offer(key, weight);
+    }
+
+    private static List<HeavyHitters.Entry> merge(HeavyHitters[] sketches, int limit) {
+        List<HeavyHitters.Entry> entries = new ArrayList<>();
+        for (HeavyHitters sketch : sketches) {
+            entries.addAll(sketch.top(limit));
+        }
+        entries.sort(Comparator.comparingLong(HeavyHitters.Entry::count).reversed());
+        return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+    }
+
+    private static void write(BufferedWriter out, String type, List<HeavyHitters.Entry> entries) throws IOException {
+        for (HeavyHitters.Entry entry : entries) {
+            out.write(type);
+            out.write(SEPARATOR);
+            out.write(entry.key());
+            out.write(SEPARATOR);
+            out.write(Long.toString(entry.count()));
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.constants.IbanConstants;
+import com.example.ibanvalidator.dto.IbanBicPairBatchRequest;
+import com.example.ibanvalidator.dto.IbanBicPairBatchResponse;
+import com.example.ibanvalidator.dto.IbanBicPairRequest;
+import com.example.ibanvalidator.dto.IbanBicPairResponse;
+import com.example.ibanvalidator.dto.IbanBicPairResponse.Status;
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import com.example.ibanvalidator.model.Bank;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class IbanBicPairService {
+
+    private static final Logger log = LoggerFactory.getLogger(IbanBicPairService.class);
+
+    private final IbanService ibanService;
+    private final BankDirectory bankDirectory;
+
+    public IbanBicPairService(IbanService ibanService, BankDirectory bankDirectory) {
+        this.ibanService = ibanService;
+        this.bankDirectory = bankDirectory;
+    }
+
+    public IbanBicPairResponse validatePair(IbanBicPairRequest request) {
+        log.debug("Validiere IBAN/BIC-Paar: IBAN={}, BIC={}", request.getIban(), request.getBic());
+        return validate(request.getIban(), request.getBic(), directory(request.getAsOf()), new HashMap<>());
+    }
+
+    public IbanBicPairBatchResponse validatePairs(IbanBicPairBatchRequest request) {
+        DirectorySnapshot directory = directory(request.getAsOf());
+        Map<String, List<Bank>> bankCache = new HashMap<>();
+
+        List<IbanBicPairResponse> results = new ArrayList<>(request.getPairs().size());
+        int consistent = 0;
+        for (IbanBicPairRequest pair : request.getPairs()) {
+            IbanBicPairResponse result = validate(pair.getIban(), pair.getBic(), directory, bankCache);
+            results.add(result);
+            if (result.isConsistent()) {
+                consistent++;
+            }
+        }
+
+        IbanBicPairBatchResponse response = new IbanBicPairBatchResponse();
+        response.setDirectoryVersion(directory.getVersion());
+        response.setTotal(results.size());
+        response.setConsistent(consistent);
+        response.setInconsistent(results.size() - consistent);
+        response.setDistinctBanks(bankCache.size());
+        response.setResults(results);
+        log.info("Batch-Paarvalidierung: {} Paare, {} konsistent, {} verschiedene Banken",
+                results.size(), consistent, bankCache.size());
+        return response;
+    }
+
+    IbanBicPairResponse validate(String rawIban, String rawBic, DirectorySnapshot directory,
+                                 Map<String, List<Bank>> bankCache) {
+        IbanBicPairResponse response = new IbanBicPairResponse();
+        String bic = BicValidationService.normalize(rawBic);
+        response.setBic(bic);
+
+        IbanValidationResponse iban = ibanService.validateStructure(rawIban);
+        if (!iban.isValid()) {
+            response.setIban(rawIban);
+            return reject(response, Status.IBAN_INVALID, iban.getErrorMessage());
+        }
+        response.setIban(iban.getIban());
+        response.setBlocklisted(iban.isBlocklisted());
+        response.setCountryCode(iban.getCountryCode());
+        response.setBankCode(iban.getBankCode());
+
+        BicValidator.Reason reason = BicValidator.check(bic);
+        if (reason != BicValidator.Reason.OK) {
+            return reject(response, Status.BIC_INVALID, reason.name());
+        }
+
+        String countryCode = iban.getCountryCode();
+        String bankCode = iban.getBankCode();
+        List<Bank> banks = bankCache.computeIfAbsent(countryCode + bankCode,
+                key -> directory.findAllByBankCodeAndCountryCode(bankCode, countryCode));
+
+        if (banks.isEmpty()) {
+            if (!bic.regionMatches(4, countryCode, 0, 2)) {
+                return reject(response, Status.COUNTRY_MISMATCH,
+                        "BIC-Land passt nicht zum IBAN-Land " + countryCode);
+            }
+            return reject(response, Status.BANK_UNKNOWN,
+                    "Bankleitzahl " + bankCode + " ist im Bankverzeichnis nicht bekannt");
+        }
+
+        if (IbanConstants.COUNTRY_DE.equals(countryCode)) {
+            ibanService.checkAccountNumber(iban, banks.get(0).getCheckDigitMethod());
+            if (!iban.isValid()) {
+                return reject(response, Status.ACCOUNT_INVALID, iban.getErrorMessage());
+            }
+        }
+
+        List<String> expectedBics = new ArrayList<>(banks.size());
+        Status status = Status.MISMATCH;
+        for (Bank bank : banks) {
+            expectedBics.add(bank.getBic());
+            if (sameBranch(bic, bank.getBic())) {
+                status = Status.MATCH;
+            } else if (status == Status.MISMATCH && bic.regionMatches(0, bank.getBic(), 0, 8)) {
+                status = Status.INSTITUTION_MATCH;
+            }
+        }
+        response.setExpectedBics(expectedBics);
+        response.setStatus(status);
+        response.setConsistent(status != Status.MISMATCH);
+        if (status == Status.MISMATCH) {
+            response.setMessage("BIC gehört nicht zur Bankleitzahl " + bankCode);
+        }
+        return response;
+    }
+
+    private static boolean sameBranch(String bic, String other) {
+        if (!bic.regionMatches(0, other, 0, 8)) {
+            return false;
+        }
+        return branch(bic).equals(branch(other));
+    }
+
+    private static String branch(String bic) {
+        return bic.length() == 11 ? bic.substring(8) : "XXX";
+    }
+
+    private DirectorySnapshot directory(LocalDate asOf) {
+        return asOf != null ? bankDirectory.asOf(asOf) : bankDirectory.current();
+    }
+
+    private IbanBicPairResponse reject(IbanBicPairResponse response, Status status, String message) {
+        response.setStatus(status);
+        response.setConsistent(false);
+        response.setMessage(message);
+        return response;
+    }
+}
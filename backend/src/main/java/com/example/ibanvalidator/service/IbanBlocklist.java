@@ -0,0 +1,265 @@
+package com.example.ibanvalidator.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+
+public final class IbanBlocklist {
+
+    private static final int WORDS = 3;
+    private static final int ENTRY_BYTES = WORDS * Long.BYTES;
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASHES = 7;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private static final IbanBlocklist EMPTY = new IbanBlocklist(null, LongBuffer.allocate(0), 0, 0, Instant.EPOCH);
+
+    private final String source;
+    private final LongBuffer keys;
+    private final int size;
+    private final int rejected;
+    private final Instant loadedAt;
+    private final long[] bloom;
+    private final long bloomMask;
+
+    private IbanBlocklist(String source, LongBuffer keys, int size, int rejected, Instant loadedAt) {
+        this.source = source;
+        this.keys = keys;
+        this.size = size;
+        this.rejected = rejected;
+        this.loadedAt = loadedAt;
+
+        long bits = Long.highestOneBit(Math.max(64L, (long) size * BITS_PER_ENTRY - 1)) << 1;
+        this.bloom = new long[(int) (bits >>> 6)];
+        this.bloomMask = bits - 1;
+        for (int i = 0; i < size; i++) {
+            long hash = PackedIban.mix(keys.get(i * WORDS), keys.get(i * WORDS + 1), keys.get(i * WORDS + 2));
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int k = 0; k < HASHES; k++) {
+                long bit = (h1 + (long) k * h2) & bloomMask;
+                bloom[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+    }
+
+    public static IbanBlocklist empty() {
+        return EMPTY;
+    }
+
+    public static IbanBlocklist load(Path source, Path indexDirectory) throws IOException {
+        long candidates = 0;
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            while (reader.readLine() != null) {
+                candidates++;
+            }
+        }
+        if (candidates * ENTRY_BYTES > Integer.MAX_VALUE) {
+            throw new IOException("Sperrliste zu groß: " + candidates + " Zeilen");
+        }
+
+        Files.createDirectories(indexDirectory);
+        Path index = Files.createTempFile(indexDirectory, "iban-blocklist", ".idx");
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            LongBuffer keys = channel.map(FileChannel.MapMode.READ_WRITE, 0, candidates * ENTRY_BYTES).asLongBuffer();
+            int packed = 0;
+            int rejected = 0;
+            try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null && packed < candidates) {
+                    String iban = extractIban(line);
+                    if (iban.isEmpty()) {
+                        continue;
+                    }
+                    PackedIban key = PackedIban.pack(iban);
+                    if (key == null) {
+                        rejected++;
+                        continue;
+                    }
+                    keys.put(packed * WORDS, key.high());
+                    keys.put(packed * WORDS + 1, key.middle());
+                    keys.put(packed * WORDS + 2, key.low());
+                    packed++;
+                }
+            }
+
+            sort(keys, 0, packed);
+            int size = deduplicate(keys, packed);
+            LongBuffer sorted = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) size * ENTRY_BYTES).asLongBuffer();
+            return new IbanBlocklist(source.toString(), sorted, size, rejected, Instant.now());
+        } finally {
+            try {
+                Files.deleteIfExists(index);
+            } catch (IOException e) {
+                index.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    public boolean mightContain(PackedIban iban) {
+        long hash = PackedIban.mix(iban.high(), iban.middle(), iban.low());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int k = 0; k < HASHES; k++) {
+            long bit = (h1 + (long) k * h2) & bloomMask;
+            if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean contains(PackedIban iban) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(keys, middle, iban.high(), iban.middle(), iban.low());
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    private static String extractIban(String line) {
+        int start = !line.isEmpty() && line.charAt(0) == '\uFEFF' ? 1 : 0;
+        int end = line.length();
+        for (int i = start; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ';' || c == ',' || c == '\t' || c == '#') {
+                end = i;
+                break;
+            }
+        }
+        StringBuilder iban = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (c != ' ' && c != '-' && c != '"') {
+                iban.append(c);
+            }
+        }
+        return iban.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static int deduplicate(LongBuffer keys, int count) {
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (size > 0 && compare(keys, size - 1, keys.get(i * WORDS), keys.get(i * WORDS + 1),
+                    keys.get(i * WORDS + 2)) == 0) {
+                continue;
+            }
+            if (size != i) {
+                copy(keys, i, size);
+            }
+            size++;
+        }
+        return size;
+    }
+
+    private static void sort(LongBuffer keys, int from, int to) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            int middle = (from + to) >>> 1;
+            if (compare(keys, middle, from) < 0) {
+                swap(keys, middle, from);
+            }
+            if (compare(keys, to - 1, from) < 0) {
+                swap(keys, to - 1, from);
+            }
+            if (compare(keys, to - 1, middle) < 0) {
+                swap(keys, to - 1, middle);
+            }
+            long pivotHigh = keys.get(middle * WORDS);
+            long pivotMiddle = keys.get(middle * WORDS + 1);
+            long pivotLow = keys.get(middle * WORDS + 2);
+
+            int i = from;
+            int j = to - 1;
+            while (i <= j) {
+                while (compare(keys, i, pivotHigh, pivotMiddle, pivotLow) < 0) {
+                    i++;
+                }
+                while (compare(keys, j, pivotHigh, pivotMiddle, pivotLow) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(keys, i++, j--);
+                }
+            }
+
+            if (j - from < to - i) {
+                sort(keys, from, j + 1);
+                from = i;
+            } else {
+                sort(keys, i, to);
+                to = j + 1;
+            }
+        }
+
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && compare(keys, j, j - 1) < 0; j--) {
+                swap(keys, j, j - 1);
+            }
+        }
+    }
+
+    private static int compare(LongBuffer keys, int index, int other) {
+        return compare(keys, index, keys.get(other * WORDS), keys.get(other * WORDS + 1), keys.get(other * WORDS + 2));
+    }
+
+    private static int compare(LongBuffer keys, int index, long high, long middle, long low) {
+        int comparison = Long.compare(keys.get(index * WORDS), high);
+        if (comparison == 0) {
+            comparison = Long.compare(keys.get(index * WORDS + 1), middle);
+        }
+        if (comparison == 0) {
+            comparison = Long.compare(keys.get(index * WORDS + 2), low);
+        }
+        return comparison;
+    }
+
+    private static void swap(LongBuffer keys, int first, int second) {
+        for (int word = 0; word < WORDS; word++) {
+            long value = keys.get(first * WORDS + word);
+            keys.put(first * WORDS + word, keys.get(second * WORDS + word));
+            keys.put(second * WORDS + word, value);
+        }
+    }
+
+    private static void copy(LongBuffer keys, int from, int to) {
+        for (int word = 0; word < WORDS; word++) {
+            keys.put(to * WORDS + word, keys.get(from * WORDS + word));
+        }
+    }
+}
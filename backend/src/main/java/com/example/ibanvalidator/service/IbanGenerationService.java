@@ -0,0 +1,193 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanGenerationBatchRequest;
+import com.example.ibanvalidator.dto.IbanGenerationBatchResponse;
+import com.example.ibanvalidator.dto.IbanGenerationRequest;
+import com.example.ibanvalidator.dto.IbanGenerationResponse;
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import com.example.ibanvalidator.exception.IbanValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class IbanGenerationService {
+
+    private static final Logger log = LoggerFactory.getLogger(IbanGenerationService.class);
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    public record ConversionSummary(long rows, long generated, long failed) {
+    }
+
+    private final IbanService ibanService;
+    private final BankDirectory bankDirectory;
+
+    public IbanGenerationService(IbanService ibanService, BankDirectory bankDirectory) {
+        this.ibanService = ibanService;
+        this.bankDirectory = bankDirectory;
+    }
+
+    public IbanGenerationResponse generate(IbanGenerationRequest request) {
+        DirectorySnapshot directory = request.isValidate() ? bankDirectory.current() : null;
+        return generate(request.getCountryCode(), request.getBankCode(), request.getBranchCode(),
+                request.getAccountNumber(), directory);
+    }
+
+    public IbanGenerationBatchResponse generateBatch(IbanGenerationBatchRequest request) {
+        DirectorySnapshot directory = request.isValidate() ? bankDirectory.current() : null;
+
+        List<IbanGenerationResponse> results = new ArrayList<>(request.getItems().size());
+        int generated = 0;
+        for (IbanGenerationRequest item : request.getItems()) {
+            IbanGenerationResponse result = generate(item.getCountryCode(), item.getBankCode(),
+                    item.getBranchCode(), item.getAccountNumber(), directory);
+            results.add(result);
+            if (result.isValid()) {
+                generated++;
+            }
+        }
+
+        IbanGenerationBatchResponse response = new IbanGenerationBatchResponse();
+        response.setDirectoryVersion(directory != null ? directory.getVersion() : null);
+        response.setTotal(results.size());
+        response.setGenerated(generated);
+        response.setFailed(results.size() - generated);
+        response.setResults(results);
+        log.info("Batch-IBAN-Erzeugung: {} Einträge, {} erzeugt", results.size(), generated);
+        return response;
+    }
+
+    public ConversionSummary convert(InputStream input, OutputStream output, boolean validate) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new IbanValidationException("Konvertierungsdatei ist leer");
+        }
+        char delimiter = header.indexOf(';') >= 0 ? ';' : ',';
+        int[] columns = resolveColumns(DirectoryFileParser.split(stripBom(header), delimiter));
+        int required = Math.max(columns[0], Math.max(columns[1], columns[3]));
+
+        DirectorySnapshot directory = validate ? bankDirectory.current() : null;
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+        writer.write(String.join(String.valueOf(delimiter),
+                "countryCode", "bankCode", "accountNumber", "iban", "valid", "bic", "message"));
+        writer.newLine();
+
+        long rows = 0;
+        long generated = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rows++;
+            List<String> fields = DirectoryFileParser.split(line, delimiter);
+            IbanGenerationResponse result;
+            if (fields.size() <= required) {
+                result = new IbanGenerationResponse();
+                result.setErrorMessage("zu wenige Spalten");
+            } else {
+                String branch = columns[2] >= 0 && columns[2] < fields.size() ? fields.get(columns[2]) : null;
+                result = generate(fields.get(columns[0]), fields.get(columns[1]), branch, fields.get(columns[3]), directory);
+            }
+            if (result.isValid()) {
+                generated++;
+            }
+            writeRow(writer, delimiter, fields, columns, result);
+        }
+        writer.flush();
+
+        log.info("IBAN-Konvertierung abgeschlossen: {} Zeilen, {} erzeugt, {} fehlerhaft", rows, generated, rows - generated);
+        return new ConversionSummary(rows, generated, rows - generated);
+    }
+
+    IbanGenerationResponse generate(String countryCode, String bankCode, String branchCode,
+                                    String accountNumber, DirectorySnapshot directory) {
+        IbanGenerationResponse response = new IbanGenerationResponse();
+        response.setCountryCode(countryCode);
+        response.setBankCode(bankCode);
+        response.setAccountNumber(accountNumber);
+
+        String iban;
+        try {
+            iban = IbanGenerator.generate(countryCode, bankCode, branchCode, accountNumber);
+        } catch (IllegalArgumentException e) {
+            response.setErrorMessage(e.getMessage());
+            return response;
+        }
+        response.setIban(iban);
+
+        IbanValidationResponse validation = ibanService.validateStructure(iban);
+        if (validation.isValid() && directory != null) {
+            ibanService.enrich(validation, directory);
+            response.setBank(validation.getBank());
+            response.setBic(validation.getBic());
+            response.setDirectoryVersion(directory.getVersion());
+        }
+        response.setValid(validation.isValid());
+        response.setErrorMessage(validation.getErrorMessage());
+        return response;
+    }
+
+    private static int[] resolveColumns(List<String> header) {
+        int[] columns = {-1, -1, -1, -1};
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            switch (column) {
+                case "countrycode" -> columns[0] = i;
+                case "bankcode" -> columns[1] = i;
+                case "branchcode" -> columns[2] = i;
+                case "accountnumber" -> columns[3] = i;
+                default -> { }
+            }
+        }
+        if (columns[0] < 0 || columns[1] < 0 || columns[3] < 0) {
+            throw new IbanValidationException(
+                    "Kopfzeile muss die Spalten countryCode, bankCode und accountNumber enthalten");
+        }
+        return columns;
+    }
+
+    private static void writeRow(BufferedWriter writer, char delimiter, List<String> fields, int[] columns,
+                                 IbanGenerationResponse result) throws IOException {
+        writer.write(field(fields, columns[0]));
+        writer.write(delimiter);
+        writer.write(field(fields, columns[1]));
+        writer.write(delimiter);
+        writer.write(field(fields, columns[3]));
+        writer.write(delimiter);
+        writer.write(result.getIban() != null ? result.getIban() : "");
+        writer.write(delimiter);
+        writer.write(result.isValid() ? "true" : "false");
+        writer.write(delimiter);
+        writer.write(result.getBic() != null ? result.getBic() : "");
+        writer.write(delimiter);
+        if (result.getErrorMessage() != null) {
+            writer.write('"');
+            writer.write(result.getErrorMessage().replace("\"", "\"\""));
+            writer.write('"');
+        }
+        writer.newLine();
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column < fields.size() ? fields.get(column).trim() : "";
+    }
+
+    private static String stripBom(String header) {
+        return !header.isEmpty() && header.charAt(0) == '\uFEFF' ? header.substring(1) : header;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.config.IbanCountryConfig;
+import com.example.ibanvalidator.config.IbanCountryConfig.CountryFormat;
+import com.example.ibanvalidator.constants.IbanConstants;
+import org.apache.commons.validator.routines.IBANValidator;
+
+public final class IbanGenerator {
+
+    private static final IBANValidator IBAN_VALIDATOR = IBANValidator.getInstance();
+
+    private IbanGenerator() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String generate(String countryCode, String bankCode, String branchCode, String accountNumber) {
+        String country = clean(countryCode);
+        if (country.length() != 2 || !IbanCountryConfig.hasFormat(country)) {
+            throw new IllegalArgumentException("IBAN-Erzeugung für Ländercode " + country + " nicht unterstützt");
+        }
+        IBANValidator.Validator validator = IBAN_VALIDATOR.getValidator(country);
+        if (validator == null) {
+            throw new IllegalArgumentException("Nicht unterstützter Ländercode: " + country);
+        }
+        CountryFormat format = IbanCountryConfig.getFormat(country);
+
+        String bank = exact(clean(bankCode), format.bankCodeEnd() - format.bankCodeStart(), "Bankleitzahl");
+        String branch = clean(branchCode);
+        String account = clean(accountNumber);
+        int branchLength = format.accountNumberStart() - format.bankCodeEnd();
+        if (branchLength > 0) {
+            branch = exact(branch, branchLength, "Filialnummer");
+        } else if (!branch.isEmpty()) {
+            account = branch + account;
+            branch = "";
+        }
+        account = pad(account, validator.getIbanLength() - format.accountNumberStart(), "Kontonummer");
+
+        StringBuilder iban = new StringBuilder(validator.getIbanLength());
+        iban.append(country).append("00");
+        for (int i = IbanConstants.BANK_CODE_START; i < format.bankCodeStart(); i++) {
+            iban.append('A');
+        }
+        iban.append(bank).append(branch).append(account);
+        if (!validator.getRegexValidator().isValid(iban.toString())) {
+            throw new IllegalArgumentException("Bankleitzahl oder Kontonummer passen nicht zum Format für " + country);
+        }
+        if (format.bankCodeStart() > IbanConstants.BANK_CODE_START) {
+            iban.setCharAt(IbanConstants.BANK_CODE_START, NationalChecks.cin(iban));
+        }
+
+        int checkDigits = 98 - mod97(iban);
+        iban.setCharAt(IbanConstants.CHECK_DIGITS_START, (char) ('0' + checkDigits / 10));
+        iban.setCharAt(IbanConstants.CHECK_DIGITS_START + 1, (char) ('0' + checkDigits % 10));
+        return iban.toString();
+    }
+
+    static int mod97(CharSequence iban) {
+        int remainder = 0;
+        int length = iban.length();
+        for (int i = 0; i < length; i++) {
+            remainder = append(remainder, iban.charAt((i + IbanConstants.BANK_CODE_START) % length));
+        }
+        return remainder;
+    }
+
+    static int append(int remainder, char c) {
+        if (c >= '0' && c <= '9') {
+            return (remainder * 10 + c - '0') % 97;
+        }
+        return (remainder * 100 + c - 'A' + 10) % 97;
+    }
+
+    private static String exact(String value, int length, String field) {
+        if (value.length() != length) {
+            throw new IllegalArgumentException(field + " muss genau " + length + " Zeichen lang sein");
+        }
+        return value;
+    }
+
+    private static String pad(String value, int length, String field) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(field + " ist erforderlich");
+        }
+        if (value.length() > length) {
+            throw new IllegalArgumentException(field + " darf höchstens " + length + " Zeichen lang sein");
+        }
+        if (value.length() == length) {
+            return value;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                throw new IllegalArgumentException(field + " muss genau " + length + " Zeichen lang sein");
+            }
+        }
+        return "0".repeat(length - value.length()) + value;
+    }
+
+    private static String clean(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder cleaned = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == IbanConstants.SPACE || c == IbanConstants.HYPHEN) {
+                continue;
+            }
+            cleaned.append(Character.toUpperCase(c));
+        }
+        return cleaned.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class IbanResultCache {
+
+    private static final int STRIPES = 16;
+    private static final int STRIPE_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(STRIPES);
+
+    private final PackedIbanMap<IbanValidationResponse>[] stripes;
+    private final int maxEntriesPerStripe;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile DirectorySnapshot directory;
+    private volatile long blocklistGeneration;
+
+    @SuppressWarnings("unchecked")
+    public IbanResultCache(MeterRegistry meterRegistry,
+                           @Value("${iban.cache.max-entries:100000}") int maxEntries) {
+        this.stripes = new PackedIbanMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new PackedIbanMap<>();
+        }
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / STRIPES);
+
+        FunctionCounter.builder("iban.cache.results", hits, LongAdder::sum).tag("result", "hit")
+                .description("Zugriffe auf den Ergebnis-Cache").register(meterRegistry);
+        FunctionCounter.builder("iban.cache.results", misses, LongAdder::sum).tag("result", "miss")
+                .description("Zugriffe auf den Ergebnis-Cache").register(meterRegistry);
+        Gauge.builder("iban.cache.size", this, IbanResultCache::size)
+                .description("Einträge im Ergebnis-Cache").register(meterRegistry);
+    }
+
+    public IbanValidationResponse computeIfAbsent(String normalizedIban, DirectorySnapshot directory,
+                                                  long blocklistGeneration, Supplier<IbanValidationResponse> loader) {
+        PackedIban key = PackedIban.pack(normalizedIban);
+        if (key == null) {
+            return loader.get();
+        }
+        if (directory != this.directory || blocklistGeneration != this.blocklistGeneration) {
+            reset(directory, blocklistGeneration);
+        }
+
+        PackedIbanMap<IbanValidationResponse> stripe = stripes[key.hashCode() >>> STRIPE_SHIFT];
+        IbanValidationResponse cached;
+        synchronized (stripe) {
+            cached = stripe.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        IbanValidationResponse response = loader.get();
+        synchronized (stripe) {
+            if (directory == this.directory && blocklistGeneration == this.blocklistGeneration) {
+                if (stripe.size() >= maxEntriesPerStripe) {
+                    stripe.clear();
+                }
+                stripe.put(key, response);
+            }
+        }
+        return response;
+    }
+
+    public int size() {
+        int size = 0;
+        for (PackedIbanMap<IbanValidationResponse> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private synchronized void reset(DirectorySnapshot directory, long blocklistGeneration) {
+        if (directory == this.directory && blocklistGeneration == this.blocklistGeneration) {
+            return;
+        }
+        this.directory = directory;
+        this.blocklistGeneration = blocklistGeneration;
+        for (PackedIbanMap<IbanValidationResponse> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+}
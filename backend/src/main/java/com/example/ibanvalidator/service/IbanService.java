@@ -6,10 +6,10 @@ import com.example.ibanvalidator.constants.IbanConstants;
 import com.example.ibanvalidator.dto.IbanValidationRequest;
 import com.example.ibanvalidator.dto.IbanValidationResponse;
 import com.example.ibanvalidator.model.Bank;
-import com.example.ibanvalidator.repository.BankRepository;
 import org.apache.commons.validator.routines.IBANValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -19,24 +19,75 @@ public class IbanService {
 
     private static final Logger log = LoggerFactory.getLogger(IbanService.class);
 
-    private final BankRepository bankRepository;
+    private final BankDirectory bankDirectory;
+    private final BlocklistService blocklistService;
+    private final IbanResultCache resultCache;
+    private final HotKeyTracker hotKeyTracker;
     private final IBANValidator ibanValidator;
 
-    public IbanService(BankRepository bankRepository) {
-        this.bankRepository = bankRepository;
+    public IbanService(BankDirectory bankDirectory) {
+        this(bankDirectory, null, null, null);
+    }
+
+    @Autowired
+    public IbanService(BankDirectory bankDirectory,
+                       BlocklistService blocklistService,
+                       IbanResultCache resultCache,
+                       HotKeyTracker hotKeyTracker) {
+        this.bankDirectory = bankDirectory;
+        this.blocklistService = blocklistService;
+        this.resultCache = resultCache;
+        this.hotKeyTracker = hotKeyTracker;
         this.ibanValidator = IBANValidator.getInstance();
         log.info("IbanService initialisiert");
     }
 
     public IbanValidationResponse validateIban(IbanValidationRequest request) {
+        IbanValidationResponse response = validateUntracked(request);
+        if (hotKeyTracker != null && response.isValid()) {
+            hotKeyTracker.record(response);
+        }
+        return response;
+    }
+
+    IbanValidationResponse validateUntracked(IbanValidationRequest request) {
         log.debug("Validiere IBAN: {}", request.getIban());
 
-        if (request.getIban() == null || request.getIban().isBlank()) {
+        IbanValidationResponse response;
+        if (request.getAsOf() == null && resultCache != null) {
+            DirectorySnapshot directory = bankDirectory.current();
+            response = resultCache.computeIfAbsent(normalizeIban(request.getIban()), directory,
+                    blocklistService != null ? blocklistService.generation() : 0,
+                    () -> validate(request.getIban(), directory));
+        } else {
+            response = validateStructure(request.getIban());
+            if (response.isValid()) {
+                enrich(response, request.getAsOf() != null
+                        ? bankDirectory.asOf(request.getAsOf())
+                        : bankDirectory.current());
+            }
+        }
+        return response;
+    }
+
+    private IbanValidationResponse validate(String rawIban, DirectorySnapshot directory) {
+        IbanValidationResponse response = validateStructure(rawIban);
+        if (response.isValid()) {
+            enrich(response, directory);
+        }
+        return response;
+    }
+
+    public IbanValidationResponse validateStructure(String rawIban) {
+        if (rawIban == null || rawIban.isBlank()) {
             log.warn("IBAN-Validierung fehlgeschlagen: IBAN ist leer");
             return new IbanValidationResponse(false, "IBAN ist erforderlich");
         }
 
-        String iban = normalizeIban(request.getIban());
+        return validateNormalized(normalizeIban(rawIban));
+    }
+
+    IbanValidationResponse validateNormalized(String iban) {
         log.debug("Normalisierte IBAN: {}", iban);
 
         if (iban.length() < IbanConstants.MIN_IBAN_LENGTH) {
@@ -68,6 +119,12 @@ public class IbanService {
                 "Ungültige IBAN (Länge, Format oder Prüfziffer falsch)");
         }
 
+        NationalCheck nationalCheck = NationalCheckRegistry.forCountry(iban.charAt(0), iban.charAt(1));
+        if (nationalCheck != null && !nationalCheck.isValid(iban)) {
+            return new IbanValidationResponse(false,
+                "Nationale Prüfziffer ungültig (" + nationalCheck.name() + ")");
+        }
+
         String countryCode = iban.substring(
             IbanConstants.COUNTRY_CODE_START,
             IbanConstants.COUNTRY_CODE_END
@@ -80,8 +137,6 @@ public class IbanService {
         String bankIdentifier = extractBankIdentifier(iban, countryCode);
         String accountNumber = extractAccountNumber(iban, countryCode);
 
-        Optional<Bank> bank = bankRepository.findByBankCodeAndCountryCode(bankIdentifier, countryCode);
-
         IbanValidationResponse response = new IbanValidationResponse();
         response.setValid(true);
         response.setIban(iban);
@@ -89,12 +144,52 @@ public class IbanService {
         response.setCheckDigits(checkDigits);
         response.setBankCode(bankIdentifier);
         response.setAccountNumber(accountNumber);
-        bank.ifPresent(response::setBank);
+        if (blocklistService != null && blocklistService.isBlocked(iban)) {
+            log.debug("IBAN {} steht auf der Sperrliste", iban);
+            response.setBlocklisted(true);
+        }
 
         return response;
     }
 
-    private String normalizeIban(String iban) {
+    public void enrich(IbanValidationResponse response, DirectorySnapshot directory) {
+        String countryCode = response.getCountryCode();
+        Optional<Bank> bank = directory.findByBankCodeAndCountryCode(response.getBankCode(), countryCode);
+        response.setDirectoryVersion(directory.getVersion());
+        bank.ifPresent(response::setBank);
+
+        String branchCode = extractBranchCode(response.getIban(), countryCode);
+        directory.deriveBic(countryCode, response.getBankCode(), branchCode).ifPresent(derived -> {
+            response.setBic(derived.bic());
+            response.setBicSource(derived.source().name());
+            if (derived.source() == DerivedBic.Source.BRANCH) {
+                response.setBank(derived.bank());
+            }
+        });
+
+        if (IbanConstants.COUNTRY_DE.equals(countryCode) && response.getBank() != null) {
+            checkAccountNumber(response, response.getBank().getCheckDigitMethod());
+        }
+    }
+
+    void checkAccountNumber(IbanValidationResponse response, String method) {
+        if (method == null) {
+            return;
+        }
+        GermanCheckDigitEngine.Result result = GermanCheckDigitEngine.check(
+                method, response.getBankCode(), response.getAccountNumber());
+        response.setCheckDigitMethod(method);
+        response.setAccountCheck(result.name());
+        if (result == GermanCheckDigitEngine.Result.INVALID) {
+            log.debug("Kontonummer {} verletzt Prüfzifferverfahren {}", response.getAccountNumber(), method);
+            response.setValid(false);
+            response.setErrorMessage("Kontonummer " + response.getAccountNumber()
+                    + " ist nach Prüfzifferverfahren " + method + " der Bankleitzahl "
+                    + response.getBankCode() + " ungültig");
+        }
+    }
+
+    String normalizeIban(String iban) {
         if (iban == null) {
             return "";
         }
@@ -123,6 +218,14 @@ public class IbanService {
         }
     }
 
+    private String extractBranchCode(String iban, String countryCode) {
+        CountryFormat format = IbanCountryConfig.getFormat(countryCode);
+        if (iban == null || format.branchCodeEnd() <= format.bankCodeEnd() || iban.length() < format.branchCodeEnd()) {
+            return "";
+        }
+        return iban.substring(format.bankCodeEnd(), format.branchCodeEnd());
+    }
+
     private String extractAccountNumber(String iban, String countryCode) {
         try {
             CountryFormat format = IbanCountryConfig.getFormat(countryCode);
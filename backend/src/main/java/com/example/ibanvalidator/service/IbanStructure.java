@@ -0,0 +1,121 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.constants.IbanConstants;
+import org.apache.commons.validator.routines.IBANValidator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class IbanStructure {
+
+    private static final byte DIGIT = 1;
+    private static final byte LETTER = 2;
+    private static final byte ALPHANUMERIC = DIGIT | LETTER;
+
+    private static final Pattern TOKEN = Pattern.compile("(\\\\d|\\[A-Z]|\\[A-Z0-9])\\{(\\d+)}");
+    private static final Map<String, IbanStructure> STRUCTURES = load();
+
+    private final String countryCode;
+    private final byte[] classes;
+    private final String bbanFormat;
+
+    private IbanStructure(String countryCode, byte[] classes) {
+        this.countryCode = countryCode;
+        this.classes = classes;
+        this.bbanFormat = format(classes);
+    }
+
+    public static IbanStructure forCountry(String countryCode) {
+        return countryCode != null ? STRUCTURES.get(countryCode) : null;
+    }
+
+    public static List<IbanStructure> all() {
+        return List.copyOf(STRUCTURES.values());
+    }
+
+    public String countryCode() {
+        return countryCode;
+    }
+
+    public int length() {
+        return classes.length;
+    }
+
+    public boolean accepts(int position, char c) {
+        if (position < IbanConstants.COUNTRY_CODE_END) {
+            return countryCode.charAt(position) == c;
+        }
+        if (position >= classes.length) {
+            return false;
+        }
+        if (c >= '0' && c <= '9') {
+            return (classes[position] & DIGIT) != 0;
+        }
+        return c >= 'A' && c <= 'Z' && (classes[position] & LETTER) != 0;
+    }
+
+    public String bbanFormat() {
+        return bbanFormat;
+    }
+
+    private static Map<String, IbanStructure> load() {
+        Map<String, IbanStructure> structures = new TreeMap<>();
+        for (IBANValidator.Validator validator : IBANValidator.getInstance().getDefaultValidators()) {
+            for (Pattern pattern : validator.getRegexValidator().getPatterns()) {
+                IbanStructure structure = parse(pattern.pattern(), validator.getIbanLength());
+                if (structure != null) {
+                    structures.putIfAbsent(structure.countryCode, structure);
+                }
+            }
+        }
+        return structures;
+    }
+
+    private static IbanStructure parse(String regex, int length) {
+        if (regex.length() < IbanConstants.COUNTRY_CODE_END) {
+            return null;
+        }
+        byte[] classes = new byte[length];
+        int position = IbanConstants.COUNTRY_CODE_END;
+        Matcher matcher = TOKEN.matcher(regex);
+        int offset = IbanConstants.COUNTRY_CODE_END;
+        while (offset < regex.length()) {
+            if (!matcher.find(offset) || matcher.start() != offset) {
+                return null;
+            }
+            byte type = switch (matcher.group(1)) {
+                case "\\d" -> DIGIT;
+                case "[A-Z]" -> LETTER;
+                default -> ALPHANUMERIC;
+            };
+            int count = Integer.parseInt(matcher.group(2));
+            if (position + count > length) {
+                return null;
+            }
+            for (int i = 0; i < count; i++) {
+                classes[position++] = type;
+            }
+            offset = matcher.end();
+        }
+        return position == length ? new IbanStructure(regex.substring(0, IbanConstants.COUNTRY_CODE_END), classes) : null;
+    }
+
+    private static String format(byte[] classes) {
+        StringBuilder format = new StringBuilder();
+        int start = IbanConstants.BANK_CODE_START;
+        for (int i = start + 1; i <= classes.length; i++) {
+            if (i == classes.length || classes[i] != classes[start]) {
+                format.append(i - start).append('!').append(switch (classes[start]) {
+                    case DIGIT -> 'n';
+                    case LETTER -> 'a';
+                    default -> 'c';
+                });
+                start = i;
+            }
+        }
+        return format.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.constants.IbanConstants;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class IbanSuggester {
+
+    public enum Edit { SUBSTITUTION, TRANSPOSITION, DELETION, INSERTION }
+
+    public record Candidate(String iban, Edit edit, int position) {
+    }
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int FIRST_EDITABLE = IbanConstants.CHECK_DIGITS_START;
+    private static final int[] POW10 = new int[2 * (IbanConstants.MAX_IBAN_LENGTH + 1) + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10 % 97;
+        }
+    }
+
+    private IbanSuggester() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static List<Candidate> candidates(String iban, int expectedLength) {
+        int n = iban.length();
+        if (n < IbanConstants.BANK_CODE_START || Math.abs(n - expectedLength) > 1) {
+            return List.of();
+        }
+        for (int i = 0; i < n; i++) {
+            if (ALPHABET.indexOf(iban.charAt(i)) < 0) {
+                return List.of();
+            }
+        }
+
+        char[] rearranged = new char[n];
+        for (int k = 0; k < n; k++) {
+            rearranged[k] = iban.charAt((k + IbanConstants.BANK_CODE_START) % n);
+        }
+        int[] prefix = new int[n + 1];
+        for (int k = 0; k < n; k++) {
+            prefix[k + 1] = append(prefix[k], rearranged[k]);
+        }
+        int[] suffix = new int[n + 1];
+        int[] suffixDigits = new int[n + 1];
+        for (int k = n - 1; k >= 0; k--) {
+            suffixDigits[k] = suffixDigits[k + 1] + width(rearranged[k]);
+            suffix[k] = (int) ((value(rearranged[k]) * (long) POW10[suffixDigits[k + 1]] + suffix[k + 1]) % 97);
+        }
+
+        List<Candidate> found = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        if (n == expectedLength) {
+            substitutions(iban, rearranged, prefix, suffix, suffixDigits, found, seen);
+            transpositions(iban, rearranged, prefix, suffix, suffixDigits, found, seen);
+        } else if (n == expectedLength + 1) {
+            deletions(iban, prefix, suffix, suffixDigits, found, seen);
+        } else {
+            insertions(iban, prefix, suffix, suffixDigits, found, seen);
+        }
+        return found;
+    }
+
+    private static void substitutions(String iban, char[] rearranged, int[] prefix, int[] suffix, int[] suffixDigits,
+                                      List<Candidate> found, Set<String> seen) {
+        int n = iban.length();
+        for (int p = FIRST_EDITABLE; p < n; p++) {
+            int k = rearrangedIndex(p, n);
+            for (int a = 0; a < ALPHABET.length(); a++) {
+                char c = ALPHABET.charAt(a);
+                if (c == rearranged[k]) {
+                    continue;
+                }
+                if (combine(append(prefix[k], c), suffix[k + 1], suffixDigits[k + 1]) == 1) {
+                    add(found, seen, iban.substring(0, p) + c + iban.substring(p + 1), Edit.SUBSTITUTION, p);
+                }
+            }
+        }
+    }
+
+    private static void transpositions(String iban, char[] rearranged, int[] prefix, int[] suffix, int[] suffixDigits,
+                                       List<Candidate> found, Set<String> seen) {
+        int n = iban.length();
+        for (int p = FIRST_EDITABLE; p < n - 1; p++) {
+            char first = iban.charAt(p);
+            char second = iban.charAt(p + 1);
+            if (first == second) {
+                continue;
+            }
+            String swapped = iban.substring(0, p) + second + first + iban.substring(p + 2);
+            int remainder;
+            if (p + 1 == IbanConstants.BANK_CODE_START) {
+                remainder = IbanGenerator.mod97(swapped);
+            } else {
+                int k = rearrangedIndex(p, n);
+                remainder = combine(append(append(prefix[k], rearranged[k + 1]), rearranged[k]),
+                        suffix[k + 2], suffixDigits[k + 2]);
+            }
+            if (remainder == 1) {
+                add(found, seen, swapped, Edit.TRANSPOSITION, p);
+            }
+        }
+    }
+
+    private static void deletions(String iban, int[] prefix, int[] suffix, int[] suffixDigits,
+                                  List<Candidate> found, Set<String> seen) {
+        int n = iban.length();
+        for (int p = FIRST_EDITABLE; p < n; p++) {
+            String shortened = iban.substring(0, p) + iban.substring(p + 1);
+            int remainder;
+            if (p < IbanConstants.BANK_CODE_START) {
+                remainder = IbanGenerator.mod97(shortened);
+            } else {
+                int k = p - IbanConstants.BANK_CODE_START;
+                remainder = combine(prefix[k], suffix[k + 1], suffixDigits[k + 1]);
+            }
+            if (remainder == 1) {
+                add(found, seen, shortened, Edit.DELETION, p);
+            }
+        }
+    }
+
+    private static void insertions(String iban, int[] prefix, int[] suffix, int[] suffixDigits,
+                                   List<Candidate> found, Set<String> seen) {
+        int n = iban.length();
+        for (int p = FIRST_EDITABLE; p <= n; p++) {
+            int k = p - IbanConstants.BANK_CODE_START;
+            for (int a = 0; a < ALPHABET.length(); a++) {
+                char c = ALPHABET.charAt(a);
+                int remainder;
+                String extended = null;
+                if (k < 0) {
+                    extended = iban.substring(0, p) + c + iban.substring(p);
+                    remainder = IbanGenerator.mod97(extended);
+                } else {
+                    remainder = combine(append(prefix[k], c), suffix[k], suffixDigits[k]);
+                }
+                if (remainder == 1) {
+                    add(found, seen, extended != null ? extended : iban.substring(0, p) + c + iban.substring(p),
+                            Edit.INSERTION, p);
+                }
+            }
+        }
+    }
+
+    private static void add(List<Candidate> found, Set<String> seen, String iban, Edit edit, int position) {
+        if (seen.add(iban)) {
+            found.add(new Candidate(iban, edit, position));
+        }
+    }
+
+    private static int rearrangedIndex(int position, int length) {
+        return (position - IbanConstants.BANK_CODE_START + length) % length;
+    }
+
+    private static int combine(int head, int tail, int tailDigits) {
+        return (int) ((head * (long) POW10[tailDigits] + tail) % 97);
+    }
+
+    private static int append(int remainder, char c) {
+        return combine(remainder, value(c), width(c));
+    }
+
+    private static int value(char c) {
+        return c <= '9' ? c - '0' : c - 'A' + 10;
+    }
+
+    private static int width(char c) {
+        return c <= '9' ? 1 : 2;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.constants.IbanConstants;
+import com.example.ibanvalidator.dto.IbanSuggestion;
+import com.example.ibanvalidator.dto.IbanSuggestionResponse;
+import com.example.ibanvalidator.dto.IbanValidationRequest;
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import org.apache.commons.validator.routines.IBANValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class IbanSuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(IbanSuggestionService.class);
+
+    private final IbanService ibanService;
+    private final BankDirectory bankDirectory;
+    private final IBANValidator ibanValidator;
+    private final int maxResults;
+
+    public IbanSuggestionService(IbanService ibanService,
+                                 BankDirectory bankDirectory,
+                                 @Value("${iban.suggestions.max-results:10}") int maxResults) {
+        this.ibanService = ibanService;
+        this.bankDirectory = bankDirectory;
+        this.ibanValidator = IBANValidator.getInstance();
+        this.maxResults = maxResults;
+    }
+
+    public IbanSuggestionResponse suggest(IbanValidationRequest request) {
+        String iban = ibanService.normalizeIban(request.getIban());
+        IbanSuggestionResponse response = new IbanSuggestionResponse();
+        response.setIban(iban);
+        response.setSuggestions(List.of());
+
+        IbanValidationResponse validation = ibanService.validateStructure(iban);
+        if (validation.isValid()) {
+            response.setValid(true);
+            return response;
+        }
+        response.setErrorMessage(validation.getErrorMessage());
+
+        if (iban.length() < IbanConstants.BANK_CODE_START) {
+            return response;
+        }
+        IBANValidator.Validator validator = ibanValidator.getValidator(
+                iban.substring(IbanConstants.COUNTRY_CODE_START, IbanConstants.COUNTRY_CODE_END));
+        if (validator == null) {
+            return response;
+        }
+
+        List<IbanSuggester.Candidate> candidates = IbanSuggester.candidates(iban, validator.getIbanLength());
+        if (candidates.isEmpty()) {
+            return response;
+        }
+
+        DirectorySnapshot directory = request.getAsOf() != null
+                ? bankDirectory.asOf(request.getAsOf())
+                : bankDirectory.current();
+        response.setDirectoryVersion(directory.getVersion());
+
+        List<IbanSuggestion> suggestions = new ArrayList<>();
+        for (IbanSuggester.Candidate candidate : candidates) {
+            IbanValidationResponse checked = ibanService.validateStructure(candidate.iban());
+            if (!checked.isValid()) {
+                continue;
+            }
+            ibanService.enrich(checked, directory);
+            if (!checked.isValid()) {
+                continue;
+            }
+            suggestions.add(toSuggestion(candidate, checked));
+        }
+        suggestions.sort(Comparator.comparing(IbanSuggestion::isBankKnown).reversed());
+        if (suggestions.size() > maxResults) {
+            suggestions = new ArrayList<>(suggestions.subList(0, maxResults));
+        }
+
+        log.debug("IBAN {}: {} Kandidaten mit gültiger Prüfziffer, {} Vorschläge",
+                iban, candidates.size(), suggestions.size());
+        response.setSuggestions(suggestions);
+        return response;
+    }
+
+    private static IbanSuggestion toSuggestion(IbanSuggester.Candidate candidate, IbanValidationResponse checked) {
+        IbanSuggestion suggestion = new IbanSuggestion();
+        suggestion.setIban(candidate.iban());
+        suggestion.setEdit(candidate.edit().name());
+        suggestion.setPosition(candidate.position());
+        suggestion.setBankKnown(checked.getBank() != null);
+        suggestion.setBank(checked.getBank());
+        suggestion.setBic(checked.getBic());
+        return suggestion;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.config.IbanCountryConfig;
+import com.example.ibanvalidator.config.IbanCountryConfig.CountryFormat;
+import com.example.ibanvalidator.constants.IbanConstants;
+import com.example.ibanvalidator.dto.IncrementalValidationRequest;
+import com.example.ibanvalidator.dto.IncrementalValidationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+@Service
+public class IncrementalValidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(IncrementalValidationService.class);
+
+    private static final byte STATE_VERSION = 2;
+    private static final int STATE_SIZE = 13;
+    private static final int BANK_CHECKED = 1;
+    private static final int BANK_KNOWN = 2;
+
+    private final IbanService ibanService;
+    private final BankDirectory bankDirectory;
+
+    public IncrementalValidationService(IbanService ibanService, BankDirectory bankDirectory) {
+        this.ibanService = ibanService;
+        this.bankDirectory = bankDirectory;
+    }
+
+    public IncrementalValidationResponse validate(IncrementalValidationRequest request) {
+        String raw = request.getIban() != null ? request.getIban() : "";
+        Cursor cursor = Cursor.decode(request.getState());
+        IbanStructure structure = cursor != null && cursor.count >= IbanConstants.COUNTRY_CODE_END
+                ? IbanStructure.forCountry(cursor.countryCode())
+                : null;
+        if (cursor == null || !cursor.appliesTo(raw)
+                || (cursor.count >= IbanConstants.COUNTRY_CODE_END && structure == null)) {
+            cursor = new Cursor();
+            structure = null;
+        }
+
+        IncrementalValidationResponse response = new IncrementalValidationResponse();
+        for (; cursor.offset < raw.length(); cursor.offset++) {
+            char c = raw.charAt(cursor.offset);
+            if (c == IbanConstants.SPACE || c == IbanConstants.HYPHEN) {
+                continue;
+            }
+            if (c >= 'a' && c <= 'z') {
+                c = (char) (c - IbanConstants.LOWERCASE_TO_UPPERCASE_OFFSET);
+            }
+            int position = cursor.count;
+            if ((c < '0' || c > '9') && (c < 'A' || c > 'Z')) {
+                return reject(response, structure, position, "IBAN enthält ungültige Zeichen");
+            }
+            if (position < IbanConstants.COUNTRY_CODE_END && (c < 'A' || c > 'Z')) {
+                return reject(response, structure, position, "Ländercode muss aus zwei Buchstaben bestehen");
+            }
+            if (structure != null && position >= structure.length()) {
+                return reject(response, structure, position,
+                        "IBAN zu lang (Maximal " + structure.length() + " Zeichen für " + structure.countryCode() + ")");
+            }
+            if (structure != null && !structure.accepts(position, c)) {
+                return reject(response, structure, position,
+                        "Zeichen an Position " + (position + 1) + " passt nicht zum IBAN-Format für " + structure.countryCode());
+            }
+
+            if (position < IbanConstants.BANK_CODE_START) {
+                cursor.header[position] = c;
+            } else {
+                cursor.remainder = IbanGenerator.append(cursor.remainder, c);
+            }
+            cursor.count++;
+
+            if (cursor.count == IbanConstants.COUNTRY_CODE_END) {
+                structure = IbanStructure.forCountry(cursor.countryCode());
+                if (structure == null) {
+                    reject(response, null, IbanConstants.COUNTRY_CODE_START,
+                            "Nicht unterstützter Ländercode: " + cursor.countryCode());
+                    response.setLength(cursor.count);
+                    response.setCountryKnown(false);
+                    return response;
+                }
+            }
+            if (structure != null && IbanCountryConfig.hasFormat(structure.countryCode())
+                    && cursor.count == IbanCountryConfig.getFormat(structure.countryCode()).bankCodeEnd()) {
+                checkBank(cursor, raw, structure.countryCode());
+            }
+        }
+        cursor.prefixChecksum = checksum(raw, cursor.offset);
+
+        response.setLength(cursor.count);
+        response.setValidSoFar(true);
+        if (structure != null) {
+            response.setCountryKnown(true);
+            response.setExpectedLength(structure.length());
+            response.setComplete(cursor.count == structure.length());
+        }
+        if ((cursor.flags & BANK_CHECKED) != 0) {
+            response.setBankRecognized((cursor.flags & BANK_KNOWN) != 0);
+        }
+        if (response.isComplete()) {
+            return complete(response, cursor, raw);
+        }
+        response.setState(cursor.encode());
+        return response;
+    }
+
+    private IncrementalValidationResponse complete(IncrementalValidationResponse response, Cursor cursor, String raw) {
+        int remainder = cursor.remainder;
+        for (char c : cursor.header) {
+            remainder = IbanGenerator.append(remainder, c);
+        }
+        int checkDigits = (cursor.header[IbanConstants.CHECK_DIGITS_START] - '0') * 10
+                + cursor.header[IbanConstants.CHECK_DIGITS_START + 1] - '0';
+        if (remainder != 1 || checkDigits < 2 || checkDigits > 98) {
+            response.setValidSoFar(false);
+            response.setErrorPosition(IbanConstants.CHECK_DIGITS_START);
+            response.setErrorMessage("Ungültige IBAN (Prüfziffer falsch)");
+            return response;
+        }
+        NationalCheck nationalCheck = NationalCheckRegistry.forCountry(cursor.header[0], cursor.header[1]);
+        if (nationalCheck != null && !nationalCheck.isValid(ibanService.normalizeIban(raw))) {
+            response.setValidSoFar(false);
+            response.setErrorMessage("Nationale Prüfziffer ungültig (" + nationalCheck.name() + ")");
+            return response;
+        }
+        response.setValid(true);
+        response.setState(cursor.encode());
+        return response;
+    }
+
+    private void checkBank(Cursor cursor, String raw, String countryCode) {
+        CountryFormat format = IbanCountryConfig.getFormat(countryCode);
+        String bankCode = ibanService.normalizeIban(raw.substring(0, cursor.offset + 1))
+                .substring(format.bankCodeStart(), format.bankCodeEnd());
+        boolean known = bankDirectory.current().findByBankCodeAndCountryCode(bankCode, countryCode).isPresent();
+        log.debug("Bankleitzahl {} ({}) während der Eingabe geprüft: {}", bankCode, countryCode,
+                known ? "bekannt" : "unbekannt");
+        cursor.flags |= BANK_CHECKED | (known ? BANK_KNOWN : 0);
+    }
+
+    private static int checksum(String raw, int length) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < length; i++) {
+            char c = raw.charAt(i);
+            crc.update(c >>> 8);
+            crc.update(c);
+        }
+        return (int) crc.getValue();
+    }
+
+    private static IncrementalValidationResponse reject(IncrementalValidationResponse response, IbanStructure structure,
+                                                        int position, String message) {
+        response.setLength(position + 1);
+        response.setValidSoFar(false);
+        response.setErrorPosition(position);
+        response.setErrorMessage(message);
+        if (structure != null) {
+            response.setCountryKnown(true);
+            response.setExpectedLength(structure.length());
+        }
+        return response;
+    }
+
+    private static final class Cursor {
+
+        private int offset;
+        private int count;
+        private int remainder;
+        private int flags;
+        private final char[] header = new char[IbanConstants.BANK_CODE_START];
+        private int prefixChecksum;
+
+        private String countryCode() {
+            return new String(header, IbanConstants.COUNTRY_CODE_START, IbanConstants.COUNTRY_CODE_END);
+        }
+
+        private boolean appliesTo(String raw) {
+            return offset <= raw.length() && checksum(raw, offset) == prefixChecksum;
+        }
+
+        private String encode() {
+            byte[] bytes = new byte[STATE_SIZE];
+            bytes[0] = STATE_VERSION;
+            bytes[1] = (byte) offset;
+            bytes[2] = (byte) count;
+            bytes[3] = (byte) remainder;
+            bytes[4] = (byte) flags;
+            for (int i = 0; i < header.length; i++) {
+                bytes[5 + i] = (byte) header[i];
+            }
+            bytes[9] = (byte) (prefixChecksum >>> 24);
+            bytes[10] = (byte) (prefixChecksum >>> 16);
+            bytes[11] = (byte) (prefixChecksum >>> 8);
+            bytes[12] = (byte) prefixChecksum;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        }
+
+        private static Cursor decode(String state) {
+            if (state == null || state.isEmpty()) {
+                return null;
+            }
+            byte[] bytes;
+            try {
+                bytes = Base64.getUrlDecoder().decode(state);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            if (bytes.length != STATE_SIZE || bytes[0] != STATE_VERSION) {
+                return null;
+            }
+            Cursor cursor = new Cursor();
+            cursor.offset = bytes[1] & 0xFF;
+            cursor.count = bytes[2] & 0xFF;
+            cursor.remainder = bytes[3] & 0xFF;
+            cursor.flags = bytes[4] & 0xFF;
+            for (int i = 0; i < cursor.header.length; i++) {
+                cursor.header[i] = (char) (bytes[5 + i] & 0xFF);
+            }
+            cursor.prefixChecksum = (bytes[9] & 0xFF) << 24 | (bytes[10] & 0xFF) << 16
+                    | (bytes[11] & 0xFF) << 8 | (bytes[12] & 0xFF);
+            if (cursor.count > cursor.offset || cursor.count > IbanConstants.MAX_IBAN_LENGTH || cursor.remainder >= 97) {
+                return null;
+            }
+            return cursor;
+        }
+    }
+}
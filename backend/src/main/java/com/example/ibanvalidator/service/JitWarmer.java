@@ -0,0 +1,218 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.config.IbanCountryConfig;
+import com.example.ibanvalidator.config.IbanCountryConfig.CountryFormat;
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import com.example.ibanvalidator.model.Bank;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+@Component
+public class JitWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(JitWarmer.class);
+
+    private static final List<String> FALLBACK_IBANS = List.of(
+            "DE89370400440532013000", "GB82WEST12345698765432", "FR1420041010050500013M02606",
+            "NL91ABNA0417164300", "AT611904300234573201", "CH9300762011623852957", "BE68539007547034",
+            "ES9121000418450200051332", "IT60X0542811101000000123456");
+    private static final List<String> FALLBACK_BICS = List.of("DEUTDEFFXXX", "COBADEFF", "BNPAFRPP", "INVALID1");
+    private static final int POOL_SIZE = 512;
+    private static final List<Class<?>> QUIET_LOGGERS = List.of(IbanService.class, BicValidationService.class);
+
+    private final IbanService ibanService;
+    private final BicValidationService bicValidationService;
+    private final BankDirectory bankDirectory;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer warmUpDuration;
+    private final boolean enabled;
+    private final Duration maxDuration;
+    private final int roundSize;
+    private final int stableRounds;
+    private final Duration compileThreshold;
+
+    public JitWarmer(IbanService ibanService,
+                     BicValidationService bicValidationService,
+                     BankDirectory bankDirectory,
+                     ObjectMapper objectMapper,
+                     ApplicationEventPublisher eventPublisher,
+                     MeterRegistry meterRegistry,
+                     @Value("${iban.warm-up.enabled:true}") boolean enabled,
+                     @Value("${iban.warm-up.max-duration:PT30S}") Duration maxDuration,
+                     @Value("${iban.warm-up.round-size:2000}") int roundSize,
+                     @Value("${iban.warm-up.stable-rounds:3}") int stableRounds,
+                     @Value("${iban.warm-up.compile-threshold:PT0.01S}") Duration compileThreshold) {
+        this.ibanService = ibanService;
+        this.bicValidationService = bicValidationService;
+        this.bankDirectory = bankDirectory;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.warmUpDuration = Timer.builder("iban.warmup.duration")
+                .description("Dauer der JIT-Aufwärmphase vor der Bereitschaft").register(meterRegistry);
+        this.enabled = enabled;
+        this.maxDuration = maxDuration;
+        this.roundSize = roundSize;
+        this.stableRounds = stableRounds;
+        this.compileThreshold = compileThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        LoggingSystem loggingSystem = LoggingSystem.get(JitWarmer.class.getClassLoader());
+        List<LogLevel> previousLevels = quiet(loggingSystem);
+        try {
+            warmUpDuration.record(this::run);
+        } finally {
+            restore(loggingSystem, previousLevels);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    private void run() {
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean compileTimeAvailable = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        DirectorySnapshot directory = bankDirectory.current();
+        List<String> ibans = ibanPool(directory);
+        List<String> bics = bicPool(directory);
+
+        long started = System.nanoTime();
+        long deadline = started + maxDuration.toNanos();
+        long lastCompileTime = compileTimeAvailable ? compiler.getTotalCompilationTime() : 0;
+        int rounds = 0;
+        int stable = 0;
+        while (System.nanoTime() < deadline && (!compileTimeAvailable || stable < stableRounds)) {
+            for (int i = 0; i < roundSize; i++) {
+                drive(ibans.get(i % ibans.size()), bics.get(i % bics.size()), directory);
+            }
+            rounds++;
+            if (compileTimeAvailable) {
+                long compileTime = compiler.getTotalCompilationTime();
+                stable = compileTime - lastCompileTime <= compileThreshold.toMillis() ? stable + 1 : 0;
+                lastCompileTime = compileTime;
+            }
+        }
+
+        long millis = (System.nanoTime() - started) / 1_000_000;
+        if (compileTimeAvailable && stable >= stableRounds) {
+            log.info("JIT-Aufwärmphase abgeschlossen: {} Runden à {} Anfragen in {} ms, Kompilierzeit stabil bei {} ms",
+                    rounds, roundSize, millis, lastCompileTime);
+        } else {
+            log.info("JIT-Aufwärmphase nach {} ms beendet (Zeitbudget): {} Runden à {} Anfragen",
+                    millis, rounds, roundSize);
+        }
+    }
+
+    private void drive(String iban, String bic, DirectorySnapshot directory) {
+        IbanValidationResponse response = ibanService.validateStructure(iban);
+        if (response.isValid()) {
+            ibanService.enrich(response, directory);
+        }
+        try {
+            objectMapper.writeValueAsBytes(response);
+            objectMapper.writeValueAsBytes(bicValidationService.validateBic(bic));
+        } catch (JsonProcessingException e) {
+            log.debug("Serialisierung in der Aufwärmphase fehlgeschlagen: {}", e.getMessage());
+        }
+    }
+
+    private static List<String> ibanPool(DirectorySnapshot directory) {
+        Random random = new Random(POOL_SIZE);
+        List<Bank> banks = directory.getBanks();
+        List<String> pool = new ArrayList<>(POOL_SIZE);
+        for (int attempt = 0; attempt < POOL_SIZE * 2 && pool.size() < POOL_SIZE && !banks.isEmpty(); attempt++) {
+            Bank bank = banks.get(random.nextInt(banks.size()));
+            String iban = generate(bank, random);
+            if (iban == null) {
+                continue;
+            }
+            switch (pool.size() % 4) {
+                case 1 -> pool.add(iban.toLowerCase(Locale.ROOT).replaceAll("(.{4})", "$1 ").trim());
+                case 3 -> pool.add(iban.substring(0, iban.length() - 1)
+                        + (char) ('0' + (iban.charAt(iban.length() - 1) - '0' + 1) % 10));
+                default -> pool.add(iban);
+            }
+        }
+        if (pool.size() < FALLBACK_IBANS.size()) {
+            pool.addAll(FALLBACK_IBANS);
+        }
+        return pool;
+    }
+
+    private static String generate(Bank bank, Random random) {
+        String countryCode = bank.getCountryCode();
+        if (countryCode == null || !IbanCountryConfig.hasFormat(countryCode)) {
+            return null;
+        }
+        CountryFormat format = IbanCountryConfig.getFormat(countryCode);
+        try {
+            return IbanGenerator.generate(countryCode, bank.getBankCode(),
+                    digits(random, format.accountNumberStart() - format.bankCodeEnd()), digits(random, 10));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String digits(Random random, int length) {
+        StringBuilder digits = new StringBuilder(Math.max(0, length));
+        for (int i = 0; i < length; i++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        return digits.toString();
+    }
+
+    private static List<String> bicPool(DirectorySnapshot directory) {
+        List<String> pool = new ArrayList<>(FALLBACK_BICS);
+        for (Bank bank : directory.getBanks()) {
+            if (pool.size() >= POOL_SIZE) {
+                break;
+            }
+            if (bank.getBic() != null) {
+                pool.add(bank.getBic());
+            }
+        }
+        return pool;
+    }
+
+    private static List<LogLevel> quiet(LoggingSystem loggingSystem) {
+        List<LogLevel> previous = new ArrayList<>(QUIET_LOGGERS.size());
+        for (Class<?> logger : QUIET_LOGGERS) {
+            previous.add(loggingSystem.getLoggerConfiguration(logger.getName()).getConfiguredLevel());
+            loggingSystem.setLogLevel(logger.getName(), LogLevel.WARN);
+        }
+        return previous;
+    }
+
+    private static void restore(LoggingSystem loggingSystem, List<LogLevel> previousLevels) {
+        for (int i = 0; i < QUIET_LOGGERS.size(); i++) {
+            loggingSystem.setLogLevel(QUIET_LOGGERS.get(i).getName(), previousLevels.get(i));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.ibanvalidator.service;
+
+public interface NationalCheck {
+
+    String name();
+
+    boolean isValid(CharSequence iban);
+}
@@ -0,0 +1,33 @@
+package com.example.ibanvalidator.service;
+
+public final class NationalCheckRegistry {
+
+    private static final NationalCheck[] CHECKS = new NationalCheck[26 * 26];
+
+    static {
+        register("FR", NationalChecks.RIB_KEY);
+        register("MC", NationalChecks.RIB_KEY);
+        register("IT", NationalChecks.CIN);
+        register("SM", NationalChecks.CIN);
+        register("ES", NationalChecks.DC);
+        register("BE", NationalChecks.BE_MOD97);
+        register("NL", NationalChecks.ELFPROEF);
+        register("PT", NationalChecks.NIB);
+        register("NO", NationalChecks.NO_MOD11);
+    }
+
+    private NationalCheckRegistry() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static NationalCheck forCountry(char first, char second) {
+        if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') {
+            return null;
+        }
+        return CHECKS[(first - 'A') * 26 + second - 'A'];
+    }
+
+    public static synchronized void register(String countryCode, NationalCheck check) {
+        CHECKS[(countryCode.charAt(0) - 'A') * 26 + countryCode.charAt(1) - 'A'] = check;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.ibanvalidator.service;
+
+public enum NationalChecks implements NationalCheck {
+
+    RIB_KEY {
+        @Override
+        public boolean isValid(CharSequence iban) {
+            long bank = number(iban, 4, 9);
+            long branch = number(iban, 9, 14);
+            long account = 0;
+            for (int i = 14; i < 25; i++) {
+                account = account * 10 + ribDigit(iban.charAt(i));
+            }
+            long key = number(iban, 25, 27);
+            return 97 - (89 * bank + 15 * branch + 3 * account) % 97 == key;
+        }
+    },
+
+    CIN {
+        @Override
+        public boolean isValid(CharSequence iban) {
+            return iban.charAt(4) == cin(iban);
+        }
+    },
+
+    DC {
+        @Override
+        public boolean isValid(CharSequence iban) {
+            return dc(iban, 4, 12, 2) == iban.charAt(12) - '0'
+                    && dc(iban, 14, 24, 0) == iban.charAt(13) - '0';
+        }
+    },
+
+    BE_MOD97 {
+        @Override
+        public boolean isValid(CharSequence iban) {
+            long remainder = number(iban, 4, 14) % 97;
+            return (remainder == 0 ? 97 : remainder) == number(iban, 14, 16);
+        }
+    },
+
+    ELFPROEF {
+        @Override
+        public boolean isValid(CharSequence iban) {
+            if (iban.charAt(4) == 'I' && iban.charAt(5) == 'N' && iban.charAt(6) == 'G' && iban.charAt(7) == 'B') {
+                return true;
+            }
+            int sum = 0;
+            for (int i = 8, weight = 10; i < 18; i++, weight--) {
+                sum += (iban.charAt(i) - '0') * weight;
+            }
+            return sum % 11 == 0;
+        }
+    },
+
+    NIB {
+        @Override
+        public boolean isValid(CharSequence iban) {
+            long remainder = 0;
+            for (int i = 4; i < 23; i++) {
+                remainder = (remainder * 10 + iban.charAt(i) - '0') % 97;
+            }
+            return 98 - remainder * 100 % 97 == number(iban, 23, 25);
+        }
+    },
+
+    NO_MOD11 {
+        @Override
+        public boolean isValid(CharSequence iban) {
+            int sum = 0;
+            for (int i = 4; i < 14; i++) {
+                sum += (iban.charAt(i) - '0') * NO_WEIGHTS[i - 4];
+            }
+            int remainder = sum % 11;
+            int check = remainder == 0 ? 0 : 11 - remainder;
+            return check != 10 && check == iban.charAt(14) - '0';
+        }
+    };
+
+    private static final int[] CIN_ODD = {
+            1, 0, 5, 7, 9, 13, 15, 17, 19, 21, 2, 4, 18, 20, 11, 3, 6, 8, 12, 14, 16, 10, 22, 25, 24, 23
+    };
+    private static final int[] DC_WEIGHTS = {1, 2, 4, 8, 5, 10, 9, 7, 3, 6};
+    private static final int[] NO_WEIGHTS = {5, 4, 3, 2, 7, 6, 5, 4, 3, 2};
+
+    static char cin(CharSequence iban) {
+        int sum = 0;
+        for (int i = 5, n = 0; i < 27; i++, n++) {
+            char c = iban.charAt(i);
+            int value = c <= '9' ? c - '0' : c - 'A';
+            sum += (n & 1) == 0 ? CIN_ODD[value] : value;
+        }
+        return (char) ('A' + sum % 26);
+    }
+
+    private static long number(CharSequence iban, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + iban.charAt(i) - '0';
+        }
+        return value;
+    }
+
+    private static int ribDigit(char c) {
+        if (c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'S') {
+            return c - 'S' + 2;
+        }
+        return (c - 'A') % 9 + 1;
+    }
+
+    private static int dc(CharSequence iban, int start, int end, int leadingZeros) {
+        int sum = 0;
+        for (int i = start, w = leadingZeros; i < end; i++, w++) {
+            sum += (iban.charAt(i) - '0') * DC_WEIGHTS[w];
+        }
+        int check = 11 - sum % 11;
+        return check == 11 ? 0 : check == 10 ? 1 : check;
+    }
+}
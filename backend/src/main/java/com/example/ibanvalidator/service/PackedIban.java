@@ -0,0 +1,124 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.constants.IbanConstants;
+
+public final class PackedIban {
+
+    private static final int CHARS_PER_WORD = 12;
+    private static final int RADIX = 37;
+
+    private final long high;
+    private final long middle;
+    private final long low;
+
+    PackedIban(long high, long middle, long low) {
+        this.high = high;
+        this.middle = middle;
+        this.low = low;
+    }
+
+    public static PackedIban pack(CharSequence iban) {
+        if (iban == null || iban.length() == 0 || iban.length() > IbanConstants.MAX_IBAN_LENGTH) {
+            return null;
+        }
+        long[] words = new long[3];
+        for (int word = 0; word < words.length; word++) {
+            long packed = 0;
+            for (int i = word * CHARS_PER_WORD; i < (word + 1) * CHARS_PER_WORD; i++) {
+                int digit = 0;
+                if (i < iban.length()) {
+                    digit = digit(iban.charAt(i));
+                    if (digit < 0) {
+                        return null;
+                    }
+                }
+                packed = packed * RADIX + digit;
+            }
+            words[word] = packed;
+        }
+        return new PackedIban(words[0], words[1], words[2]);
+    }
+
+    public long high() {
+        return high;
+    }
+
+    public long middle() {
+        return middle;
+    }
+
+    public long low() {
+        return low;
+    }
+
+    public int length() {
+        int length = 0;
+        for (long word : new long[] {high, middle, low}) {
+            for (int i = 0; i < CHARS_PER_WORD; i++) {
+                if (word % RADIX != 0) {
+                    length++;
+                }
+                word /= RADIX;
+            }
+        }
+        return length;
+    }
+
+    static int hash(long high, long middle, long low) {
+        return (int) mix(high, middle, low);
+    }
+
+    static long mix(long high, long middle, long low) {
+        long h = high * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 29) ^ middle) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 32) ^ low) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof PackedIban packed
+                && high == packed.high && middle == packed.middle && low == packed.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(high, middle, low);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[3 * CHARS_PER_WORD];
+        int length = 0;
+        long[] words = {high, middle, low};
+        for (int word = 0; word < words.length; word++) {
+            long packed = words[word];
+            for (int i = CHARS_PER_WORD - 1; i >= 0; i--) {
+                int digit = (int) (packed % RADIX);
+                packed /= RADIX;
+                if (digit != 0) {
+                    chars[word * CHARS_PER_WORD + i] = character(digit);
+                    length = Math.max(length, word * CHARS_PER_WORD + i + 1);
+                }
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        return -1;
+    }
+
+    private static char character(int digit) {
+        return digit <= 10 ? (char) ('0' + digit - 1) : (char) ('A' + digit - 11);
+    }
+}
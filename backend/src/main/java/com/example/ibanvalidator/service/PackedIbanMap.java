@@ -0,0 +1,127 @@
+package com.example.ibanvalidator.service;
+
+import java.util.function.Function;
+
+public final class PackedIbanMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public PackedIbanMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public PackedIbanMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3L < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(PackedIban iban) {
+        int slot = find(iban);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    public boolean containsKey(PackedIban iban) {
+        return find(iban) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(PackedIban iban, V value) {
+        int slot = find(iban);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(-slot - 1, iban, value);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(PackedIban iban, Function<PackedIban, V> loader) {
+        int slot = find(iban);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        V value = loader.apply(iban);
+        if (value != null) {
+            insert(-slot - 1, iban, value);
+        }
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+    }
+
+    private int find(PackedIban iban) {
+        long high = iban.high();
+        long middle = iban.middle();
+        long low = iban.low();
+        int slot = PackedIban.hash(high, middle, low) & mask;
+        long candidate;
+        while ((candidate = keys[slot * 3]) != 0) {
+            if (candidate == high && keys[slot * 3 + 1] == middle && keys[slot * 3 + 2] == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    private void insert(int slot, PackedIban iban, V value) {
+        keys[slot * 3] = iban.high();
+        keys[slot * 3 + 1] = iban.middle();
+        keys[slot * 3 + 2] = iban.low();
+        values[slot] = value;
+        size++;
+        if (size * 4L > values.length * 3L) {
+            grow();
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldValues.length * 2);
+        for (int i = 0; i < oldValues.length; i++) {
+            long high = oldKeys[i * 3];
+            if (high == 0) {
+                continue;
+            }
+            long middle = oldKeys[i * 3 + 1];
+            long low = oldKeys[i * 3 + 2];
+            int slot = PackedIban.hash(high, middle, low) & mask;
+            while (keys[slot * 3] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot * 3] = high;
+            keys[slot * 3 + 1] = middle;
+            keys[slot * 3 + 2] = low;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * 3];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.ibanvalidator.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public final class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets;
+    private final int maxClients;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier clock;
+    private final AtomicLong overflow;
+    private final AtomicLong lastEviction;
+
+    public RateLimiter(int capacity, double refillPerSecond, int maxClients) {
+        this(capacity, refillPerSecond, maxClients, System::nanoTime);
+    }
+
+    public RateLimiter(int capacity, double refillPerSecond, int maxClients, LongSupplier clock) {
+        if (capacity < 1 || refillPerSecond <= 0 || maxClients < 1) {
+            throw new IllegalArgumentException("Kapazität, Nachfüllrate und Clientanzahl müssen positiv sein");
+        }
+        this.buckets = new ConcurrentHashMap<>(Math.min(maxClients, 1024) * 2);
+        this.maxClients = maxClients;
+        this.intervalNanos = Math.max(1L, Math.round(NANOS_PER_SECOND / refillPerSecond));
+        this.toleranceNanos = intervalNanos * capacity;
+        this.clock = clock;
+        long now = clock.getAsLong();
+        this.overflow = new AtomicLong(now);
+        this.lastEviction = new AtomicLong(now - NANOS_PER_SECOND);
+    }
+
+    public long tryAcquire(String client) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = bucket(client, now);
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long next = Math.max(theoreticalArrival, now) + intervalNanos;
+            long wait = next - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public boolean isSaturated() {
+        return buckets.size() >= maxClients;
+    }
+
+    private AtomicLong bucket(String client, long now) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            long last = lastEviction.get();
+            if (now - last >= NANOS_PER_SECOND && lastEviction.compareAndSet(last, now)) {
+                evictIdle();
+            }
+            if (buckets.size() >= maxClients) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.exception.SepaFileException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public final class SepaDocumentReader {
+
+    public record Account(String party, String iban, String ibanPath, String bic, String bicPath) {
+    }
+
+    public record Header(String messageType, String messageId, long transactions) {
+    }
+
+    private static final String CREDIT_TRANSFER = "CstmrCdtTrfInitn";
+    private static final String DIRECT_DEBIT = "CstmrDrctDbtInitn";
+    private static final Set<String> INDEXED = Set.of("PmtInf", "CdtTrfTxInf", "DrctDbtTxInf");
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private SepaDocumentReader() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static Header read(InputStream input, Consumer<Account> accounts) {
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(input);
+            return read(reader, accounts);
+        } catch (XMLStreamException e) {
+            throw new SepaFileException("Ungültiges XML: " + e.getMessage());
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+    }
+
+    private static Header read(XMLStreamReader reader, Consumer<Account> accounts) throws XMLStreamException {
+        Deque<Frame> stack = new ArrayDeque<>();
+        String messageType = null;
+        String messageId = null;
+        long transactions = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                stack.pop().flush(accounts);
+                continue;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String name = reader.getLocalName();
+            Frame parent = stack.peek();
+            if (parent == null) {
+                messageType = messageType(reader.getNamespaceURI());
+                stack.push(new Frame(name, "/" + name));
+                continue;
+            }
+            if (stack.size() == 1 && !CREDIT_TRANSFER.equals(name) && !DIRECT_DEBIT.equals(name)) {
+                throw new SepaFileException("Keine pain.001- oder pain.008-Nachricht (Element " + name + ")");
+            }
+            if (name.endsWith("TxInf")) {
+                parent.flush(accounts);
+                transactions++;
+            }
+            int index = parent.nextIndex(name);
+            Frame frame = new Frame(name, parent.path + "/" + name
+                    + (index > 1 || INDEXED.contains(name) ? "[" + index + "]" : ""));
+
+            if (isAccountIban(stack, name)) {
+                Frame scope = scope(stack);
+                scope.party(party(stack, "Acct")).iban(reader.getElementText().trim(), frame.path);
+            } else if (isAgentBic(stack, name)) {
+                Frame scope = scope(stack);
+                scope.party(party(stack, "Agt")).bic(reader.getElementText().trim(), frame.path);
+            } else if ("MsgId".equals(name) && "GrpHdr".equals(parent.name)) {
+                messageId = reader.getElementText().trim();
+            } else {
+                stack.push(frame);
+            }
+        }
+        if (messageType == null) {
+            throw new SepaFileException("SEPA-Datei enthält kein Dokument");
+        }
+        return new Header(messageType, messageId, transactions);
+    }
+
+    private static boolean isAccountIban(Deque<Frame> stack, String name) {
+        if (!"IBAN".equals(name) || stack.size() < 3) {
+            return false;
+        }
+        Iterator<Frame> frames = stack.iterator();
+        return "Id".equals(frames.next().name) && frames.next().name.endsWith("Acct");
+    }
+
+    private static boolean isAgentBic(Deque<Frame> stack, String name) {
+        if ((!"BIC".equals(name) && !"BICFI".equals(name)) || stack.size() < 3) {
+            return false;
+        }
+        Iterator<Frame> frames = stack.iterator();
+        return "FinInstnId".equals(frames.next().name) && frames.next().name.endsWith("Agt");
+    }
+
+    private static Frame scope(Deque<Frame> stack) {
+        Iterator<Frame> frames = stack.iterator();
+        frames.next();
+        frames.next();
+        return frames.next();
+    }
+
+    private static String party(Deque<Frame> stack, String suffix) {
+        Iterator<Frame> frames = stack.iterator();
+        frames.next();
+        String name = frames.next().name;
+        String party = name.substring(0, name.length() - suffix.length());
+        return party.endsWith("Acct") && "Agt".equals(suffix) ? party.substring(0, party.length() - 4) : party;
+    }
+
+    private static String messageType(String namespace) {
+        if (namespace == null) {
+            return "unbekannt";
+        }
+        int separator = namespace.lastIndexOf(':');
+        return separator >= 0 ? namespace.substring(separator + 1) : namespace;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static final class Frame {
+
+        private final String name;
+        private final String path;
+        private Map<String, Integer> children;
+        private Map<String, Party> parties;
+
+        private Frame(String name, String path) {
+            this.name = name;
+            this.path = path;
+        }
+
+        private int nextIndex(String child) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.merge(child, 1, Integer::sum);
+        }
+
+        private Party party(String party) {
+            if (parties == null) {
+                parties = new LinkedHashMap<>();
+            }
+            return parties.computeIfAbsent(party, key -> new Party());
+        }
+
+        private void flush(Consumer<Account> accounts) {
+            if (parties == null) {
+                return;
+            }
+            for (Map.Entry<String, Party> entry : parties.entrySet()) {
+                Party party = entry.getValue();
+                accounts.accept(new Account(entry.getKey(), party.iban, party.ibanPath, party.bic, party.bicPath));
+            }
+            parties = null;
+        }
+    }
+
+    private static final class Party {
+
+        private String iban;
+        private String ibanPath;
+        private String bic;
+        private String bicPath;
+
+        private void iban(String iban, String path) {
+            this.iban = iban;
+            this.ibanPath = path;
+        }
+
+        private void bic(String bic, String path) {
+            this.bic = bic;
+            this.bicPath = path;
+        }
+    }
+}
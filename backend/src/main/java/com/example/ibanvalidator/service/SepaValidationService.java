@@ -0,0 +1,166 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanBicPairResponse;
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import com.example.ibanvalidator.dto.SepaValidationFailure;
+import com.example.ibanvalidator.dto.SepaValidationReport;
+import com.example.ibanvalidator.model.Bank;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Service
+public class SepaValidationService {
+
+    public static final String RESULT_HEADER = "location;party;iban;bic;status;message";
+
+    private static final Logger log = LoggerFactory.getLogger(SepaValidationService.class);
+
+    private static final int MAX_CACHED_BANKS = 10_000;
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final String BLOCKLISTED = "BLOCKLISTED";
+
+    private final IbanService ibanService;
+    private final IbanBicPairService pairService;
+    private final BankDirectory bankDirectory;
+    private final int maxReportedFailures;
+
+    public SepaValidationService(IbanService ibanService,
+                                 IbanBicPairService pairService,
+                                 BankDirectory bankDirectory,
+                                 @Value("${iban.sepa.max-reported-failures:1000}") int maxReportedFailures) {
+        this.ibanService = ibanService;
+        this.pairService = pairService;
+        this.bankDirectory = bankDirectory;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    public SepaValidationReport validate(InputStream input) {
+        DirectorySnapshot directory = bankDirectory.current();
+        Map<String, List<Bank>> bankCache = new HashMap<>();
+        SepaValidationReport report = new SepaValidationReport();
+
+        SepaDocumentReader.Header header = SepaDocumentReader.read(input, account -> {
+            SepaValidationFailure failure = check(account, directory, bankCache);
+            report.setAccounts(report.getAccounts() + 1);
+            if (failure == null) {
+                report.setValid(report.getValid() + 1);
+                return;
+            }
+            report.setInvalid(report.getInvalid() + 1);
+            if (report.getFailures().size() < maxReportedFailures) {
+                report.getFailures().add(failure);
+            } else {
+                report.setFailuresTruncated(true);
+            }
+        });
+
+        report.setMessageType(header.messageType());
+        report.setMessageId(header.messageId());
+        report.setTransactions(header.transactions());
+        report.setDirectoryVersion(directory.getVersion());
+        log.info("SEPA-Datei {} ({}) geprüft: {} Transaktionen, {} Konten, {} fehlerhaft",
+                header.messageId(), header.messageType(), header.transactions(), report.getAccounts(), report.getInvalid());
+        return report;
+    }
+
+    public SepaDocumentReader.Header extract(InputStream input, Consumer<String> lines) {
+        return SepaDocumentReader.read(input, account -> lines.accept(toLine(account)));
+    }
+
+    public BatchLineValidator.ChunkResult validateChunk(List<String> lines, DirectorySnapshot directory) {
+        Map<String, List<Bank>> bankCache = new HashMap<>();
+        StringBuilder output = new StringBuilder();
+        int valid = 0;
+        for (String line : lines) {
+            SepaDocumentReader.Account account = fromLine(line);
+            SepaValidationFailure failure = check(account, directory, bankCache);
+            if (failure == null) {
+                valid++;
+            } else {
+                appendRow(output, failure);
+            }
+        }
+        return new BatchLineValidator.ChunkResult(output.toString(), lines.size(), valid);
+    }
+
+    SepaValidationFailure check(SepaDocumentReader.Account account, DirectorySnapshot directory,
+                                Map<String, List<Bank>> bankCache) {
+        if (bankCache.size() >= MAX_CACHED_BANKS) {
+            bankCache.clear();
+        }
+        if (account.ibanPath() != null && account.bicPath() != null) {
+            IbanBicPairResponse pair = pairService.validate(account.iban(), account.bic(), directory, bankCache);
+            if (pair.isBlocklisted()) {
+                return failure(account, account.ibanPath(), BLOCKLISTED, BlocklistService.MATCH_MESSAGE);
+            }
+            if (pair.isConsistent()) {
+                return null;
+            }
+            String location = pair.getStatus() == IbanBicPairResponse.Status.BIC_INVALID
+                    ? account.bicPath()
+                    : account.ibanPath();
+            return failure(account, location, pair.getStatus().name(), pair.getMessage());
+        }
+        if (account.ibanPath() != null) {
+            IbanValidationResponse iban = ibanService.validateStructure(account.iban());
+            if (iban.isValid()) {
+                ibanService.enrich(iban, directory);
+            }
+            if (iban.isBlocklisted()) {
+                return failure(account, account.ibanPath(), BLOCKLISTED, BlocklistService.MATCH_MESSAGE);
+            }
+            return iban.isValid()
+                    ? null
+                    : failure(account, account.ibanPath(), IbanBicPairResponse.Status.IBAN_INVALID.name(),
+                    iban.getErrorMessage());
+        }
+        BicValidator.Reason reason = BicValidator.check(BicValidationService.normalize(account.bic()));
+        return reason == BicValidator.Reason.OK
+                ? null
+                : failure(account, account.bicPath(), IbanBicPairResponse.Status.BIC_INVALID.name(), reason.name());
+    }
+
+    private static SepaValidationFailure failure(SepaDocumentReader.Account account, String location, String status,
+                                                 String message) {
+        return new SepaValidationFailure(location, account.party(), account.iban(), account.bic(), status, message);
+    }
+
+    private static String toLine(SepaDocumentReader.Account account) {
+        return String.join(String.valueOf(FIELD_SEPARATOR), account.party(), field(account.iban()),
+                field(account.ibanPath()), field(account.bic()), field(account.bicPath()));
+    }
+
+    private static SepaDocumentReader.Account fromLine(String line) {
+        String[] fields = line.split(String.valueOf(FIELD_SEPARATOR), -1);
+        return new SepaDocumentReader.Account(fields[0], value(fields[1]), value(fields[2]), value(fields[3]),
+                value(fields[4]));
+    }
+
+    private static String field(String value) {
+        return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private static String value(String field) {
+        return field.isEmpty() ? null : field;
+    }
+
+    private static void appendRow(StringBuilder output, SepaValidationFailure failure) {
+        output.append(failure.getLocation()).append(';')
+                .append(failure.getParty()).append(';')
+                .append(failure.getIban() != null ? failure.getIban().replace(";", "") : "").append(';')
+                .append(failure.getBic() != null ? failure.getBic().replace(";", "") : "").append(';')
+                .append(failure.getStatus()).append(';');
+        if (failure.getMessage() != null) {
+            output.append('"').append(failure.getMessage().replace("\"", "\"\"")).append('"');
+        }
+        output.append('\n');
+    }
+}
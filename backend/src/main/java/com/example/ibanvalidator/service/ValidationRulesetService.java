@@ -0,0 +1,83 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.config.IbanCountryConfig;
+import com.example.ibanvalidator.config.IbanCountryConfig.CountryFormat;
+import com.example.ibanvalidator.dto.CountryRule;
+import com.example.ibanvalidator.dto.ValidationRuleset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+@Service
+public class ValidationRulesetService {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidationRulesetService.class);
+
+    private static final int VERSION_LENGTH = 16;
+
+    private final ValidationRuleset ruleset;
+
+    public ValidationRulesetService() {
+        List<CountryRule> countries = new ArrayList<>();
+        StringBuilder canonical = new StringBuilder();
+        for (IbanStructure structure : IbanStructure.all()) {
+            CountryRule rule = toRule(structure);
+            countries.add(rule);
+            canonical.append(rule.getCountryCode()).append('|')
+                    .append(rule.getLength()).append('|')
+                    .append(rule.getBbanFormat()).append('|')
+                    .append(rule.getBankCodeStart()).append('|')
+                    .append(rule.getBankCodeEnd()).append('|')
+                    .append(rule.getBranchCodeEnd()).append('|')
+                    .append(rule.getAccountNumberStart()).append('|')
+                    .append(rule.getNationalCheck()).append('\n');
+        }
+        this.ruleset = new ValidationRuleset(hash(canonical), List.copyOf(countries));
+        log.info("Validierungsregeln erzeugt: {} Länder, Version {}", countries.size(), ruleset.getVersion());
+    }
+
+    public ValidationRuleset getRuleset() {
+        return ruleset;
+    }
+
+    public String getVersion() {
+        return ruleset.getVersion();
+    }
+
+    private static CountryRule toRule(IbanStructure structure) {
+        String countryCode = structure.countryCode();
+        CountryRule rule = new CountryRule();
+        rule.setCountryCode(countryCode);
+        rule.setLength(structure.length());
+        rule.setBbanFormat(structure.bbanFormat());
+        if (IbanCountryConfig.hasFormat(countryCode)) {
+            CountryFormat format = IbanCountryConfig.getFormat(countryCode);
+            rule.setBankCodeStart(format.bankCodeStart());
+            rule.setBankCodeEnd(format.bankCodeEnd());
+            rule.setBranchCodeEnd(format.branchCodeEnd());
+            rule.setAccountNumberStart(format.accountNumberStart());
+        }
+        NationalCheck nationalCheck = NationalCheckRegistry.forCountry(countryCode.charAt(0), countryCode.charAt(1));
+        if (nationalCheck != null) {
+            rule.setNationalCheck(nationalCheck.name());
+        }
+        return rule;
+    }
+
+    private static String hash(CharSequence canonical) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, VERSION_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 nicht verfügbar", e);
+        }
+    }
+}
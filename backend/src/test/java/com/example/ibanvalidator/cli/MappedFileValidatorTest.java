@@ -0,0 +1,66 @@
+package com.example.ibanvalidator.cli;
+
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.service.BatchLineValidator;
+import com.example.ibanvalidator.service.DirectorySnapshot;
+import com.example.ibanvalidator.service.IbanService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedFileValidatorTest {
+
+    private static final String CONTENT = "\uFEFFiban;name\r\n"
+            + "DE89 3704 0044 0532 0130 00;Müller\r\n"
+            + "\r\n"
+            + "\"GB82WEST12345698765432\",x\n"
+            + "de00370400440532013000\n"
+            + "  NL91ABNA0417164300\t1\n"
+            + "XX\n"
+            + "DE89370400440532013000";
+
+    private final BatchLineValidator lineValidator = new BatchLineValidator(new IbanService(null));
+    private final DirectorySnapshot directory = DirectorySnapshot.of("test", null, List.of(
+            new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE")));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldMatchLineValidatorOutputForEverySegmentSize() throws Exception {
+        Path input = dir.resolve("ibans.csv");
+        Files.writeString(input, CONTENT, StandardCharsets.UTF_8);
+        String expected = BatchLineValidator.HEADER + "\n"
+                + lineValidator.validate(Arrays.asList(CONTENT.split("\n")), 1, directory).output();
+
+        for (int segmentSize : new int[]{1, 7, 40, 1 << 20}) {
+            Path output = dir.resolve("result-" + segmentSize + ".csv");
+            MappedFileValidator.Summary summary = new MappedFileValidator(lineValidator, directory, 3, segmentSize)
+                    .validate(input, output);
+
+            assertThat(Files.readString(output, StandardCharsets.UTF_8)).isEqualTo(expected);
+            assertThat(summary.lines()).isEqualTo(8);
+            assertThat(summary.validated()).isEqualTo(6);
+            assertThat(summary.valid()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void shouldWriteOnlyHeaderForEmptyFile() throws Exception {
+        Path input = Files.createFile(dir.resolve("empty.txt"));
+        Path output = dir.resolve("result.csv");
+
+        MappedFileValidator.Summary summary = new MappedFileValidator(lineValidator, null, 2, 16).validate(input, output);
+
+        assertThat(Files.readString(output)).isEqualTo(BatchLineValidator.HEADER + "\n");
+        assertThat(summary.segments()).isZero();
+        assertThat(summary.lines()).isZero();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.ibanvalidator.config;
+
+import com.example.ibanvalidator.config.RateLimitInterceptor.EndpointClass;
+import com.example.ibanvalidator.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitInterceptor interceptor = interceptor(true);
+
+    @Test
+    void shouldClassifyEndpoints() {
+        assertThat(RateLimitInterceptor.classify("POST", "/api/v1/iban/validate")).isEqualTo(EndpointClass.SINGLE);
+        assertThat(RateLimitInterceptor.classify("POST", "/api/v1/bic/validate")).isEqualTo(EndpointClass.SINGLE);
+        assertThat(RateLimitInterceptor.classify("POST", "/api/v1/iban-bic/validate/batch"))
+                .isEqualTo(EndpointClass.BATCH);
+        assertThat(RateLimitInterceptor.classify("POST", "/api/v1/jobs")).isEqualTo(EndpointClass.BATCH);
+        assertThat(RateLimitInterceptor.classify("GET", "/api/v1/jobs/{id}")).isNull();
+        assertThat(RateLimitInterceptor.classify("POST", "/api/v1/banks/bulk/delete")).isEqualTo(EndpointClass.BATCH);
+        assertThat(RateLimitInterceptor.classify("POST", "/api/v1/sepa/validate")).isEqualTo(EndpointClass.BATCH);
+        assertThat(RateLimitInterceptor.classify("GET", "/api/v1/banks/{id}")).isEqualTo(EndpointClass.BANKS);
+        assertThat(RateLimitInterceptor.classify("POST", "/api/v1/banks")).isEqualTo(EndpointClass.BANKS);
+        assertThat(RateLimitInterceptor.classify("GET", "/api/v1/blocklist")).isNull();
+        assertThat(RateLimitInterceptor.classify("GET", null)).isNull();
+    }
+
+    @Test
+    void shouldRejectWithRetryAfterWhenBucketIsEmpty() {
+        assertThat(interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null)).isTrue();
+        assertThat(interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null)).isTrue();
+
+        assertThatThrownBy(() -> interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfterSeconds()).isEqualTo(2));
+        assertThat(meterRegistry.get("iban.rate-limit.requests").tag("class", "single").tag("result", "rejected")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("iban.rate-limit.requests").tag("class", "single").tag("result", "allowed")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPreferApiKeyOverAddress() {
+        interceptor.preHandle(request("10.0.0.1", "team-a"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(request("10.0.0.1", "team-a"), new MockHttpServletResponse(), null);
+
+        assertThat(interceptor.preHandle(request("10.0.0.1", "team-b"), new MockHttpServletResponse(), null)).isTrue();
+        assertThat(interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null)).isTrue();
+    }
+
+    @Test
+    void shouldLimitUnknownApiKeysByAddress() {
+        interceptor.preHandle(request("10.0.0.1", "spoofed-1"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(request("10.0.0.1", "spoofed-2"), new MockHttpServletResponse(), null);
+
+        assertThatThrownBy(() -> interceptor.preHandle(request("10.0.0.1", "spoofed-3"),
+                new MockHttpServletResponse(), null)).isInstanceOf(RateLimitExceededException.class);
+        assertThat(interceptor.preHandle(request("10.0.0.2", "spoofed-3"), new MockHttpServletResponse(), null))
+                .isTrue();
+    }
+
+    @Test
+    void shouldTrustForwardedForOnlyFromConfiguredProxies() {
+        interceptor.preHandle(forwarded("10.0.0.1", "192.168.1.7"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(forwarded("10.0.0.1", "192.168.1.8"), new MockHttpServletResponse(), null);
+        assertThatThrownBy(() -> interceptor.preHandle(forwarded("10.0.0.1", "192.168.1.9"),
+                new MockHttpServletResponse(), null)).isInstanceOf(RateLimitExceededException.class);
+
+        interceptor.preHandle(forwarded("10.0.0.254", "1.2.3.4, 192.168.1.7"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(forwarded("10.0.0.254", "5.6.7.8, 192.168.1.7"), new MockHttpServletResponse(), null);
+        assertThatThrownBy(() -> interceptor.preHandle(forwarded("10.0.0.254", "192.168.1.7"),
+                new MockHttpServletResponse(), null)).isInstanceOf(RateLimitExceededException.class);
+        assertThat(interceptor.preHandle(forwarded("10.0.0.254", "192.168.1.8"), new MockHttpServletResponse(), null))
+                .isTrue();
+    }
+
+    @Test
+    void shouldIgnoreUnclassifiedAndPreflightRequests() {
+        MockHttpServletRequest preflight = request("10.0.0.1", null);
+        preflight.setMethod("OPTIONS");
+        MockHttpServletRequest admin = request("10.0.0.1", null);
+        admin.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/blocklist/reload");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(interceptor.preHandle(preflight, new MockHttpServletResponse(), null)).isTrue();
+            assertThat(interceptor.preHandle(admin, new MockHttpServletResponse(), null)).isTrue();
+        }
+    }
+
+    @Test
+    void shouldAllowEverythingWhenDisabled() {
+        RateLimitInterceptor disabled = interceptor(false);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(disabled.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null)).isTrue();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RateLimitInterceptor interceptor(boolean enabled) {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(enabled ? meterRegistry : null);
+        return new RateLimitInterceptor(provider, enabled, "X-API-Key", List.of("team-a", "team-b"),
+                List.of("10.0.0.254"), 100, 2, 0.5, 1, 0.1, 5, 1);
+    }
+
+    private static MockHttpServletRequest forwarded(String address, String forwardedFor) {
+        MockHttpServletRequest request = request(address, null);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String address, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/iban/validate");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/iban/validate");
+        request.setRemoteAddr(address);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.Matchers.containsString;
@@ -123,6 +124,27 @@ class IbanControllerTest {
         verify(bankService, times(1)).getBankById(999L);
     }
 
+    @Test
+    void shouldGetBankByBicWithMatchGranularity() throws Exception {
+        BankResponse bank = new BankResponse(1L, "Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE");
+        bank.setBicMatch("PRIMARY_OFFICE");
+        when(bankService.getBankByBic("DEUTDEFF500")).thenReturn(Optional.of(bank));
+
+        mockMvc.perform(get("/api/v1/banks/bic/DEUTDEFF500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bic").value("DEUTDEFFXXX"))
+                .andExpect(jsonPath("$.bicMatch").value("PRIMARY_OFFICE"));
+    }
+
+    @Test
+    void shouldReturn404WhenBicNotFound() throws Exception {
+        when(bankService.getBankByBic("UNKNOWNX")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/banks/bic/UNKNOWNX"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(containsString("UNKNOWNX")));
+    }
+
     @Test
     void shouldCreateBank() throws Exception {
         BankRequest request = new BankRequest("Test Bank", "TESTDE12XXX", "12345678", "DE");
@@ -0,0 +1,87 @@
+package com.example.ibanvalidator.repository;
+
+import com.example.ibanvalidator.model.BatchJob;
+import com.example.ibanvalidator.model.BatchJobChunk;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class BatchJobChunkRepositoryTest {
+
+    @Autowired
+    private BatchJobChunkRepository chunkRepository;
+
+    @Autowired
+    private BatchJobRepository jobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldOnlyClaimPendingOrStaleChunksOfRunningJobs() {
+        BatchJob running = job("running", BatchJob.Status.RUNNING);
+        BatchJob uploading = job("uploading", BatchJob.Status.UPLOADING);
+        BatchJobChunk pending = chunk(running, 0, BatchJobChunk.Status.PENDING, null);
+        BatchJobChunk stale = chunk(running, 1, BatchJobChunk.Status.PROCESSING, Instant.now().minusSeconds(600));
+        chunk(running, 2, BatchJobChunk.Status.PROCESSING, Instant.now());
+        chunk(running, 3, BatchJobChunk.Status.DONE, null);
+        chunk(uploading, 0, BatchJobChunk.Status.PENDING, null);
+        entityManager.flush();
+
+        List<BatchJobChunk> claimable = chunkRepository.lockClaimable(Instant.now().minusSeconds(300), 10);
+
+        assertThat(claimable).extracting(BatchJobChunk::getId).containsExactly(pending.getId(), stale.getId());
+        assertThat(chunkRepository.lockClaimable(Instant.now().minusSeconds(300), 1)).hasSize(1);
+    }
+
+    @Test
+    void shouldCheckpointAndCompleteJobOnLastChunk() {
+        BatchJob job = job("job", BatchJob.Status.RUNNING);
+        BatchJobChunk first = chunk(job, 0, BatchJobChunk.Status.PROCESSING, Instant.now());
+        BatchJobChunk second = chunk(job, 1, BatchJobChunk.Status.PROCESSING, Instant.now());
+        entityManager.flush();
+
+        int outdated = chunkRepository.checkpoint(first.getId(), 2, "x", 0,
+                BatchJobChunk.Status.DONE, BatchJobChunk.Status.PROCESSING);
+        chunkRepository.checkpoint(first.getId(), 1, "1;a\n", 1, BatchJobChunk.Status.DONE, BatchJobChunk.Status.PROCESSING);
+        jobRepository.addProgress(job.getId(), 1, 1, 0);
+        int completedEarly = jobRepository.completeIfDone(job.getId(), Instant.now(), BatchJob.Status.COMPLETED,
+                BatchJob.Status.RUNNING, BatchJobChunk.Status.DONE);
+        chunkRepository.checkpoint(second.getId(), 1, "2;b\n", 0, BatchJobChunk.Status.DONE, BatchJobChunk.Status.PROCESSING);
+        jobRepository.addProgress(job.getId(), 1, 0, 0);
+        int completed = jobRepository.completeIfDone(job.getId(), Instant.now(), BatchJob.Status.COMPLETED,
+                BatchJob.Status.RUNNING, BatchJobChunk.Status.DONE);
+        entityManager.clear();
+
+        assertThat(outdated).isZero();
+        assertThat(completedEarly).isZero();
+        assertThat(completed).isEqualTo(1);
+        BatchJob reloaded = jobRepository.findById(job.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(BatchJob.Status.COMPLETED);
+        assertThat(reloaded.getProcessed()).isEqualTo(2);
+        assertThat(reloaded.getValidCount()).isEqualTo(1);
+        assertThat(chunkRepository.findIdsByJobId(job.getId())).containsExactly(first.getId(), second.getId());
+        assertThat(chunkRepository.findOutputById(second.getId())).isEqualTo("2;b\n");
+    }
+
+    private BatchJob job(String id, BatchJob.Status status) {
+        BatchJob job = new BatchJob(id);
+        job.setStatus(status);
+        return entityManager.persist(job);
+    }
+
+    private BatchJobChunk chunk(BatchJob job, int index, BatchJobChunk.Status status, Instant claimedAt) {
+        BatchJobChunk chunk = new BatchJobChunk(job.getId(), index, index + 1L, 1, "DE89370400440532013000");
+        chunk.setStatus(status);
+        chunk.setClaimedAt(claimedAt);
+        chunk.setAttempts(status == BatchJobChunk.Status.PENDING ? 0 : 1);
+        return entityManager.persist(chunk);
+    }
+}
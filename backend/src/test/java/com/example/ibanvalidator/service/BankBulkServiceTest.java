@@ -0,0 +1,150 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BankBulkResponse;
+import com.example.ibanvalidator.dto.BankBulkResponse.ItemStatus;
+import com.example.ibanvalidator.dto.BankBulkUpdateRequest;
+import com.example.ibanvalidator.dto.BankRequest;
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.repository.BankRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankBulkServiceTest {
+
+    @Mock
+    private BankRepository bankRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BankBulkService bankBulkService;
+
+    @BeforeEach
+    void setUp() {
+        bankBulkService = new BankBulkService(bankRepository, transactionTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void shouldCreateBanksWithOneBicQueryPerChunk() {
+        AtomicLong ids = new AtomicLong(10);
+        when(bankRepository.findByBicIn(anyCollection()))
+                .thenReturn(List.of(bank(1L, "Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE")))
+                .thenReturn(List.of());
+        when(bankRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Bank> banks = invocation.getArgument(0);
+            banks.forEach(bank -> bank.setId(ids.incrementAndGet()));
+            return banks;
+        });
+
+        BankBulkResponse response = bankBulkService.createBanks(List.of(
+                new BankRequest("Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE"),
+                new BankRequest("Commerzbank", "COBADEFFXXX", "37040044", "DE"),
+                new BankRequest("Postbank", "PBNKDEFFXXX", "10010010", "DE"),
+                new BankRequest("X", "BAD", "1", "DEU")
+        ));
+
+        assertThat(response.getTotal()).isEqualTo(4);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getItems()).extracting(BankBulkResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.CONFLICT, ItemStatus.CREATED, ItemStatus.CREATED, ItemStatus.INVALID);
+        assertThat(response.getItems().get(2).getIndex()).isEqualTo(2);
+        assertThat(response.getItems().get(2).getId()).isEqualTo(12L);
+
+        verify(bankRepository, times(2)).findByBicIn(anyCollection());
+        verify(bankRepository, never()).findByBic(anyString());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventPublisher, times(1)).publishEvent(any(BankDirectoryChangedEvent.class));
+    }
+
+    @Test
+    void shouldRejectDuplicateBicsWithinBatch() {
+        when(bankRepository.findByBicIn(anyCollection())).thenReturn(List.of());
+        when(bankRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BankBulkResponse response = bankBulkService.createBanks(List.of(
+                new BankRequest("Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE"),
+                new BankRequest("Deutsche Bank Kopie", "DEUTDEFFXXX", "10070000", "DE")
+        ));
+
+        assertThat(response.getItems()).extracting(BankBulkResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.CREATED, ItemStatus.CONFLICT);
+    }
+
+    @Test
+    void shouldUpdateBanksAndDetectBicConflicts() {
+        Bank deutsche = bank(1L, "Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE");
+        Bank commerz = bank(2L, "Commerzbank", "COBADEFFXXX", "37040044", "DE");
+        when(bankRepository.findAllById(anyIterable())).thenReturn(List.of(deutsche, commerz));
+        when(bankRepository.findByBicIn(anyCollection())).thenReturn(List.of(deutsche));
+        when(bankRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BankBulkResponse response = bankBulkService.updateBanks(List.of(
+                new BankBulkUpdateRequest(1L, "Deutsche Bank AG", "DEUTDEFFXXX", "10070000", "DE"),
+                new BankBulkUpdateRequest(2L, "Commerzbank", "DEUTDEFFXXX", "37040044", "DE")
+        ));
+
+        assertThat(response.getItems()).extracting(BankBulkResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.UPDATED, ItemStatus.CONFLICT);
+        assertThat(response.getItems().get(0).getBank().getName()).isEqualTo("Deutsche Bank AG");
+        verify(bankRepository, times(1)).findAllById(anyIterable());
+    }
+
+    @Test
+    void shouldReportNullItemsAsInvalid() {
+        Bank deutsche = bank(1L, "Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE");
+        when(bankRepository.findByBicIn(anyCollection())).thenReturn(List.of());
+        when(bankRepository.findAllById(anyIterable())).thenReturn(List.of(deutsche));
+        when(bankRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BankBulkResponse created = bankBulkService.createBanks(Arrays.asList(
+                null, new BankRequest("Commerzbank", "COBADEFFXXX", "37040044", "DE")));
+        BankBulkResponse updated = bankBulkService.updateBanks(Arrays.asList(
+                new BankBulkUpdateRequest(1L, "Deutsche Bank AG", "DEUTDEFFXXX", "10070000", "DE"), null));
+
+        assertThat(created.getItems()).extracting(BankBulkResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.INVALID, ItemStatus.CREATED);
+        assertThat(updated.getItems()).extracting(BankBulkResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.UPDATED, ItemStatus.INVALID);
+        assertThat(updated.getItems().get(1).getIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeleteExistingBanksInOneStatement() {
+        when(bankRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(bank(1L, "Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE")));
+
+        BankBulkResponse response = bankBulkService.deleteBanks(List.of(1L, 999L));
+
+        assertThat(response.getItems()).extracting(BankBulkResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.DELETED, ItemStatus.NOT_FOUND);
+        verify(bankRepository, times(1)).deleteAllByIdInBatch(argThat(ids -> ids.iterator().next().equals(1L)));
+    }
+
+    private Bank bank(Long id, String name, String bic, String bankCode, String countryCode) {
+        Bank bank = new Bank(name, bic, bankCode, countryCode);
+        bank.setId(id);
+        return bank;
+    }
+}
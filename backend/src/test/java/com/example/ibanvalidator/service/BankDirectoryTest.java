@@ -0,0 +1,108 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.model.DirectoryEntry;
+import com.example.ibanvalidator.model.DirectoryRelease;
+import com.example.ibanvalidator.repository.BankRepository;
+import com.example.ibanvalidator.repository.DirectoryEntryRepository;
+import com.example.ibanvalidator.repository.DirectoryReleaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankDirectoryTest {
+
+    @Mock
+    private BankRepository bankRepository;
+
+    @Mock
+    private DirectoryReleaseRepository releaseRepository;
+
+    @Mock
+    private DirectoryEntryRepository entryRepository;
+
+    private BankDirectory bankDirectory;
+
+    @BeforeEach
+    void setUp() {
+        bankDirectory = new BankDirectory(bankRepository, releaseRepository, entryRepository, "Europe/Berlin", 4);
+    }
+
+    @Test
+    void shouldLoadLiveDirectoryLazily() {
+        when(releaseRepository.findByStatusInOrderByValidFromAsc(anyCollection())).thenReturn(List.of());
+        when(bankRepository.findAll()).thenReturn(List.of(new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE")));
+
+        DirectorySnapshot snapshot = bankDirectory.current();
+
+        assertThat(snapshot.getVersion()).isEqualTo(DirectorySnapshot.LIVE_VERSION);
+        assertThat(snapshot.findByBankCodeAndCountryCode("37040044", "DE")).isPresent();
+        assertThat(bankDirectory.current()).isSameAs(snapshot);
+        verify(bankRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldSwitchToStagedSnapshotOnceEffective() {
+        when(releaseRepository.findByStatusInOrderByValidFromAsc(anyCollection())).thenReturn(List.of());
+        when(bankRepository.findAll()).thenReturn(List.of(new Bank("Alte Bank", "OLDBDEFFXXX", "37040044", "DE")));
+
+        DirectoryRelease future = release(2L, "2099-Q1", Instant.now().plus(1, ChronoUnit.DAYS));
+        bankDirectory.stage(future, DirectorySnapshot.of(future.getVersion(), future.getValidFrom(),
+                List.of(new Bank("Neue Bank", "NEWBDEFFXXX", "37040044", "DE"))));
+
+        DirectoryRelease due = release(3L, "2024-Q1", Instant.now().minusSeconds(1));
+        bankDirectory.stage(due, DirectorySnapshot.of(due.getVersion(), due.getValidFrom(),
+                List.of(new Bank("Aktuelle Bank", "CURBDEFFXXX", "37040044", "DE"))));
+
+        assertThat(bankDirectory.current().getVersion()).isEqualTo("2024-Q1");
+        assertThat(bankDirectory.asOf(future.getValidFrom()).getVersion()).isEqualTo("2099-Q1");
+
+        bankDirectory.unstage(due);
+
+        assertThat(bankDirectory.current().findByBankCodeAndCountryCode("37040044", "DE"))
+                .map(Bank::getName)
+                .contains("Alte Bank");
+    }
+
+    @Test
+    void shouldResolveHistoricalReleaseAsOfDate() {
+        DirectoryRelease old = release(1L, "2023-Q4", Instant.parse("2023-12-03T23:00:00Z"));
+        old.setStatus(DirectoryRelease.Status.SUPERSEDED);
+        DirectoryRelease active = release(2L, "2024-Q1", Instant.parse("2024-03-03T23:00:00Z"));
+        active.setStatus(DirectoryRelease.Status.ACTIVE);
+
+        when(releaseRepository.findByStatusInOrderByValidFromAsc(anyCollection())).thenReturn(List.of(old, active));
+        when(bankRepository.findAll()).thenReturn(List.of(new Bank("Neue Bank", "NEWBDEFFXXX", "37040044", "DE")));
+        when(releaseRepository.findById(1L)).thenReturn(Optional.of(old));
+        when(entryRepository.findByReleaseId(1L)).thenReturn(
+                List.of(new DirectoryEntry(1L, "Alte Bank", "OLDBDEFFXXX", "37040044", "DE")));
+
+        DirectorySnapshot historical = bankDirectory.asOf(LocalDate.of(2024, 1, 15));
+
+        assertThat(historical.getVersion()).isEqualTo("2023-Q4");
+        assertThat(historical.findByBic("OLDBDEFFXXX")).isPresent();
+        assertThat(bankDirectory.asOf(LocalDate.of(2024, 4, 1)).getVersion()).isEqualTo("2024-Q1");
+
+        bankDirectory.asOf(LocalDate.of(2024, 2, 1));
+        verify(entryRepository, times(1)).findByReleaseId(1L);
+    }
+
+    private DirectoryRelease release(Long id, String version, Instant validFrom) {
+        DirectoryRelease release = new DirectoryRelease(version, validFrom, 1);
+        release.setId(id);
+        return release;
+    }
+}
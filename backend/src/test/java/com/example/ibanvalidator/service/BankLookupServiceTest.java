@@ -0,0 +1,58 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BankLookupRequest;
+import com.example.ibanvalidator.dto.BankLookupRequest.BankCodeKey;
+import com.example.ibanvalidator.dto.BankLookupResponse;
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.repository.BankRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankLookupServiceTest {
+
+    @Mock
+    private BankRepository bankRepository;
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    @InjectMocks
+    private BankLookupService bankLookupService;
+
+    @Test
+    void shouldResolveAllKeysAndReportMisses() {
+        Bank deutsche = new Bank("Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE");
+        deutsche.setId(1L);
+        Bank commerz = new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE");
+        commerz.setId(2L);
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, List.of(deutsche, commerz)));
+        when(bankRepository.findAllById(anyIterable())).thenReturn(List.of(deutsche));
+
+        BankLookupResponse response = bankLookupService.lookup(new BankLookupRequest(
+                List.of(1L, 99L, 1L),
+                List.of("cobadeffxxx", "UNKNOWNXXXX"),
+                List.of(new BankCodeKey("DE", "10070000"), BankCodeKey.parse("GB:601613"))));
+
+        assertThat(response.getRequested()).isEqualTo(6);
+        assertThat(response.getFound()).isEqualTo(3);
+        assertThat(response.getById()).containsOnlyKeys("1", "99");
+        assertThat(response.getById().get("99")).isNull();
+        assertThat(response.getByBic().get("cobadeffxxx").getId()).isEqualTo(2L);
+        assertThat(response.getByBic()).containsEntry("UNKNOWNXXXX", null);
+        assertThat(response.getByBankCode().get("DE:10070000").getBic()).isEqualTo("DEUTDEFFXXX");
+        assertThat(response.getByBankCode()).containsEntry("GB:601613", null);
+
+        verify(bankRepository, times(1)).findAllById(anyIterable());
+        verifyNoMoreInteractions(bankRepository);
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BatchJobResponse;
+import com.example.ibanvalidator.exception.BatchJobConflictException;
+import com.example.ibanvalidator.exception.BatchJobNotFoundException;
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.model.BatchJob;
+import com.example.ibanvalidator.model.BatchJobChunk;
+import com.example.ibanvalidator.repository.BatchJobChunkRepository;
+import com.example.ibanvalidator.repository.BatchJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobServiceTest {
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    @Mock
+    private SepaValidationService sepaValidationService;
+
+    @Mock
+    private BatchJobRepository jobRepository;
+
+    @Mock
+    private BatchJobChunkRepository chunkRepository;
+
+    private BatchJobService batchJobService;
+
+    @BeforeEach
+    void setUp() {
+        batchJobService = new BatchJobService(new BatchLineValidator(new IbanService(bankDirectory)),
+                sepaValidationService, bankDirectory,
+                jobRepository, chunkRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                2, 1, Duration.ofHours(1), Duration.ofMinutes(5), 3, Duration.ofMinutes(1), "node-a");
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchJobService.shutdown();
+    }
+
+    @Test
+    void shouldStoreUploadAsNumberedChunks() throws Exception {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.empty());
+        when(jobRepository.save(any(BatchJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobRepository.start(anyString(), eq(BatchJob.Status.RUNNING), eq(5L), eq(3), any(), any(),
+                eq(BatchJob.Status.UPLOADING))).thenReturn(1);
+
+        BatchJobResponse response = batchJobService.submit(stream("iban\nDE89370400440532013000\n\nGB82WEST12345698765432\nX"));
+
+        ArgumentCaptor<BatchJobChunk> chunks = ArgumentCaptor.forClass(BatchJobChunk.class);
+        verify(chunkRepository, times(3)).save(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(BatchJobChunk::getChunkIndex).containsExactly(0, 1, 2);
+        assertThat(chunks.getAllValues()).extracting(BatchJobChunk::getFirstLine).containsExactly(1L, 3L, 5L);
+        assertThat(chunks.getAllValues().get(1).getInput()).isEqualTo("\nGB82WEST12345698765432");
+        assertThat(response.getStatus()).isEqualTo("RUNNING");
+        assertThat(response.getTotal()).isEqualTo(5);
+        assertThat(response.getDirectoryVersion()).isEqualTo("live");
+    }
+
+    @Test
+    void shouldClaimValidateAndCheckpointChunk() {
+        BatchJob job = runningJob();
+        BatchJobChunk chunk = new BatchJobChunk(job.getId(), 0, 1, 3,
+                "iban\nDE89 3704 0044 0532 0130 00\nDE00370400440532013000");
+        chunk.setId(7L);
+        when(chunkRepository.lockClaimable(any(), eq(2))).thenReturn(List.of(chunk), List.of());
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(bankDirectory.asOf(job.getCreatedAt())).thenReturn(DirectorySnapshot.of("live", null, List.of(
+                new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE"))));
+        when(chunkRepository.checkpoint(eq(7L), eq(1), anyString(), eq(1), any(), any())).thenReturn(1);
+        when(jobRepository.completeIfDone(eq(job.getId()), any(), any(), any(), any())).thenReturn(1);
+
+        List<BatchJobChunk> claimed = batchJobService.claim(2);
+        batchJobService.process(claimed.get(0));
+
+        assertThat(claimed.get(0).getStatus()).isEqualTo(BatchJobChunk.Status.PROCESSING);
+        assertThat(claimed.get(0).getClaimedBy()).isEqualTo("node-a");
+        ArgumentCaptor<String> output = ArgumentCaptor.forClass(String.class);
+        verify(chunkRepository).checkpoint(eq(7L), eq(1), output.capture(), eq(1),
+                eq(BatchJobChunk.Status.DONE), eq(BatchJobChunk.Status.PROCESSING));
+        assertThat(output.getValue()).startsWith("2;DE89370400440532013000;true;DE;37040044;COBADEFFXXX;\n3;DE00");
+        verify(jobRepository).addProgress(job.getId(), 3, 1, 0);
+    }
+
+    @Test
+    void shouldNotCountChunkReclaimedByAnotherNode() {
+        BatchJob job = runningJob();
+        BatchJobChunk chunk = new BatchJobChunk(job.getId(), 0, 1, 1, "DE89370400440532013000");
+        chunk.setId(7L);
+        chunk.setAttempts(1);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(bankDirectory.asOf(job.getCreatedAt())).thenReturn(DirectorySnapshot.empty());
+        when(chunkRepository.checkpoint(anyLong(), anyInt(), anyString(), anyInt(), any(), any())).thenReturn(0);
+
+        batchJobService.process(chunk);
+
+        verify(jobRepository, never()).addProgress(anyString(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldFailJobWhenChunkKeepsFailing() {
+        BatchJobChunk chunk = new BatchJobChunk("job-1", 4, 9, 1, "DE89370400440532013000");
+        chunk.setAttempts(3);
+        when(chunkRepository.lockClaimable(any(), eq(2))).thenReturn(List.of(chunk));
+
+        assertThat(batchJobService.claim(2)).isEmpty();
+        verify(jobRepository).finish(eq("job-1"), eq(BatchJob.Status.FAILED), contains("Chunk 4"), any(), any());
+    }
+
+    @Test
+    void shouldRejectUploadThatWasFailedMeanwhile() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.empty());
+
+        assertThatThrownBy(() -> batchJobService.submit(stream("DE89370400440532013000")))
+                .isInstanceOf(BatchJobConflictException.class);
+        verify(chunkRepository).deleteByJobId(anyString());
+    }
+
+    @Test
+    void shouldFailUploadsStuckAfterRestart() {
+        BatchJob stale = new BatchJob("job-2");
+        when(jobRepository.findByStatusAndCreatedAtBefore(eq(BatchJob.Status.UPLOADING),
+                argThat(threshold -> threshold.isBefore(Instant.now().minus(Duration.ofMinutes(4))))))
+                .thenReturn(List.of(stale));
+        when(jobRepository.finish(eq("job-2"), eq(BatchJob.Status.FAILED), anyString(), any(),
+                eq(List.of(BatchJob.Status.UPLOADING)))).thenReturn(1);
+
+        batchJobService.removeExpiredJobs();
+
+        verify(chunkRepository).deleteByJobId("job-2");
+        verify(jobRepository, never()).deleteById("job-2");
+    }
+
+    @Test
+    void shouldWriteResultInChunkOrder() throws Exception {
+        BatchJob job = runningJob();
+        job.setStatus(BatchJob.Status.COMPLETED);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(chunkRepository.findIdsByJobId(job.getId())).thenReturn(List.of(4L, 2L));
+        when(chunkRepository.findOutputById(4L)).thenReturn("1;a\n");
+        when(chunkRepository.findOutputById(2L)).thenReturn("2;b\n");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        batchJobService.writeResult(job.getId(), output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8))
+                .isEqualTo(BatchLineValidator.HEADER + System.lineSeparator() + "1;a\n2;b\n");
+    }
+
+    @Test
+    void shouldRejectDownloadOfUnfinishedOrUnknownJob() {
+        BatchJob job = runningJob();
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(jobRepository.findById("unbekannt")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> batchJobService.writeResult(job.getId(), new ByteArrayOutputStream()))
+                .isInstanceOf(BatchJobConflictException.class);
+        assertThatThrownBy(() -> batchJobService.getJob("unbekannt"))
+                .isInstanceOf(BatchJobNotFoundException.class);
+    }
+
+    private static BatchJob runningJob() {
+        BatchJob job = new BatchJob("job-1");
+        job.setStatus(BatchJob.Status.RUNNING);
+        return job;
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.ibanvalidator.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BatchLineValidatorTest {
+
+    private final IbanService ibanService = spy(new IbanService(null));
+    private final BatchLineValidator validator = new BatchLineValidator(ibanService);
+
+    @Test
+    void shouldValidateRepeatedIbansOnlyOnce() {
+        List<String> lines = List.of("iban", "DE89370400440532013000", "de89 3704 0044 0532 0130 00",
+                "DE00370400440532013000", "DE89370400440532013000", "", "DE00370400440532013000");
+
+        BatchLineValidator.ChunkResult result = validator.validate(lines, 1, null);
+
+        assertThat(result.lines()).isEqualTo(7);
+        assertThat(result.ibans()).isEqualTo(5);
+        assertThat(result.distinct()).isEqualTo(2);
+        assertThat(result.duplicates()).isEqualTo(3);
+        assertThat(result.valid()).isEqualTo(3);
+        assertThat(result.output().split("\n"))
+                .containsExactly(
+                        "2;DE89370400440532013000;true;DE;37040044;;",
+                        "3;DE89370400440532013000;true;DE;37040044;;",
+                        "4;DE00370400440532013000;false;;;;\"Ungültige IBAN (Länge, Format oder Prüfziffer falsch)\"",
+                        "5;DE89370400440532013000;true;DE;37040044;;",
+                        "7;DE00370400440532013000;false;;;;\"Ungültige IBAN (Länge, Format oder Prüfziffer falsch)\"");
+        verify(ibanService, times(2)).validateNormalized(anyString());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BicIndexTest {
+
+    private final List<Bank> banks = List.of(
+            new Bank("Deutsche Bank Filiale", "DEUTDEFF500", "50070010", "DE"),
+            new Bank("Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE"),
+            new Bank("Commerzbank", "COBADEFF", "37040044", "DE"),
+            new Bank("Volksbank Kiel", "GENODEF1KIL", "21062406", "DE")
+    );
+
+    private final BicIndex index = new BicIndex(banks);
+
+    @Test
+    void shouldMatchExactBic11() {
+        int result = index.find("DEUTDEFF500");
+
+        assertThat(BicIndex.granularityOf(result)).isEqualTo(BicIndex.Granularity.EXACT);
+        assertThat(banks.get(BicIndex.indexOf(result)).getName()).isEqualTo("Deutsche Bank Filiale");
+    }
+
+    @Test
+    void shouldTreatBic8AsPrimaryOffice() {
+        assertThat(BicIndex.granularityOf(index.find("DEUTDEFF"))).isEqualTo(BicIndex.Granularity.EXACT);
+        assertThat(banks.get(BicIndex.indexOf(index.find("DEUTDEFF"))).getBic()).isEqualTo("DEUTDEFFXXX");
+        assertThat(banks.get(BicIndex.indexOf(index.find("cobadeffxxx"))).getName()).isEqualTo("Commerzbank");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryOfficeForUnknownBranch() {
+        int result = index.find("DEUTDEFF999");
+
+        assertThat(BicIndex.granularityOf(result)).isEqualTo(BicIndex.Granularity.PRIMARY_OFFICE);
+        assertThat(banks.get(BicIndex.indexOf(result)).getBic()).isEqualTo("DEUTDEFFXXX");
+    }
+
+    @Test
+    void shouldFallBackToInstitutionWhenNoPrimaryOfficeIsListed() {
+        int result = index.find("GENODEF1XXX");
+
+        assertThat(BicIndex.granularityOf(result)).isEqualTo(BicIndex.Granularity.INSTITUTION);
+        assertThat(banks.get(BicIndex.indexOf(result)).getBic()).isEqualTo("GENODEF1KIL");
+        assertThat(index.findExact("GENODEF1XXX")).isEqualTo(BicIndex.NOT_FOUND);
+    }
+
+    @Test
+    void shouldRejectMalformedOrUnknownBics() {
+        assertThat(index.find("DEUTDE")).isEqualTo(BicIndex.NOT_FOUND);
+        assertThat(index.find("DEUT-EFFXXX")).isEqualTo(BicIndex.NOT_FOUND);
+        assertThat(index.find("BARCGB22XXX")).isEqualTo(BicIndex.NOT_FOUND);
+        assertThat(index.find(null)).isEqualTo(BicIndex.NOT_FOUND);
+    }
+
+    @Test
+    void shouldResolveEveryEntryOfALargeDirectory() {
+        List<Bank> large = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            large.add(new Bank("Bank " + i, String.format("B%07dXXX", i), "1", "DE"));
+        }
+        BicIndex largeIndex = new BicIndex(large);
+
+        for (int i = 0; i < large.size(); i += 997) {
+            assertThat(BicIndex.indexOf(largeIndex.find(large.get(i).getBic()))).isEqualTo(i);
+        }
+    }
+}
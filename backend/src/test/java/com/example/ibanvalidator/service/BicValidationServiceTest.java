@@ -0,0 +1,82 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BicBatchValidationResponse;
+import com.example.ibanvalidator.dto.BicValidationResponse;
+import com.example.ibanvalidator.model.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BicValidationServiceTest {
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    @InjectMocks
+    private BicValidationService bicValidationService;
+
+    @BeforeEach
+    void setUp() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, List.of(
+                new Bank("Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE"))));
+    }
+
+    @Test
+    void shouldValidateKnownBic() {
+        BicValidationResponse response = bicValidationService.validateBic("deut de ff");
+
+        assertThat(response.isValid()).isTrue();
+        assertThat(response.isExists()).isTrue();
+        assertThat(response.getBic()).isEqualTo("DEUTDEFF");
+        assertThat(response.getCountryCode()).isEqualTo("DE");
+        assertThat(response.getBranchCode()).isEqualTo("XXX");
+        assertThat(response.getReasonCodes()).isEmpty();
+        assertThat(response.getBank().getBicMatch()).isEqualTo("EXACT");
+    }
+
+    @Test
+    void shouldFlagStructurallyValidButUnknownBic() {
+        BicValidationResponse response = bicValidationService.validateBic("BARCGB22XXX");
+
+        assertThat(response.isValid()).isTrue();
+        assertThat(response.isExists()).isFalse();
+        assertThat(response.getReasonCodes()).containsExactly(BicValidationService.NOT_IN_DIRECTORY);
+    }
+
+    @Test
+    void shouldReportStructuralReasonCodes() {
+        assertThat(reason("DEUTDE")).isEqualTo("INVALID_LENGTH");
+        assertThat(reason("DEUTDEF#XXX")).isEqualTo("INVALID_CHARACTERS");
+        assertThat(reason("DEU1DEFFXXX")).isEqualTo("INVALID_INSTITUTION_CODE");
+        assertThat(reason("DEUTQQFFXXX")).isEqualTo("UNKNOWN_COUNTRY");
+        assertThat(reason("DEUTDE0FXXX")).isEqualTo("INVALID_LOCATION_CODE");
+        assertThat(reason("DEUTDEFFX12")).isEqualTo("INVALID_BRANCH_CODE");
+        assertThat(reason("")).isEqualTo("EMPTY");
+    }
+
+    @Test
+    void shouldValidateBatchAgainstOneSnapshot() {
+        BicBatchValidationResponse response = bicValidationService.validateBics(
+                List.of("DEUTDEFFXXX", "DEUTDEFF500", "BARCGB22", "XX"));
+
+        assertThat(response.getTotal()).isEqualTo(4);
+        assertThat(response.getValid()).isEqualTo(3);
+        assertThat(response.getInvalid()).isEqualTo(1);
+        assertThat(response.getUnknown()).isEqualTo(1);
+        assertThat(response.getResults().get(1).getBank().getBicMatch()).isEqualTo("PRIMARY_OFFICE");
+        verify(bankDirectory, times(1)).current();
+    }
+
+    private String reason(String bic) {
+        return bicValidationService.validateBic(bic).getReasonCodes().get(0);
+    }
+}
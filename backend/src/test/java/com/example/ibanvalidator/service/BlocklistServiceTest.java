@@ -0,0 +1,90 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.BlocklistStatus;
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import com.example.ibanvalidator.exception.BlocklistException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlocklistServiceTest {
+
+    @TempDir
+    Path folder;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldFlagBlocklistedIbansDuringValidation() throws IOException {
+        Path file = folder.resolve("sperrliste.txt");
+        Files.writeString(file, "DE89370400440532013000\n");
+        BlocklistService blocklistService = new BlocklistService(meterRegistry, file.toString(), folder.toString());
+        blocklistService.load();
+        IbanService ibanService = new IbanService(null, blocklistService, null, null);
+
+        IbanValidationResponse blocked = ibanService.validateStructure("DE89 3704 0044 0532 0130 00");
+        IbanValidationResponse clean = ibanService.validateStructure("GB82WEST12345698765432");
+
+        assertThat(blocked.isValid()).isTrue();
+        assertThat(blocked.isBlocklisted()).isTrue();
+        assertThat(clean.isBlocklisted()).isFalse();
+        assertThat(meterRegistry.get("iban.blocklist.screenings").tag("result", "match").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("iban.blocklist.entries").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSwapListWhenFileChanges() throws IOException {
+        Path file = folder.resolve("sperrliste.txt");
+        Files.writeString(file, "DE89370400440532013000\n");
+        BlocklistService blocklistService = new BlocklistService(meterRegistry, file.toString(), folder.toString());
+        blocklistService.load();
+
+        Files.writeString(file, "GB82WEST12345698765432\nNL91ABNA0417164300\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        blocklistService.reloadIfChanged();
+
+        assertThat(blocklistService.isBlocked("DE89370400440532013000")).isFalse();
+        assertThat(blocklistService.isBlocked("GB82WEST12345698765432")).isTrue();
+        assertThat(blocklistService.status().getEntries()).isEqualTo(2);
+        assertThat(meterRegistry.get("iban.blocklist.reloads").tag("outcome", "success").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepCurrentListWhenReloadFails() throws IOException {
+        Path file = folder.resolve("sperrliste.txt");
+        Files.writeString(file, "DE89370400440532013000\n");
+        BlocklistService blocklistService = new BlocklistService(meterRegistry, file.toString(), folder.toString());
+        blocklistService.load();
+
+        Files.delete(file);
+
+        assertThatThrownBy(blocklistService::reload).isInstanceOf(BlocklistException.class);
+        assertThat(blocklistService.isBlocked("DE89370400440532013000")).isTrue();
+        assertThat(meterRegistry.get("iban.blocklist.reloads").tag("outcome", "failure").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportDisabledWithoutConfiguredList() {
+        BlocklistService blocklistService = new BlocklistService(meterRegistry, "", "");
+        blocklistService.load();
+
+        BlocklistStatus status = blocklistService.status();
+
+        assertThat(status.isEnabled()).isFalse();
+        assertThat(status.getEntries()).isZero();
+        assertThat(blocklistService.isBlocked("DE89370400440532013000")).isFalse();
+        assertThatThrownBy(blocklistService::reload).isInstanceOf(BlocklistException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import com.example.ibanvalidator.model.Bank;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheWarmerTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void shouldReplayRestoredIbansWithoutCountingThemAgain() {
+        String file = folder.resolve("hot-keys.csv").toString();
+        HotKeyTracker previous = new HotKeyTracker(file, 16, 10, 4);
+        for (int i = 0; i < 8; i++) {
+            previous.record(response("DE89370400440532013000", "DE", "37040044"));
+        }
+        previous.persist();
+
+        BankDirectory bankDirectory = mock(BankDirectory.class);
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of(DirectorySnapshot.LIVE_VERSION, null, List.of(
+                new Bank("Commerzbank AG", "COBADEFFXXX", "37040044", "DE"))));
+        HotKeyTracker tracker = new HotKeyTracker(file, 16, 10, 4);
+        CacheWarmer warmer = new CacheWarmer(tracker, bankDirectory,
+                new IbanService(bankDirectory, null, null, tracker));
+
+        warmer.warmUp();
+
+        assertThat(tracker.hotKeys().ibans()).extracting(HeavyHitters.Entry::count).containsExactly(4L);
+        assertThat(tracker.hotKeys().banks()).extracting(HeavyHitters.Entry::count).containsExactly(4L);
+    }
+
+    private static IbanValidationResponse response(String iban, String countryCode, String bankCode) {
+        IbanValidationResponse response = new IbanValidationResponse();
+        response.setValid(true);
+        response.setIban(iban);
+        response.setCountryCode(countryCode);
+        response.setBankCode(bankCode);
+        return response;
+    }
+}
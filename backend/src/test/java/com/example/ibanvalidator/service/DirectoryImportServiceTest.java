@@ -0,0 +1,128 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.DirectoryImportReport;
+import com.example.ibanvalidator.exception.DirectoryImportException;
+import com.example.ibanvalidator.model.Bank;
+import com.example.ibanvalidator.repository.BankRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DirectoryImportServiceTest {
+
+    @Mock
+    private BankRepository bankRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DirectoryImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new DirectoryImportService(bankRepository, jdbcTemplate, eventPublisher, 500, 1000);
+    }
+
+    @Test
+    void shouldComputeInsertsUpdatesAndDeletes() {
+        List<Bank> current = List.of(
+                bank(1L, "Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE"),
+                bank(2L, "Commerzbank", "COBADEFFXXX", "37040044", "DE"),
+                bank(3L, "Postbank", "PBNKDEFFXXX", "10010010", "DE"),
+                bank(4L, "Alte Volksbank", "GENODEF1OLD", "21062406", "DE")
+        );
+        List<Bank> incoming = List.of(
+                new Bank("Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE"),
+                new Bank("Commerzbank AG", "COBADEFFXXX", "37040044", "DE"),
+                new Bank("Volksbank", "GENODEF1KIL", "21062406", "DE"),
+                new Bank("ING-DiBa", "INGDDEFFXXX", "50010517", "DE")
+        );
+
+        DirectoryDelta delta = importService.computeDelta(current, incoming);
+
+        assertThat(delta.unchanged()).isEqualTo(1);
+        assertThat(delta.inserts()).extracting(Bank::getBic).containsExactly("INGDDEFFXXX");
+        assertThat(delta.deletes()).extracting(Bank::getId).containsExactly(3L);
+        assertThat(delta.updates()).hasSize(2);
+        assertThat(delta.updates().get(0).changedFields()).containsExactly("name");
+        assertThat(delta.updates().get(1).existing().getId()).isEqualTo(4L);
+        assertThat(delta.updates().get(1).changedFields()).containsExactly("name", "bic");
+    }
+
+    @Test
+    void shouldReportWithoutWritingOnDryRun() {
+        when(bankRepository.findAll()).thenReturn(List.of(bank(1L, "Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE")));
+
+        DirectoryImportReport report = importService.importFile(csv(
+                "name;bic;bankCode;countryCode",
+                "Deutsche Bank;DEUTDEFFXXX;10070000;DE",
+                "\"Commerzbank; Filiale Köln\";cobadeffxxx;37040044;de"), true);
+
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getReceived()).isEqualTo(2);
+        assertThat(report.getInserted()).isEqualTo(1);
+        assertThat(report.getUnchanged()).isEqualTo(1);
+        assertThat(report.getChanges()).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getType()).isEqualTo("INSERT");
+                    assertThat(change.getBic()).isEqualTo("COBADEFFXXX");
+                    assertThat(change.getName()).isEqualTo("Commerzbank; Filiale Köln");
+                });
+
+        verifyNoInteractions(jdbcTemplate, eventPublisher);
+    }
+
+    @Test
+    void shouldApplyChangesInBatches() {
+        when(bankRepository.findAll()).thenReturn(List.of(bank(1L, "Deutsche Bank", "DEUTDEFFXXX", "10070000", "DE")));
+
+        DirectoryImportReport report = importService.importFile(csv(
+                "name,bic,bank_code,country_code",
+                "Commerzbank,COBADEFFXXX,37040044,DE"), false);
+
+        assertThat(report.getInserted()).isEqualTo(1);
+        assertThat(report.getDeleted()).isEqualTo(1);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), argThat((List<Bank> banks) -> banks.size() == 1), eq(500), any());
+        verify(jdbcTemplate).batchUpdate(startsWith("DELETE"), argThat((List<Bank> banks) -> banks.size() == 1), eq(500), any());
+        verify(eventPublisher).publishEvent(any(BankDirectoryChangedEvent.class));
+    }
+
+    @Test
+    void shouldRejectFileWithInvalidLines() {
+        assertThatThrownBy(() -> importService.importFile(csv(
+                "name;bic;bankCode;countryCode",
+                "Deutsche Bank;DEUT;10070000;DE"), false))
+                .isInstanceOf(DirectoryImportException.class)
+                .satisfies(ex -> assertThat(((DirectoryImportException) ex).getLineErrors())
+                        .singleElement().asString().startsWith("Zeile 2"));
+
+        verifyNoInteractions(bankRepository, jdbcTemplate);
+    }
+
+    private ByteArrayInputStream csv(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Bank bank(Long id, String name, String bic, String bankCode, String countryCode) {
+        Bank bank = new Bank(name, bic, bankCode, countryCode);
+        bank.setId(id);
+        return bank;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.DirectoryRelease;
+import com.example.ibanvalidator.repository.DirectoryEntryRepository;
+import com.example.ibanvalidator.repository.DirectoryReleaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DirectoryReleaseServiceTest {
+
+    @Mock
+    private DirectoryReleaseRepository releaseRepository;
+
+    @Mock
+    private DirectoryEntryRepository entryRepository;
+
+    @Mock
+    private DirectoryImportService directoryImportService;
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private DirectoryReleaseService directoryReleaseService;
+
+    @BeforeEach
+    void setUp() {
+        directoryReleaseService = new DirectoryReleaseService(releaseRepository, entryRepository,
+                directoryImportService, bankDirectory, taskScheduler,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void shouldActivateReleaseWhenSwitchFromStagedSucceeds() {
+        DirectoryRelease release = release(7L, DirectoryRelease.Status.ACTIVE);
+        DirectoryRelease previous = release(3L, DirectoryRelease.Status.ACTIVE);
+        when(releaseRepository.markActive(eq(7L), any(), eq(DirectoryRelease.Status.STAGED),
+                eq(DirectoryRelease.Status.ACTIVE))).thenReturn(1);
+        when(releaseRepository.findById(7L)).thenReturn(Optional.of(release));
+        when(releaseRepository.findByStatusOrderByValidFromAsc(DirectoryRelease.Status.ACTIVE))
+                .thenReturn(List.of(previous, release));
+        when(entryRepository.findByReleaseId(7L)).thenReturn(List.of());
+        when(directoryImportService.replaceDirectory(List.of()))
+                .thenReturn(new DirectoryDelta(List.of(), List.of(), List.of(), 0));
+
+        directoryReleaseService.activate(7L);
+
+        assertThat(previous.getStatus()).isEqualTo(DirectoryRelease.Status.SUPERSEDED);
+        assertThat(release.getStatus()).isEqualTo(DirectoryRelease.Status.ACTIVE);
+        verify(bankDirectory).activated(release);
+    }
+
+    @Test
+    void shouldUnstageAndReloadWhenAnotherReplicaActivatedFirst() {
+        DirectoryRelease release = release(7L, DirectoryRelease.Status.ACTIVE);
+        when(releaseRepository.markActive(eq(7L), any(), any(), any())).thenReturn(0);
+        when(releaseRepository.findById(7L)).thenReturn(Optional.of(release));
+
+        directoryReleaseService.activate(7L);
+
+        verify(bankDirectory).unstage(release);
+        verify(bankDirectory).reload();
+        verify(bankDirectory, never()).activated(any());
+        verifyNoInteractions(directoryImportService);
+    }
+
+    private static DirectoryRelease release(Long id, DirectoryRelease.Status status) {
+        DirectoryRelease release = new DirectoryRelease("2026-" + id, Instant.parse("2026-06-01T00:00:00Z"), 0);
+        release.setId(id);
+        release.setStatus(status);
+        return release;
+    }
+}
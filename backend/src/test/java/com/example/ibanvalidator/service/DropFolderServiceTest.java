@@ -0,0 +1,150 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class DropFolderServiceTest {
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    @TempDir
+    Path inbox;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DropFolderService dropFolderService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("test", null, List.of(
+                new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE"))));
+        dropFolderService = service();
+        dropFolderService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dropFolderService.stop();
+    }
+
+    @Test
+    void shouldWriteResultNextToInputAndArchiveOriginal() throws Exception {
+        Files.writeString(inbox.resolve("ibans.csv"),
+                "iban\nDE89370400440532013000\nDE00370400440532013000\nGB82WEST12345698765432\n\nDE89370400440532013000\n");
+        Files.writeString(inbox.resolve("notes.pdf"), "ignoriert");
+
+        dropFolderService.scan();
+        assertThat(inbox.resolve("ibans.csv.result.csv")).doesNotExist();
+        dropFolderService.scan();
+        awaitFile(inbox.resolve("archive/ibans.csv"));
+
+        assertThat(Files.readAllLines(inbox.resolve("ibans.csv.result.csv"))).containsExactly(
+                BatchLineValidator.HEADER,
+                "2;DE89370400440532013000;true;DE;37040044;COBADEFFXXX;",
+                "3;DE00370400440532013000;false;;;;\"Ungültige IBAN (Länge, Format oder Prüfziffer falsch)\"",
+                "4;GB82WEST12345698765432;true;GB;WEST;;",
+                "6;DE89370400440532013000;true;DE;37040044;COBADEFFXXX;");
+        assertThat(inbox.resolve("ibans.csv")).doesNotExist();
+        assertThat(inbox.resolve("notes.pdf")).exists();
+        assertThat(meterRegistry.get("iban.dropfolder.files").tag("outcome", "archived").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("iban.dropfolder.lines").tag("result", "valid").counter().count()).isEqualTo(3);
+        assertThat(dropFolderService.lag()).isZero();
+    }
+
+    @Test
+    void shouldMoveBrokenFileToErrorFolder() throws Exception {
+        Files.writeString(inbox.resolve("pain.xml"), "<Document><CstmrCdtTrfInitn><PmtInf>");
+
+        dropFolderService.scan();
+        dropFolderService.scan();
+        awaitFile(inbox.resolve("error/pain.xml"));
+
+        assertThat(inbox.resolve("pain.xml.result.csv")).doesNotExist();
+        assertThat(inbox.resolve("pain.xml.result.csv.tmp")).doesNotExist();
+        assertThat(meterRegistry.get("iban.dropfolder.files").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotClaimFileAlreadyInProcessing() throws Exception {
+        Files.writeString(inbox.resolve("processing/ibans.csv"), "DE89370400440532013000\n");
+        Files.writeString(inbox.resolve("ibans.csv"), "DE89370400440532013000\n");
+
+        dropFolderService.scan();
+        dropFolderService.scan();
+
+        assertThat(inbox.resolve("ibans.csv")).exists();
+        assertThat(inbox.resolve("archive/ibans.csv")).doesNotExist();
+    }
+
+    @Test
+    void shouldRequeueFilesLeftInProcessingOnStartup() throws Exception {
+        dropFolderService.stop();
+        Files.writeString(inbox.resolve("processing/ibans.csv"), "DE89370400440532013000\n");
+        Files.writeString(inbox.resolve("processing/ibans.csv.result.csv.tmp"), BatchLineValidator.HEADER);
+
+        dropFolderService = service();
+        dropFolderService.start();
+
+        assertThat(inbox.resolve("processing/ibans.csv.result.csv.tmp")).doesNotExist();
+        assertThat(inbox.resolve("ibans.csv")).exists();
+        dropFolderService.scan();
+        dropFolderService.scan();
+        awaitFile(inbox.resolve("archive/ibans.csv"));
+        assertThat(inbox.resolve("processing/ibans.csv")).doesNotExist();
+        assertThat(inbox.resolve("ibans.csv.result.csv")).exists();
+    }
+
+    @Test
+    void shouldKeepDefaultProcessingFolderPerHost() throws Exception {
+        dropFolderService.stop();
+        Files.createDirectories(inbox.resolve("processing-anderer-knoten"));
+        Files.writeString(inbox.resolve("processing-anderer-knoten/ibans.csv"), "DE89370400440532013000\n");
+
+        dropFolderService = service("");
+        dropFolderService.start();
+
+        assertThat(inbox.resolve("processing-anderer-knoten/ibans.csv")).exists();
+        assertThat(inbox.resolve("ibans.csv")).doesNotExist();
+        try (Stream<Path> folders = Files.list(inbox)) {
+            assertThat(folders.map(path -> path.getFileName().toString()))
+                    .anyMatch(name -> name.startsWith("processing-") && !name.equals("processing-anderer-knoten"));
+        }
+    }
+
+    private DropFolderService service() {
+        return service(inbox.resolve("processing").toString());
+    }
+
+    private DropFolderService service(String processing) {
+        IbanService ibanService = new IbanService(bankDirectory);
+        SepaValidationService sepaValidationService = new SepaValidationService(ibanService,
+                new IbanBicPairService(ibanService, bankDirectory), bankDirectory, 100);
+        return new DropFolderService(new BatchLineValidator(ibanService), sepaValidationService,
+                bankDirectory, meterRegistry, inbox.toString(), "", "", processing, 2, 2, 4);
+    }
+
+    private static void awaitFile(Path path) throws InterruptedException {
+        for (int i = 0; i < 100 && !Files.exists(path); i++) {
+            Thread.sleep(50);
+        }
+        Thread.sleep(50);
+        assertThat(path).exists();
+    }
+}
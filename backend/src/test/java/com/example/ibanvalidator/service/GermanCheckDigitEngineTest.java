@@ -0,0 +1,144 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.service.GermanCheckDigitEngine.Result;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GermanCheckDigitEngineTest {
+
+    @Test
+    void shouldValidateBundesbankExampleForMethod00() {
+        assertThat(GermanCheckDigitEngine.check("00", "0009290701")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("00", "0009290702")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("00", "9290701")).isEqualTo(Result.VALID);
+    }
+
+    @Test
+    void shouldApplyWeightedModulusMethods() {
+        assertThat(GermanCheckDigitEngine.check("00", "0123456782")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("01", "1234567899")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("02", "1234567897")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("06", "9876543211")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("10", "1234567890")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("29", "3145863029")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("97", "2400000009")).isEqualTo(Result.VALID);
+
+        assertThat(GermanCheckDigitEngine.check("01", "1234567898")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("06", "9876543212")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("29", "3145863028")).isEqualTo(Result.INVALID);
+    }
+
+    @Test
+    void shouldRetryWithShiftedAccountWhenSubAccountIsMissing() {
+        assertThat(GermanCheckDigitEngine.check("13", "1234567600")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("13", "0000123455")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("13", "0000123456")).isEqualTo(Result.INVALID);
+    }
+
+    @Test
+    void shouldCombineVariants() {
+        assertThat(GermanCheckDigitEngine.check("A2", "0123456782")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C8", "1234567008")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("09", "1234567891")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("08", "0000012345")).isEqualTo(Result.VALID);
+    }
+
+    @Test
+    void shouldDeriveEserAccountFromBankCode() {
+        assertThat(GermanCheckDigitEngine.check("52", "13051172", "43001500")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("52", "13051172", "48726458")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("52", "13051172", "82335729")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("52", "13051172", "29837521")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("53", "16052072", "382432256")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("53", "16052072", "384875640")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("53", "16052072", "382432258")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("52", "43001500")).isEqualTo(Result.NOT_SUPPORTED);
+    }
+
+    @Test
+    void shouldApplyPrefixedAndSpecialMethods() {
+        assertThat(GermanCheckDigitEngine.check("54", "4964137395")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("54", "4864446015")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("57", "7500021766")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("57", "3251080371")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("57", "1909700805")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("57", "9322111030")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("57", "5302707782")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("57", "1813499124")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("87", "0000051768")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("87", "0010701590")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("87", "3199500501")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("93", "6714790000")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("93", "0000127791")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("A4", "0004711173")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("A4", "1199503010")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("A4", "0000399443")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("B9", "87920187")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("B9", "7125633")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("B9", "88034023")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("B9", "2356412")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("C5", "0000301168")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C5", "3060188103")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C6", "2003455189")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C6", "9000781153")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C6", "0525111212")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("D4", "1112048219")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D4", "1000062023")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("D5", "5999718138")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D5", "0000100062")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D7", "0500018205")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D7", "0501006102")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("E0", "1234568013")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("E0", "1234769013")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("E1", "0134211909")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("E1", "0150013107")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("E2", "0003831745")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("E2", "6003831745")).isEqualTo(Result.INVALID);
+    }
+
+    @Test
+    void shouldApplyMethods89C1AndD1() {
+        assertThat(GermanCheckDigitEngine.check("89", "1098506")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("89", "32028008")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("89", "218433000")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("89", "1098507")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("89", "1234567890")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C1", "0446786040")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C1", "0882095630")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C1", "5432112349")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C1", "5543223456")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C1", "5876556788")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("C1", "0446786240")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("C1", "5432112341")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("C1", "5876556780")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "0082012203")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "1452683581")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "3002000027")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "7126502149")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "9000430223")).isEqualTo(Result.VALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "0000260986")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "1062813622")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "8003306026")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("D1", "9000641509")).isEqualTo(Result.INVALID);
+    }
+
+    @Test
+    void shouldRejectMalformedInput() {
+        assertThat(GermanCheckDigitEngine.check("00", "12345678901")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("00", "12345A7890")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("00", "0000000000")).isEqualTo(Result.INVALID);
+        assertThat(GermanCheckDigitEngine.check("F0", "0009290701")).isEqualTo(Result.NOT_SUPPORTED);
+        assertThat(GermanCheckDigitEngine.check("12", "0009290701")).isEqualTo(Result.NOT_SUPPORTED);
+    }
+
+    @Test
+    void shouldDecodeMethodCodes() {
+        assertThat(GermanCheckDigitEngine.methodIndex("00")).isZero();
+        assertThat(GermanCheckDigitEngine.methodIndex("99")).isEqualTo(99);
+        assertThat(GermanCheckDigitEngine.methodIndex("A0")).isEqualTo(100);
+        assertThat(GermanCheckDigitEngine.methodIndex("E4")).isEqualTo(144);
+        assertThat(GermanCheckDigitEngine.methodIndex("F1")).isEqualTo(-1);
+        assertThat(GermanCheckDigitEngine.methodIndex("0")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.ibanvalidator.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeavyHittersTest {
+
+    @Test
+    void shouldKeepFrequentKeysWithinBoundedCapacity() {
+        HeavyHitters heavyHitters = new HeavyHitters(50);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            if (i % 4 == 0) {
+                heavyHitters.offer("hot-" + (i / 4) % 5);
+            } else {
+                heavyHitters.offer("cold-" + random.nextInt(50_000));
+            }
+        }
+
+        List<HeavyHitters.Entry> top = heavyHitters.top(5);
+        assertThat(heavyHitters.size()).isEqualTo(50);
+        assertThat(top).extracting(HeavyHitters.Entry::key)
+                .containsExactlyInAnyOrder("hot-0", "hot-1", "hot-2", "hot-3", "hot-4");
+        for (HeavyHitters.Entry entry : top) {
+            assertThat(entry.count() - entry.error()).isLessThanOrEqualTo(5_000);
+            assertThat(entry.count()).isGreaterThanOrEqualTo(5_000);
+        }
+    }
+
+    @Test
+    void shouldOrderByCountAndHonourWeights() {
+        HeavyHitters heavyHitters = new HeavyHitters(10);
+
+        heavyHitters.offer("a");
+        heavyHitters.offer("b", 5);
+        heavyHitters.offer("c", 3);
+        heavyHitters.offer("a");
+
+        assertThat(heavyHitters.top(2)).containsExactly(
+                new HeavyHitters.Entry("b", 5, 0),
+                new HeavyHitters.Entry("c", 3, 0));
+    }
+}
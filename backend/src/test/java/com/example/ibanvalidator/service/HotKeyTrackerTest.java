@@ -0,0 +1,85 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyTrackerTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void shouldPersistAndRestoreHottestKeys() throws Exception {
+        Path file = folder.resolve("hot-keys.csv");
+        HotKeyTracker tracker = new HotKeyTracker(file.toString(), 16, 2, 4);
+        for (int i = 0; i < 10; i++) {
+            tracker.record(response("DE89370400440532013000", "DE", "37040044"));
+        }
+        for (int i = 0; i < 4; i++) {
+            tracker.record(response("GB82WEST12345698765432", "GB", "WEST"));
+        }
+        tracker.record(response("FR1420041010050500013M02606", "FR", "20041"));
+
+        tracker.persist();
+        HotKeyTracker.HotKeys restored = new HotKeyTracker(file.toString(), 16, 2, 4).restore();
+
+        assertThat(Files.exists(file.resolveSibling("hot-keys.csv.tmp"))).isFalse();
+        assertThat(restored.ibans()).extracting(HeavyHitters.Entry::key)
+                .containsExactly("DE89370400440532013000", "GB82WEST12345698765432");
+        assertThat(restored.ibans()).extracting(HeavyHitters.Entry::count).containsExactly(5L, 2L);
+        assertThat(restored.banks()).extracting(HeavyHitters.Entry::key).containsExactly("DE:37040044", "GB:WEST");
+    }
+
+    @Test
+    void shouldMergeStripesRecordedFromSeveralThreads() throws Exception {
+        HotKeyTracker tracker = new HotKeyTracker("", 64, 3, 8);
+        String[] ibans = {"DE89370400440532013000", "GB82WEST12345698765432", "FR1420041010050500013M02606"};
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    for (int k = 0; k < ibans.length; k++) {
+                        if (i % (k + 1) == 0) {
+                            tracker.record(response(ibans[k], ibans[k].substring(0, 2), "B" + k));
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        HotKeyTracker.HotKeys hotKeys = tracker.hotKeys();
+
+        assertThat(hotKeys.ibans()).extracting(HeavyHitters.Entry::key).containsExactly(ibans);
+        assertThat(hotKeys.ibans()).extracting(HeavyHitters.Entry::count).containsExactly(4000L, 2000L, 1336L);
+        assertThat(hotKeys.banks()).extracting(HeavyHitters.Entry::key).containsExactly("DE:B0", "GB:B1", "FR:B2");
+    }
+
+    @Test
+    void shouldRestoreNothingWithoutFile() {
+        HotKeyTracker tracker = new HotKeyTracker(folder.resolve("fehlt.csv").toString(), 16, 10, 4);
+
+        HotKeyTracker.HotKeys restored = tracker.restore();
+
+        assertThat(restored.ibans()).isEmpty();
+        assertThat(restored.banks()).isEmpty();
+    }
+
+    private static IbanValidationResponse response(String iban, String countryCode, String bankCode) {
+        IbanValidationResponse response = new IbanValidationResponse();
+        response.setValid(true);
+        response.setIban(iban);
+        response.setCountryCode(countryCode);
+        response.setBankCode(bankCode);
+        return response;
+    }
+}
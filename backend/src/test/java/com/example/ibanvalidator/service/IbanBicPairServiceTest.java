@@ -0,0 +1,99 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanBicPairBatchRequest;
+import com.example.ibanvalidator.dto.IbanBicPairBatchResponse;
+import com.example.ibanvalidator.dto.IbanBicPairRequest;
+import com.example.ibanvalidator.dto.IbanBicPairResponse;
+import com.example.ibanvalidator.dto.IbanBicPairResponse.Status;
+import com.example.ibanvalidator.model.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IbanBicPairServiceTest {
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    private IbanBicPairService ibanBicPairService;
+
+    @BeforeEach
+    void setUp() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, List.of(
+                new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE"))));
+        ibanBicPairService = new IbanBicPairService(new IbanService(bankDirectory), bankDirectory);
+    }
+
+    @Test
+    void shouldMatchBicOfBank() {
+        IbanBicPairResponse response = validate("DE89 3704 0044 0532 0130 00", "COBADEFF");
+
+        assertThat(response.getStatus()).isEqualTo(Status.MATCH);
+        assertThat(response.isConsistent()).isTrue();
+        assertThat(response.getBankCode()).isEqualTo("37040044");
+        assertThat(response.getExpectedBics()).containsExactly("COBADEFFXXX");
+    }
+
+    @Test
+    void shouldAcceptOtherBranchOfSameInstitution() {
+        IbanBicPairResponse response = validate("DE89370400440532013000", "COBADEFF370");
+
+        assertThat(response.getStatus()).isEqualTo(Status.INSTITUTION_MATCH);
+        assertThat(response.isConsistent()).isTrue();
+    }
+
+    @Test
+    void shouldReportMismatchingPairs() {
+        assertThat(validate("DE89370400440532013000", "DEUTDEFFXXX").getStatus()).isEqualTo(Status.MISMATCH);
+        assertThat(validate("DE89370400440532013000", "DEUTDEFF#").getStatus()).isEqualTo(Status.BIC_INVALID);
+        assertThat(validate("DE89370400440532013001", "COBADEFF").getStatus()).isEqualTo(Status.IBAN_INVALID);
+    }
+
+    @Test
+    void shouldDistinguishUnknownBankFromCountryMismatch() {
+        assertThat(validate("DE02120300000000202051", "BYLADEM1001").getStatus()).isEqualTo(Status.BANK_UNKNOWN);
+        assertThat(validate("DE02120300000000202051", "BARCGB22").getStatus()).isEqualTo(Status.COUNTRY_MISMATCH);
+    }
+
+    @Test
+    void shouldRejectGermanAccountNumberFailingCheckDigitMethod() {
+        Bank bank = new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE");
+        bank.setCheckDigitMethod("00");
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, List.of(bank)));
+
+        IbanBicPairResponse valid = validate("DE28370400440009290701", "COBADEFFXXX");
+        IbanBicPairResponse invalid = validate("DE98370400440009290702", "COBADEFFXXX");
+
+        assertThat(valid.getStatus()).isEqualTo(Status.MATCH);
+        assertThat(invalid.getStatus()).isEqualTo(Status.ACCOUNT_INVALID);
+        assertThat(invalid.isConsistent()).isFalse();
+        assertThat(invalid.getMessage()).contains("Prüfzifferverfahren 00");
+    }
+
+    @Test
+    void shouldShareBankLookupsAcrossBatch() {
+        IbanBicPairBatchResponse response = ibanBicPairService.validatePairs(new IbanBicPairBatchRequest(List.of(
+                new IbanBicPairRequest("DE89370400440532013000", "COBADEFFXXX"),
+                new IbanBicPairRequest("DE89370400440532013000", "DEUTDEFFXXX"),
+                new IbanBicPairRequest("DE89370400440532013000", "COBADEFF"))));
+
+        assertThat(response.getTotal()).isEqualTo(3);
+        assertThat(response.getConsistent()).isEqualTo(2);
+        assertThat(response.getInconsistent()).isEqualTo(1);
+        assertThat(response.getDistinctBanks()).isEqualTo(1);
+        assertThat(response.getDirectoryVersion()).isEqualTo("live");
+        verify(bankDirectory, times(1)).current();
+    }
+
+    private IbanBicPairResponse validate(String iban, String bic) {
+        return ibanBicPairService.validatePair(new IbanBicPairRequest(iban, bic));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.ibanvalidator.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IbanBlocklistTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void shouldLoadNormalizedAndDeduplicatedEntries() throws IOException {
+        Path file = folder.resolve("sperrliste.csv");
+        Files.writeString(file, "\uFEFF# interne Sperrliste\n"
+                + "DE89 3704 0044 0532 0130 00;Betrugsverdacht\n"
+                + "gb82west12345698765432\n"
+                + "\n"
+                + "\"DE89370400440532013000\"\n"
+                + "keine-iban!\n");
+
+        IbanBlocklist blocklist = IbanBlocklist.load(file, folder);
+
+        assertThat(blocklist.size()).isEqualTo(2);
+        assertThat(blocklist.getRejected()).isEqualTo(1);
+        assertThat(blocklist.getSource()).isEqualTo(file.toString());
+        assertThat(blocklist.contains(PackedIban.pack("DE89370400440532013000"))).isTrue();
+        assertThat(blocklist.mightContain(PackedIban.pack("DE89370400440532013000"))).isTrue();
+        assertThat(blocklist.contains(PackedIban.pack("GB82WEST12345698765432"))).isTrue();
+        assertThat(blocklist.contains(PackedIban.pack("DE89370400440532013001"))).isFalse();
+        try (Stream<Path> index = Files.list(folder)) {
+            assertThat(index).containsExactly(file);
+        }
+    }
+
+    @Test
+    void shouldFindEveryEntryOfLargeUnsortedList() throws IOException {
+        Random random = new Random(42);
+        List<String> ibans = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ibans.add(String.format("DE%02d%08d%010d", random.nextInt(100), random.nextInt(100_000_000),
+                    random.nextInt(1_000_000_000)));
+        }
+        ibans.addAll(ibans.subList(0, 500));
+        Collections.shuffle(ibans, random);
+        Path file = folder.resolve("gross.txt");
+        Files.write(file, ibans);
+
+        IbanBlocklist blocklist = IbanBlocklist.load(file, folder);
+
+        assertThat(blocklist.size()).isEqualTo(20_000);
+        for (String iban : ibans) {
+            assertThat(blocklist.contains(PackedIban.pack(iban))).as(iban).isTrue();
+        }
+        int bloomHits = 0;
+        for (int i = 0; i < 10_000; i++) {
+            PackedIban absent = PackedIban.pack(String.format("AT%02d%016d", i % 100, i));
+            assertThat(blocklist.contains(absent)).isFalse();
+            if (blocklist.mightContain(absent)) {
+                bloomHits++;
+            }
+        }
+        assertThat(bloomHits).isLessThan(300);
+    }
+
+    @Test
+    void shouldBeEmptyByDefault() {
+        IbanBlocklist blocklist = IbanBlocklist.empty();
+
+        assertThat(blocklist.isEmpty()).isTrue();
+        assertThat(blocklist.mightContain(PackedIban.pack("DE89370400440532013000"))).isFalse();
+        assertThat(blocklist.contains(PackedIban.pack("DE89370400440532013000"))).isFalse();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanGenerationBatchRequest;
+import com.example.ibanvalidator.dto.IbanGenerationBatchResponse;
+import com.example.ibanvalidator.dto.IbanGenerationRequest;
+import com.example.ibanvalidator.dto.IbanGenerationResponse;
+import com.example.ibanvalidator.model.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IbanGenerationServiceTest {
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    private IbanGenerationService ibanGenerationService;
+
+    @BeforeEach
+    void setUp() {
+        ibanGenerationService = new IbanGenerationService(new IbanService(bankDirectory), bankDirectory);
+    }
+
+    @Test
+    void shouldAssembleBbanAndCheckDigits() {
+        assertThat(IbanGenerator.generate("DE", "37040044", null, "532013000")).isEqualTo("DE89370400440532013000");
+        assertThat(IbanGenerator.generate("be", "539", null, "0075470 34")).isEqualTo("BE68539007547034");
+        assertThat(IbanGenerator.generate("GB", "NWBK", "60-16-13", "31926819")).isEqualTo("GB29NWBK60161331926819");
+        assertThat(IbanGenerator.generate("FR", "20041", "01005", "0500013M02606")).isEqualTo("FR1420041010050500013M02606");
+        assertThat(IbanGenerator.generate("IT", "05428", "11101", "000000123456")).isEqualTo("IT60X0542811101000000123456");
+    }
+
+    @Test
+    void shouldReportUnconvertibleInput() {
+        IbanGenerationResponse tooLong = ibanGenerationService.generate(
+                new IbanGenerationRequest("DE", "37040044", "12345678901"));
+        IbanGenerationResponse unsupported = ibanGenerationService.generate(
+                new IbanGenerationRequest("XX", "1234", "1"));
+
+        assertThat(tooLong.isValid()).isFalse();
+        assertThat(tooLong.getIban()).isNull();
+        assertThat(tooLong.getErrorMessage()).contains("Kontonummer");
+        assertThat(unsupported.getErrorMessage()).contains("nicht unterstützt");
+        verifyNoInteractions(bankDirectory);
+    }
+
+    @Test
+    void shouldValidateGeneratedIbansAgainstDirectory() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, List.of(
+                new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE"))));
+        IbanGenerationBatchRequest request = new IbanGenerationBatchRequest(List.of(
+                new IbanGenerationRequest("DE", "37040044", "0532013000"),
+                new IbanGenerationRequest("DE", "3704", "0532013000")));
+        request.setValidate(true);
+
+        IbanGenerationBatchResponse response = ibanGenerationService.generateBatch(request);
+
+        assertThat(response.getGenerated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getDirectoryVersion()).isEqualTo("live");
+        assertThat(response.getResults().get(0).getBic()).isEqualTo("COBADEFFXXX");
+        verify(bankDirectory, times(1)).current();
+    }
+
+    @Test
+    void shouldConvertFileInOneStreamingPass() throws Exception {
+        String input = "country_code;bank_code;account_number\n"
+                + "DE;37040044;532013000\n"
+                + "\n"
+                + "DE;37040044\n"
+                + "BE;539;007547034\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        IbanGenerationService.ConversionSummary summary = ibanGenerationService.convert(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output, false);
+
+        assertThat(summary.rows()).isEqualTo(3);
+        assertThat(summary.generated()).isEqualTo(2);
+        assertThat(output.toString(StandardCharsets.UTF_8).lines().toList()).containsExactly(
+                "countryCode;bankCode;accountNumber;iban;valid;bic;message",
+                "DE;37040044;532013000;DE89370400440532013000;true;;",
+                "DE;37040044;;;false;;\"zu wenige Spalten\"",
+                "BE;539;007547034;BE68539007547034;true;;");
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanValidationRequest;
+import com.example.ibanvalidator.dto.IbanValidationResponse;
+import com.example.ibanvalidator.model.Bank;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IbanResultCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BankDirectory bankDirectory = mock(BankDirectory.class);
+    private IbanResultCache resultCache;
+    private IbanService ibanService;
+
+    @BeforeEach
+    void setUp() {
+        resultCache = new IbanResultCache(meterRegistry, 1000);
+        ibanService = new IbanService(bankDirectory, null, resultCache, null);
+    }
+
+    @Test
+    void shouldServeRepeatedValidationsFromCache() {
+        when(bankDirectory.current()).thenReturn(directory("Commerzbank"));
+
+        IbanValidationResponse first = ibanService.validateIban(new IbanValidationRequest("DE89370400440532013000"));
+        IbanValidationResponse second = ibanService.validateIban(new IbanValidationRequest("de89 3704 0044 0532 0130 00"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getBank().getName()).isEqualTo("Commerzbank");
+        assertThat(resultCache.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("iban.cache.results").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropEntriesWhenDirectoryChanges() {
+        when(bankDirectory.current()).thenReturn(directory("Commerzbank"));
+        IbanValidationResponse first = ibanService.validateIban(new IbanValidationRequest("DE89370400440532013000"));
+
+        when(bankDirectory.current()).thenReturn(directory("Commerzbank Neu"));
+        IbanValidationResponse second = ibanService.validateIban(new IbanValidationRequest("DE89370400440532013000"));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getBank().getName()).isEqualTo("Commerzbank Neu");
+    }
+
+    @Test
+    void shouldEvictWhenStripeIsFull() {
+        IbanResultCache small = new IbanResultCache(meterRegistry, 16);
+        DirectorySnapshot directory = directory("Commerzbank");
+
+        for (int i = 0; i < 1000; i++) {
+            String iban = String.format("DE00370400440%09d", i);
+            small.computeIfAbsent(iban, directory, 0, () -> new IbanValidationResponse(false, iban));
+        }
+
+        assertThat(small.size()).isLessThanOrEqualTo(16);
+    }
+
+    private static DirectorySnapshot directory(String name) {
+        return DirectorySnapshot.of(DirectorySnapshot.LIVE_VERSION, null,
+                List.of(new Bank(name, "COBADEFFXXX", "37040044", "DE")));
+    }
+}
@@ -3,7 +3,6 @@ package com.example.ibanvalidator.service;
 import com.example.ibanvalidator.dto.IbanValidationRequest;
 import com.example.ibanvalidator.dto.IbanValidationResponse;
 import com.example.ibanvalidator.model.Bank;
-import com.example.ibanvalidator.repository.BankRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +10,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,7 +20,9 @@ import static org.mockito.Mockito.*;
 class IbanServiceTest {
 
     @Mock
-    private BankRepository bankRepository;
+    private BankDirectory bankDirectory;
+
+    private DirectorySnapshot directory;
 
     @InjectMocks
     private IbanService ibanService;
@@ -31,6 +33,9 @@ class IbanServiceTest {
     void setUp() {
         testBank = new Bank("Deutsche Bank", "DEUTDEFFXXX", "37040044", "DE");
         testBank.setId(1L);
+
+        directory = mock(DirectorySnapshot.class);
+        lenient().when(bankDirectory.current()).thenReturn(directory);
     }
 
     @Test
@@ -38,7 +43,7 @@ class IbanServiceTest {
         String validIban = "DE89370400440532013000";
         IbanValidationRequest request = new IbanValidationRequest(validIban);
 
-        when(bankRepository.findByBankCodeAndCountryCode("37040044", "DE"))
+        when(directory.findByBankCodeAndCountryCode("37040044", "DE"))
                 .thenReturn(Optional.of(testBank));
 
         IbanValidationResponse response = ibanService.validateIban(request);
@@ -52,7 +57,7 @@ class IbanServiceTest {
         assertThat(response.getBank()).isNotNull();
         assertThat(response.getBank().getName()).isEqualTo("Deutsche Bank");
 
-        verify(bankRepository, times(1)).findByBankCodeAndCountryCode("37040044", "DE");
+        verify(directory, times(1)).findByBankCodeAndCountryCode("37040044", "DE");
     }
 
     @Test
@@ -60,7 +65,7 @@ class IbanServiceTest {
         String ibanWithSpaces = "DE89 3704 0044 0532 0130 00";
         IbanValidationRequest request = new IbanValidationRequest(ibanWithSpaces);
 
-        when(bankRepository.findByBankCodeAndCountryCode("37040044", "DE"))
+        when(directory.findByBankCodeAndCountryCode("37040044", "DE"))
                 .thenReturn(Optional.of(testBank));
 
         IbanValidationResponse response = ibanService.validateIban(request);
@@ -74,7 +79,7 @@ class IbanServiceTest {
         String ibanWithDashes = "DE89-3704-0044-0532-0130-00";
         IbanValidationRequest request = new IbanValidationRequest(ibanWithDashes);
 
-        when(bankRepository.findByBankCodeAndCountryCode("37040044", "DE"))
+        when(directory.findByBankCodeAndCountryCode("37040044", "DE"))
                 .thenReturn(Optional.of(testBank));
 
         IbanValidationResponse response = ibanService.validateIban(request);
@@ -92,7 +97,7 @@ class IbanServiceTest {
         assertThat(response.isValid()).isFalse();
         assertThat(response.getErrorMessage()).contains("Ungültige");
 
-        verify(bankRepository, never()).findByBankCodeAndCountryCode(anyString(), anyString());
+        verify(directory, never()).findByBankCodeAndCountryCode(anyString(), anyString());
     }
 
     @Test
@@ -145,7 +150,7 @@ class IbanServiceTest {
         IbanValidationRequest request = new IbanValidationRequest(validGbIban);
 
         Bank ukBank = new Bank("NatWest", "NWBKGB2L", "601613", "GB");
-        when(bankRepository.findByBankCodeAndCountryCode("601613", "GB"))
+        when(directory.findByBankCodeAndCountryCode("601613", "GB"))
                 .thenReturn(Optional.of(ukBank));
 
         IbanValidationResponse response = ibanService.validateIban(request);
@@ -180,7 +185,7 @@ class IbanServiceTest {
         String validIban = "DE89370400440532013000";
         IbanValidationRequest request = new IbanValidationRequest(validIban);
 
-        when(bankRepository.findByBankCodeAndCountryCode("37040044", "DE"))
+        when(directory.findByBankCodeAndCountryCode("37040044", "DE"))
                 .thenReturn(Optional.empty());
 
         IbanValidationResponse response = ibanService.validateIban(request);
@@ -195,7 +200,7 @@ class IbanServiceTest {
         String lowercaseIban = "de89370400440532013000";
         IbanValidationRequest request = new IbanValidationRequest(lowercaseIban);
 
-        when(bankRepository.findByBankCodeAndCountryCode("37040044", "DE"))
+        when(directory.findByBankCodeAndCountryCode("37040044", "DE"))
                 .thenReturn(Optional.of(testBank));
 
         IbanValidationResponse response = ibanService.validateIban(request);
@@ -204,4 +209,74 @@ class IbanServiceTest {
         assertThat(response.getIban()).isEqualTo("DE89370400440532013000");
         assertThat(response.getCountryCode()).isEqualTo("DE");
     }
+
+    @Test
+    void shouldLookUpBankInDirectoryValidAtRequestedDate() {
+        IbanValidationRequest request = new IbanValidationRequest("DE89370400440532013000");
+        request.setAsOf(LocalDate.of(2024, 1, 15));
+
+        DirectorySnapshot historical = DirectorySnapshot.of("2023-Q4", null, java.util.List.of(testBank));
+        when(bankDirectory.asOf(LocalDate.of(2024, 1, 15))).thenReturn(historical);
+
+        IbanValidationResponse response = ibanService.validateIban(request);
+
+        assertThat(response.isValid()).isTrue();
+        assertThat(response.getDirectoryVersion()).isEqualTo("2023-Q4");
+        assertThat(response.getBank()).isSameAs(testBank);
+        verify(bankDirectory, never()).current();
+    }
+
+    @Test
+    void shouldDeriveBicFromBankCode() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, java.util.List.of(testBank)));
+
+        IbanValidationResponse response = ibanService.validateIban(new IbanValidationRequest("DE89370400440532013000"));
+
+        assertThat(response.getBic()).isEqualTo("DEUTDEFFXXX");
+        assertThat(response.getBicSource()).isEqualTo("BANK");
+    }
+
+    @Test
+    void shouldPreferBranchLevelBicAndFallBackToPrimaryOffice() {
+        Bank head = new Bank("La Banque Postale", "PSSTFRPPXXX", "20041", "FR");
+        Bank branch = new Bank("La Banque Postale Lille", "PSSTFRPPLIL", "2004101005", "FR");
+        Bank otherBranch = new Bank("La Banque Postale Paris", "PSSTFRPPPAR", "20041", "FR");
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null,
+                java.util.List.of(otherBranch, head, branch)));
+
+        IbanValidationResponse lille = ibanService.validateIban(new IbanValidationRequest("FR1420041010050500013M02606"));
+        IbanValidationResponse paris = ibanService.validateIban(new IbanValidationRequest("FR7620041000010123456789063"));
+
+        assertThat(lille.getBic()).isEqualTo("PSSTFRPPLIL");
+        assertThat(lille.getBicSource()).isEqualTo("BRANCH");
+        assertThat(lille.getBank()).isSameAs(branch);
+        assertThat(paris.getBic()).isEqualTo("PSSTFRPPXXX");
+        assertThat(paris.getBicSource()).isEqualTo("PRIMARY_OFFICE");
+    }
+
+    @Test
+    void shouldRejectGermanAccountNumberFailingCheckDigitMethod() {
+        testBank.setCheckDigitMethod("00");
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, java.util.List.of(testBank)));
+
+        IbanValidationResponse valid = ibanService.validateIban(new IbanValidationRequest("DE28370400440009290701"));
+        IbanValidationResponse invalid = ibanService.validateIban(new IbanValidationRequest("DE98370400440009290702"));
+
+        assertThat(valid.isValid()).isTrue();
+        assertThat(valid.getCheckDigitMethod()).isEqualTo("00");
+        assertThat(valid.getAccountCheck()).isEqualTo("VALID");
+        assertThat(invalid.isValid()).isFalse();
+        assertThat(invalid.getAccountCheck()).isEqualTo("INVALID");
+        assertThat(invalid.getBank()).isSameAs(testBank);
+        assertThat(invalid.getErrorMessage()).contains("Prüfzifferverfahren 00");
+    }
+
+    @Test
+    void shouldRejectIbanWithInvalidNationalCheckDigits() {
+        IbanValidationResponse response = ibanService.validateIban(new IbanValidationRequest("BE41539007547035"));
+
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getErrorMessage()).contains("BE_MOD97");
+        verifyNoInteractions(bankDirectory);
+    }
 }
@@ -0,0 +1,122 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IbanSuggestion;
+import com.example.ibanvalidator.dto.IbanSuggestionResponse;
+import com.example.ibanvalidator.dto.IbanValidationRequest;
+import com.example.ibanvalidator.model.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IbanSuggestionServiceTest {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    private IbanSuggestionService ibanSuggestionService;
+
+    @BeforeEach
+    void setUp() {
+        ibanSuggestionService = new IbanSuggestionService(new IbanService(bankDirectory), bankDirectory, 10);
+    }
+
+    @Test
+    void shouldMatchBruteForceChecksumSearch() {
+        for (String iban : List.of("DE89370400440532013001", "DE8937040044053201300", "DE893704004405320130000",
+                "GB82WEST12345698765423", "IT60X0542811101000000123465")) {
+            Set<String> expected = new HashSet<>();
+            for (String candidate : bruteForce(iban)) {
+                if (IbanGenerator.mod97(candidate) == 1) {
+                    expected.add(candidate);
+                }
+            }
+            int length = iban.startsWith("IT") ? 27 : 22;
+
+            Set<String> actual = new HashSet<>();
+            IbanSuggester.candidates(iban, length).forEach(candidate -> actual.add(candidate.iban()));
+
+            assertThat(actual).as(iban).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldRankSuggestionsFromKnownBanksFirst() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, List.of(
+                new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE"))));
+
+        IbanSuggestionResponse response = ibanSuggestionService.suggest(
+                new IbanValidationRequest("DE89 3704 0044 0532 0130 01"));
+
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getDirectoryVersion()).isEqualTo("live");
+        assertThat(response.getSuggestions()).extracting(IbanSuggestion::getIban).contains("DE89370400440532013000");
+        assertThat(response.getSuggestions().get(0).isBankKnown()).isTrue();
+        assertThat(response.getSuggestions()).hasSizeLessThanOrEqualTo(10);
+        IbanSuggestion original = response.getSuggestions().stream()
+                .filter(suggestion -> suggestion.getIban().equals("DE89370400440532013000"))
+                .findFirst().orElseThrow();
+        assertThat(original.getEdit()).isEqualTo("SUBSTITUTION");
+        assertThat(original.getPosition()).isEqualTo(21);
+        assertThat(original.getBic()).isEqualTo("COBADEFFXXX");
+    }
+
+    @Test
+    void shouldSuggestMissingCharacter() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.empty());
+
+        IbanSuggestionResponse response = ibanSuggestionService.suggest(
+                new IbanValidationRequest("DE8937040044053201300"));
+
+        assertThat(response.getSuggestions()).extracting(IbanSuggestion::getIban).contains("DE89370400440532013000");
+        assertThat(response.getSuggestions()).allMatch(suggestion -> suggestion.getEdit().equals("INSERTION"));
+    }
+
+    @Test
+    void shouldNotSearchForValidOrUnsupportedIbans() {
+        IbanSuggestionResponse valid = ibanSuggestionService.suggest(
+                new IbanValidationRequest("DE89370400440532013000"));
+        IbanSuggestionResponse unsupported = ibanSuggestionService.suggest(
+                new IbanValidationRequest("XX89370400440532013000"));
+
+        assertThat(valid.isValid()).isTrue();
+        assertThat(valid.getSuggestions()).isEmpty();
+        assertThat(unsupported.getSuggestions()).isEmpty();
+        assertThat(unsupported.getErrorMessage()).contains("Nicht unterstützter Ländercode");
+        verifyNoInteractions(bankDirectory);
+    }
+
+    private static Set<String> bruteForce(String iban) {
+        Set<String> candidates = new HashSet<>();
+        int n = iban.length();
+        for (int p = 2; p <= n; p++) {
+            for (char c : ALPHABET.toCharArray()) {
+                if (p < n) {
+                    candidates.add(iban.substring(0, p) + c + iban.substring(p + 1));
+                }
+                candidates.add(iban.substring(0, p) + c + iban.substring(p));
+            }
+            if (p < n) {
+                candidates.add(iban.substring(0, p) + iban.substring(p + 1));
+            }
+            if (p < n - 1) {
+                candidates.add(iban.substring(0, p) + iban.charAt(p + 1) + iban.charAt(p) + iban.substring(p + 2));
+            }
+        }
+        candidates.remove(iban);
+        int length = iban.startsWith("IT") ? 27 : 22;
+        candidates.removeIf(candidate -> candidate.length() != length);
+        return candidates;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.IncrementalValidationRequest;
+import com.example.ibanvalidator.dto.IncrementalValidationResponse;
+import com.example.ibanvalidator.model.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalValidationServiceTest {
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    private IncrementalValidationService incrementalValidationService;
+
+    @BeforeEach
+    void setUp() {
+        incrementalValidationService = new IncrementalValidationService(new IbanService(bankDirectory), bankDirectory);
+    }
+
+    @Test
+    void shouldCarryStateWhileTyping() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of("live", null, List.of(
+                new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE"))));
+        String typed = "de89 3704 0044 0532 0130 00";
+
+        IncrementalValidationResponse response = null;
+        String state = null;
+        for (int i = 1; i <= typed.length(); i++) {
+            response = incrementalValidationService.validate(new IncrementalValidationRequest(typed.substring(0, i), state));
+            assertThat(response.isValidSoFar()).as(typed.substring(0, i)).isTrue();
+            state = response.getState();
+            if (i == 2) {
+                assertThat(response.getCountryKnown()).isTrue();
+                assertThat(response.getExpectedLength()).isEqualTo(22);
+            }
+            if (i == 14) {
+                assertThat(response.getBankRecognized()).isTrue();
+            }
+        }
+
+        assertThat(response.isComplete()).isTrue();
+        assertThat(response.isValid()).isTrue();
+        assertThat(response.getLength()).isEqualTo(22);
+        assertThat(response.getBankRecognized()).isTrue();
+        verify(bankDirectory, times(1)).current();
+    }
+
+    @Test
+    void shouldMatchFullValidationWithoutState() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.empty());
+
+        IncrementalValidationResponse valid = incrementalValidationService.validate(
+                new IncrementalValidationRequest("GB82WEST12345698765432", null));
+        IncrementalValidationResponse wrongChecksum = incrementalValidationService.validate(
+                new IncrementalValidationRequest("GB82WEST12345698765433", null));
+
+        assertThat(valid.isValid()).isTrue();
+        assertThat(valid.getBankRecognized()).isFalse();
+        assertThat(wrongChecksum.isComplete()).isTrue();
+        assertThat(wrongChecksum.isValid()).isFalse();
+        assertThat(wrongChecksum.getErrorMessage()).contains("Prüfziffer");
+    }
+
+    @Test
+    void shouldRejectCheckDigitsOutsideTwoToNinetyEight() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.empty());
+
+        IncrementalValidationResponse valid = incrementalValidationService.validate(
+                new IncrementalValidationRequest("GB02WEST12345600000017", null));
+        IncrementalValidationResponse alias = incrementalValidationService.validate(
+                new IncrementalValidationRequest("GB99WEST12345600000017", null));
+
+        assertThat(valid.isValid()).isTrue();
+        assertThat(alias.isComplete()).isTrue();
+        assertThat(alias.isValid()).isFalse();
+        assertThat(alias.getErrorPosition()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectCharacterOutsideCountryFormat() {
+        IncrementalValidationResponse response = incrementalValidationService.validate(
+                new IncrementalValidationRequest("GB82WE5", null));
+
+        assertThat(response.isValidSoFar()).isFalse();
+        assertThat(response.getErrorPosition()).isEqualTo(6);
+        assertThat(response.getExpectedLength()).isEqualTo(22);
+        assertThat(response.getState()).isNull();
+    }
+
+    @Test
+    void shouldReportUnknownCountry() {
+        IncrementalValidationResponse response = incrementalValidationService.validate(
+                new IncrementalValidationRequest("XX", null));
+
+        assertThat(response.getCountryKnown()).isFalse();
+        assertThat(response.isValidSoFar()).isFalse();
+        verifyNoInteractions(bankDirectory);
+    }
+
+    @Test
+    void shouldRestartWhenStateDoesNotMatchInput() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.empty());
+
+        IncrementalValidationResponse first = incrementalValidationService.validate(
+                new IncrementalValidationRequest("BE68 5390", null));
+        IncrementalValidationResponse edited = incrementalValidationService.validate(
+                new IncrementalValidationRequest("BE68 5391 0754 7034", first.getState()));
+        IncrementalValidationResponse tampered = incrementalValidationService.validate(
+                new IncrementalValidationRequest("BE68539007547034", "not-a-state"));
+
+        assertThat(edited.isComplete()).isTrue();
+        assertThat(edited.isValid()).isFalse();
+        assertThat(tampered.isValid()).isTrue();
+    }
+
+    @Test
+    void shouldRestartWhenPrefixWasEditedInTheMiddle() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.empty());
+
+        IncrementalValidationResponse first = incrementalValidationService.validate(
+                new IncrementalValidationRequest("DE8937040044053201300", null));
+        IncrementalValidationResponse edited = incrementalValidationService.validate(
+                new IncrementalValidationRequest("DE89470400440532013000", first.getState()));
+        IncrementalValidationResponse withoutState = incrementalValidationService.validate(
+                new IncrementalValidationRequest("DE89470400440532013000", null));
+
+        assertThat(first.getState()).isNotNull();
+        assertThat(edited.isComplete()).isTrue();
+        assertThat(edited.isValid()).isFalse();
+        assertThat(edited.getErrorMessage()).isEqualTo(withoutState.getErrorMessage()).contains("Prüfziffer");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.model.Bank;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JitWarmerTest {
+
+    private final BankDirectory bankDirectory = mock(BankDirectory.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRefuseTrafficUntilWarmUpFinishes() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.of(DirectorySnapshot.LIVE_VERSION, null, List.of(
+                new Bank("Commerzbank AG", "COBADEFFXXX", "37040044", "DE"),
+                new Bank("BNP Paribas", "BNPAFRPPXXX", "20041", "FR"))));
+        JitWarmer warmer = warmer(true, Duration.ofSeconds(2));
+
+        warmer.warmUp();
+
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(event -> (Object) ((AvailabilityChangeEvent<?>) event).getState())
+                .containsExactly(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(meterRegistry.get("iban.warmup.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("iban.warmup.duration").timer().totalTime(TimeUnit.SECONDS))
+                .isLessThan(5);
+    }
+
+    @Test
+    void shouldFallBackToSampleIbansWithEmptyDirectory() {
+        when(bankDirectory.current()).thenReturn(DirectorySnapshot.empty());
+
+        warmer(true, Duration.ofMillis(200)).warmUp();
+
+        verify(eventPublisher, times(2)).publishEvent(any(ApplicationEvent.class));
+    }
+
+    @Test
+    void shouldSkipWhenDisabled() {
+        warmer(false, Duration.ofSeconds(1)).warmUp();
+
+        verify(eventPublisher, times(0)).publishEvent(any(ApplicationEvent.class));
+    }
+
+    private JitWarmer warmer(boolean enabled, Duration maxDuration) {
+        return new JitWarmer(new IbanService(bankDirectory), new BicValidationService(bankDirectory),
+                bankDirectory, new ObjectMapper(), eventPublisher, meterRegistry, enabled, maxDuration, 200, 2,
+                Duration.ofMillis(10));
+    }
+}
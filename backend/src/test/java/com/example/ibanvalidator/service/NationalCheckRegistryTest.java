@@ -0,0 +1,47 @@
+package com.example.ibanvalidator.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NationalCheckRegistryTest {
+
+    @Test
+    void shouldAcceptNationallyValidIbans() {
+        assertThat(check("FR1420041010050500013M02606")).isTrue();
+        assertThat(check("IT60X0542811101000000123456")).isTrue();
+        assertThat(check("ES9121000418450200051332")).isTrue();
+        assertThat(check("BE68539007547034")).isTrue();
+        assertThat(check("NL91ABNA0417164300")).isTrue();
+        assertThat(check("PT50000201231234567890154")).isTrue();
+        assertThat(check("NO9386011117947")).isTrue();
+    }
+
+    @Test
+    void shouldRejectWrongNationalCheckDigits() {
+        assertThat(check("FR1420041010050500013M02607")).isFalse();
+        assertThat(check("IT60Y0542811101000000123456")).isFalse();
+        assertThat(check("ES9121000418460200051332")).isFalse();
+        assertThat(check("BE68539007547035")).isFalse();
+        assertThat(check("NL91ABNA0417164301")).isFalse();
+        assertThat(check("PT50000201231234567890155")).isFalse();
+        assertThat(check("NO9386011117948")).isFalse();
+    }
+
+    @Test
+    void shouldSkipCountriesWithoutNationalCheck() {
+        assertThat(NationalCheckRegistry.forCountry('D', 'E')).isNull();
+        assertThat(NationalCheckRegistry.forCountry('A', 'T')).isNull();
+        assertThat(NationalCheckRegistry.forCountry('M', 'C')).isSameAs(NationalChecks.RIB_KEY);
+        assertThat(NationalCheckRegistry.forCountry('1', 'X')).isNull();
+    }
+
+    @Test
+    void shouldSkipElfproefForFormerPostbankAccounts() {
+        assertThat(check("NL69INGB0123456789")).isTrue();
+    }
+
+    private boolean check(String iban) {
+        return NationalCheckRegistry.forCountry(iban.charAt(0), iban.charAt(1)).isValid(iban);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.ibanvalidator.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedIbanMapTest {
+
+    @Test
+    void shouldStoreAndGrowBeyondInitialCapacity() {
+        PackedIbanMap<Integer> map = new PackedIbanMap<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(map.put(iban(i), i)).isNull();
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(map.get(iban(i))).isEqualTo(i);
+        }
+        assertThat(map.get(iban(10_000))).isNull();
+        assertThat(map.containsKey(iban(10_000))).isFalse();
+    }
+
+    @Test
+    void shouldReplaceExistingValue() {
+        PackedIbanMap<String> map = new PackedIbanMap<>(4);
+
+        map.put(iban(1), "alt");
+
+        assertThat(map.put(iban(1), "neu")).isEqualTo("alt");
+        assertThat(map.get(iban(1))).isEqualTo("neu");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldComputeMissingValuesOnce() {
+        PackedIbanMap<String> map = new PackedIbanMap<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(map.computeIfAbsent(iban(7), key -> {
+                loads.incrementAndGet();
+                return key.toString();
+            })).isEqualTo(iban(7).toString());
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldClear() {
+        PackedIbanMap<Integer> map = new PackedIbanMap<>();
+        map.put(iban(1), 1);
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(iban(1))).isNull();
+    }
+
+    private static PackedIban iban(int account) {
+        return PackedIban.pack(String.format("DE00370400440%09d", account));
+    }
+}
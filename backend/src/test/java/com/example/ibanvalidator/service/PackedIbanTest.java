@@ -0,0 +1,50 @@
+package com.example.ibanvalidator.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedIbanTest {
+
+    @Test
+    void shouldRoundTripIbansOfAllLengths() {
+        String longest = "LC55HEMM000100010012001200023015";
+        String maximum = "ZZ99ZZZZ999999999999999999999999ZZ";
+
+        for (String iban : new String[] {"NO9386011117947", "DE89370400440532013000", "GB82WEST12345698765432",
+                longest, maximum, "DE89370400440"}) {
+            PackedIban packed = PackedIban.pack(iban);
+
+            assertThat(packed).isNotNull();
+            assertThat(packed.toString()).isEqualTo(iban);
+            assertThat(packed.length()).isEqualTo(iban.length());
+        }
+    }
+
+    @Test
+    void shouldPreserveZerosInAllPositions() {
+        String iban = "AD1200012030200359100100";
+
+        assertThat(PackedIban.pack(iban).toString()).isEqualTo(iban);
+        assertThat(PackedIban.pack("000000000000000000000000000000")).hasToString("000000000000000000000000000000");
+    }
+
+    @Test
+    void shouldCompareByValue() {
+        PackedIban first = PackedIban.pack("DE89370400440532013000");
+        PackedIban second = PackedIban.pack(new StringBuilder("DE89370400440532013000"));
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(first).isNotEqualTo(PackedIban.pack("DE89370400440532013001"));
+        assertThat(first).isNotEqualTo(PackedIban.pack("DE8937040044053201300"));
+    }
+
+    @Test
+    void shouldRejectUnpackableInput() {
+        assertThat(PackedIban.pack(null)).isNull();
+        assertThat(PackedIban.pack("")).isNull();
+        assertThat(PackedIban.pack("de89370400440532013000")).isNull();
+        assertThat(PackedIban.pack("DE89 3704 0044")).isNull();
+        assertThat(PackedIban.pack("DE8937040044053201300012345678901234")).isNull();
+    }
+}
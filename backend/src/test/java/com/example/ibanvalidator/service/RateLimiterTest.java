@@ -0,0 +1,106 @@
+package com.example.ibanvalidator.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(42 * SECOND);
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        RateLimiter limiter = new RateLimiter(3, 1, 10, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(SECOND);
+    }
+
+    @Test
+    void shouldRefillOverTime() {
+        RateLimiter limiter = new RateLimiter(2, 2, 10, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        assertThat(limiter.tryAcquire("a")).isEqualTo(SECOND / 2);
+
+        clock.addAndGet(SECOND / 2);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void shouldNotChargeRejectedRequests() {
+        RateLimiter limiter = new RateLimiter(1, 1, 10, clock::get);
+        limiter.tryAcquire("a");
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("a");
+        }
+
+        clock.addAndGet(SECOND);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+    }
+
+    @Test
+    void shouldKeepClientsIndependent() {
+        RateLimiter limiter = new RateLimiter(1, 1, 10, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictOnlyFullyRefilledBuckets() {
+        RateLimiter limiter = new RateLimiter(2, 1, 10, clock::get);
+        limiter.tryAcquire("idle");
+        clock.addAndGet(SECOND);
+        limiter.tryAcquire("busy");
+
+        assertThat(limiter.evictIdle()).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy")).isZero();
+        assertThat(limiter.tryAcquire("busy")).isPositive();
+    }
+
+    @Test
+    void shouldShareOverflowBucketWhenClientLimitIsReached() {
+        RateLimiter limiter = new RateLimiter(1, 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.tryAcquire("d")).isPositive();
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.isSaturated()).isTrue();
+    }
+
+    @Test
+    void shouldMakeRoomByEvictingIdleClients() {
+        RateLimiter limiter = new RateLimiter(1, 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        clock.addAndGet(2 * SECOND);
+
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.tryAcquire("c")).isPositive();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new RateLimiter(0, 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimiter(1, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.SepaValidationFailure;
+import com.example.ibanvalidator.dto.SepaValidationReport;
+import com.example.ibanvalidator.exception.SepaFileException;
+import com.example.ibanvalidator.model.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SepaValidationServiceTest {
+
+    private static final String PAIN_001 = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Document xmlns="urn:iso:std:iso:20022:tech:xsd:pain.001.001.03">
+              <CstmrCdtTrfInitn>
+                <GrpHdr><MsgId>MSG-1</MsgId><NbOfTxs>3</NbOfTxs></GrpHdr>
+                <PmtInf>
+                  <PmtInfId>P1</PmtInfId>
+                  <DbtrAcct><Id><IBAN>DE89370400440532013000</IBAN></Id></DbtrAcct>
+                  <DbtrAgt><FinInstnId><BIC>COBADEFFXXX</BIC></FinInstnId></DbtrAgt>
+                  <CdtTrfTxInf>
+                    <CdtrAgt><FinInstnId><BIC>DEUTDEFFXXX</BIC></FinInstnId></CdtrAgt>
+                    <CdtrAcct><Id><IBAN>DE89370400440532013000</IBAN></Id></CdtrAcct>
+                  </CdtTrfTxInf>
+                  <CdtTrfTxInf>
+                    <CdtrAcct><Id><IBAN>DE00370400440532013000</IBAN></Id></CdtrAcct>
+                  </CdtTrfTxInf>
+                  <CdtTrfTxInf>
+                    <CdtrAgt><FinInstnId><BICFI>COBA</BICFI></FinInstnId></CdtrAgt>
+                  </CdtTrfTxInf>
+                </PmtInf>
+              </CstmrCdtTrfInitn>
+            </Document>
+            """;
+
+    private static final String PAIN_008 = """
+            <Document xmlns="urn:iso:std:iso:20022:tech:xsd:pain.008.001.02">
+              <CstmrDrctDbtInitn>
+                <GrpHdr><MsgId>DD-7</MsgId></GrpHdr>
+                <PmtInf>
+                  <CdtrAcct><Id><IBAN>DE89 3704 0044 0532 0130 00</IBAN></Id></CdtrAcct>
+                  <DrctDbtTxInf>
+                    <DbtrAgt><FinInstnId><BIC>COBADEFFXXX</BIC></FinInstnId></DbtrAgt>
+                    <DbtrAcct><Id><IBAN>GB82WEST12345698765432</IBAN></Id></DbtrAcct>
+                  </DrctDbtTxInf>
+                </PmtInf>
+              </CstmrDrctDbtInitn>
+            </Document>
+            """;
+
+    @Mock
+    private BankDirectory bankDirectory;
+
+    private SepaValidationService sepaValidationService;
+
+    @BeforeEach
+    void setUp() {
+        IbanService ibanService = new IbanService(bankDirectory);
+        sepaValidationService = new SepaValidationService(ibanService, new IbanBicPairService(ibanService, bankDirectory),
+                bankDirectory, 2);
+    }
+
+    @Test
+    void shouldReportFailuresOfCreditTransferWithLocations() {
+        when(bankDirectory.current()).thenReturn(directory());
+
+        SepaValidationReport report = sepaValidationService.validate(stream(PAIN_001));
+
+        assertThat(report.getMessageType()).isEqualTo("pain.001.001.03");
+        assertThat(report.getMessageId()).isEqualTo("MSG-1");
+        assertThat(report.getTransactions()).isEqualTo(3);
+        assertThat(report.getAccounts()).isEqualTo(4);
+        assertThat(report.getValid()).isEqualTo(1);
+        assertThat(report.getInvalid()).isEqualTo(3);
+        assertThat(report.isFailuresTruncated()).isTrue();
+        assertThat(report.getFailures()).extracting(SepaValidationFailure::getLocation).containsExactly(
+                "/Document/CstmrCdtTrfInitn/PmtInf[1]/CdtTrfTxInf[1]/CdtrAcct/Id/IBAN",
+                "/Document/CstmrCdtTrfInitn/PmtInf[1]/CdtTrfTxInf[2]/CdtrAcct/Id/IBAN");
+        assertThat(report.getFailures()).extracting(SepaValidationFailure::getStatus)
+                .containsExactly("MISMATCH", "IBAN_INVALID");
+        assertThat(report.getFailures().get(0).getParty()).isEqualTo("Cdtr");
+    }
+
+    @Test
+    void shouldValidateDirectDebitThroughJobChunks() {
+        List<String> lines = new ArrayList<>();
+        sepaValidationService.extract(stream(PAIN_008), lines::add);
+
+        BatchLineValidator.ChunkResult result = sepaValidationService.validateChunk(lines, directory());
+
+        assertThat(lines).hasSize(2);
+        assertThat(result.lines()).isEqualTo(2);
+        assertThat(result.valid()).isEqualTo(1);
+        assertThat(result.output()).isEqualTo("/Document/CstmrDrctDbtInitn/PmtInf[1]/DrctDbtTxInf[1]/DbtrAcct/Id/IBAN;"
+                + "Dbtr;GB82WEST12345698765432;COBADEFFXXX;COUNTRY_MISMATCH;\"BIC-Land passt nicht zum IBAN-Land GB\"\n");
+    }
+
+    @Test
+    void shouldRejectOtherMessages() {
+        assertThatThrownBy(() -> sepaValidationService.validate(stream(
+                "<Document xmlns=\"urn:iso:std:iso:20022:tech:xsd:camt.053.001.02\"><BkToCstmrStmt/></Document>")))
+                .isInstanceOf(SepaFileException.class);
+        assertThatThrownBy(() -> sepaValidationService.validate(stream("<Document><CstmrCdtTrfInitn>")))
+                .isInstanceOf(SepaFileException.class);
+    }
+
+    private static DirectorySnapshot directory() {
+        return DirectorySnapshot.of("test", null, List.of(new Bank("Commerzbank", "COBADEFFXXX", "37040044", "DE")));
+    }
+
+    private static ByteArrayInputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.strip().getBytes(StandardCharsets.UTF_8));
+    }
+}
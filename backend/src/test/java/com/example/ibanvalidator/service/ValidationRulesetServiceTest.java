@@ -0,0 +1,63 @@
+package com.example.ibanvalidator.service;
+
+import com.example.ibanvalidator.dto.CountryRule;
+import com.example.ibanvalidator.dto.ValidationRuleset;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationRulesetServiceTest {
+
+    private final ValidationRulesetService validationRulesetService = new ValidationRulesetService();
+
+    @Test
+    void shouldDescribeCountryStructures() {
+        ValidationRuleset ruleset = validationRulesetService.getRuleset();
+
+        CountryRule germany = rule(ruleset, "DE");
+        CountryRule italy = rule(ruleset, "IT");
+        CountryRule norway = rule(ruleset, "NO");
+
+        assertThat(germany.getLength()).isEqualTo(22);
+        assertThat(germany.getBbanFormat()).isEqualTo("18!n");
+        assertThat(germany.getBankCodeStart()).isEqualTo(4);
+        assertThat(germany.getBankCodeEnd()).isEqualTo(12);
+        assertThat(germany.getNationalCheck()).isNull();
+        assertThat(italy.getBbanFormat()).isEqualTo("1!a10!n12!c");
+        assertThat(italy.getNationalCheck()).isEqualTo("CIN");
+        assertThat(norway.getBankCodeStart()).isNull();
+        assertThat(rule(ruleset, "GF").getLength()).isEqualTo(27);
+        for (String countryCode : new String[] {"GB", "FR", "IT"}) {
+            CountryRule rule = rule(ruleset, countryCode);
+            assertThat(rule.getBankCodeStart()).isLessThan(rule.getBankCodeEnd());
+            assertThat(rule.getBankCodeEnd()).isLessThanOrEqualTo(rule.getBranchCodeEnd());
+            assertThat(rule.getBranchCodeEnd()).isEqualTo(rule.getAccountNumberStart());
+        }
+        assertThat(rule(ruleset, "GB").getBankCodeEnd()).isEqualTo(8);
+        assertThat(rule(ruleset, "GB").getAccountNumberStart()).isEqualTo(14);
+    }
+
+    @Test
+    void shouldDeriveStableVersionFromContent() {
+        assertThat(validationRulesetService.getVersion()).hasSize(16).matches("[0-9a-f]+");
+        assertThat(new ValidationRulesetService().getVersion()).isEqualTo(validationRulesetService.getVersion());
+    }
+
+    @Test
+    void shouldMatchStructureToCountryPattern() {
+        IbanStructure britain = IbanStructure.forCountry("GB");
+
+        assertThat(britain.length()).isEqualTo(22);
+        assertThat(britain.accepts(4, 'W')).isTrue();
+        assertThat(britain.accepts(4, '1')).isFalse();
+        assertThat(britain.accepts(8, '1')).isTrue();
+        assertThat(britain.accepts(22, '1')).isFalse();
+        assertThat(IbanStructure.forCountry("XX")).isNull();
+    }
+
+    private static CountryRule rule(ValidationRuleset ruleset, String countryCode) {
+        return ruleset.getCountries().stream()
+                .filter(rule -> rule.getCountryCode().equals(countryCode))
+                .findFirst().orElseThrow();
+    }
+}